@@ -4,25 +4,108 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.Externalizable;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
  * Inspirado no Prevayler 2001-2013, grava em memória e em sistema de arquivos a construção transacional de seu modelo <T> (POJO), possibilitando que ao reiniciar seu sistema, os objetos 
@@ -72,6 +155,15 @@ public class MiniPrevalencia <M extends Serializable> {
 			super(mensagem, origem);
 		}
 	}
+	/**
+	 * Exception lançada quando uma consulta excede seu tempo limite ou é cancelada.
+	 */
+	public static class ConsultaCanceladaException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+		public ConsultaCanceladaException(String mensagem) {
+			super(mensagem);
+		}
+	}
 	/**
 	 * Interface para criação configuradores desta classe.
 	 */
@@ -94,524 +186,5303 @@ public class MiniPrevalencia <M extends Serializable> {
 		 * impedir consultas. NULL desabilita a gravação automática do arquivo acelerador. 
 		 */
 		Integer getSegundosInatividadeParaIniciarGravacaoAcelerador();
+		/**
+		 * TRUE para gravar o arquivo acelerador a partir de uma instância sombra construída em segundo plano (arquivo acelerador atual + jornal), sem bloquear transações durante 
+		 * a gravação, ao custo de memória para uma segunda cópia do modelo. Neste modo os segundos de inatividade passam a ser o intervalo entre gravações automáticas, 
+		 * contado desde a última gravação, independente de transações em andamento. FALSE (padrão) grava a partir do modelo em memória bloqueando transações.
+		 */
+		default boolean isGravarAceleradorComInstanciaSombra() {
+			return false;
+		}
+		/**
+		 * Quantidade de threads do carregamento inicial, uma aplica as transações em ordem e as demais decodificam antecipadamente as próximas transações do jornal. 
+		 * NULL utiliza a quantidade de processadores, 1 carrega sequencialmente na thread de inicialização.
+		 */
+		default Integer getThreadsCarregamento() {
+			return null;
+		}
+		/**
+		 * Quantidade de gravações incrementais do arquivo acelerador de um ModeloParticionado antes de uma gravação completa. Na gravação incremental somente as partes alteradas desde 
+		 * a gravação anterior são gravadas. NULL grava todas as partes em toda atualização.
+		 */
+		default Integer getGravacoesIncrementaisAntesConsolidacao() {
+			return 10;
+		}
+		/**
+		 * Quantidade de gerações do arquivo acelerador mantidas no sistema de arquivos, com as transações do jornal necessárias para cada uma. Caso a geração mais recente 
+		 * esteja corrompida a inicialização utiliza a anterior e reexecuta as transações seguintes. NULL mantém apenas a geração mais recente.<br>
+		 * <b>Com o ModeloParticionado e a gravação incremental as gerações compartilham os arquivos das partes sem alteração: uma parte compartilhada corrompida torna ilegíveis 
+		 * todas as gerações que a referenciam, somente gerações separadas por uma consolidação (getGravacoesIncrementaisAntesConsolidacao) são independentes.</b>
+		 */
+		default Integer getGeracoesAceleradorMantidas() {
+			return null;
+		}
+		/**
+		 * Nível de compressão Deflater (1 mais rápido a 9 menor tamanho) do arquivo acelerador, comprimido em blocos em paralelo. Indicado quando a banda do disco ou da rede 
+		 * limita mais que o processador. NULL grava sem compressão. Arquivos gravados com ou sem compressão são lidos independente desta configuração.
+		 */
+		default Integer getNivelCompressaoAcelerador() {
+			return null;
+		}
+		/**
+		 * Nível de compressão Deflater (1 a 9) das transações nos novos segmentos do jornal. Cada transação é comprimida individualmente, o ganho depende do tamanho 
+		 * e da repetição dentro de cada transação. NULL grava sem compressão.
+		 */
+		default Integer getNivelCompressaoJornal() {
+			return null;
+		}
+		/**
+		 * Quantidade de bytes anexados ao jornal desde a última gravação do arquivo acelerador para disparar uma nova gravação, limita o tempo de reexecução na inicialização 
+		 * mesmo sem inatividade. NULL desabilita este gatilho.
+		 */
+		default Long getBytesJornalParaIniciarGravacaoAcelerador() {
+			return null;
+		}
+		/**
+		 * Quantidade de transações executadas desde a última transação acelerada para disparar a gravação do arquivo acelerador. NULL desabilita este gatilho.
+		 */
+		default Long getTransacoesParaIniciarGravacaoAcelerador() {
+			return null;
+		}
+		/**
+		 * Quantidade máxima de segundos entre gravações do arquivo acelerador havendo transações não aceleradas. NULL desabilita este gatilho.
+		 */
+		default Integer getSegundosMaximosEntreGravacoesAcelerador() {
+			return null;
+		}
 		/**
 		 * TRUE caso deseje apagar arquivos de transação já internalizados pelo arquivo acelerador, FALSE caso contrário.
 		 */
-		boolean isApagarTransacoesInternalizadasPeloAcelerador(); 
+		boolean isApagarTransacoesInternalizadasPeloAcelerador();
+		/**
+		 * Tamanho máximo em bytes de cada segmento do jornal de transações, ao atingir este tamanho um novo segmento é iniciado. NULL utiliza o padrão de 64 MB.
+		 */
+		default Long getTamanhoMaximoSegmentoJornal() {
+			return null;
+		}
+		/**
+		 * Política de sincronização (fsync) do jornal com o disco, NULL equivale a NENHUMA, mantendo a durabilidade dependente do cache do sistema operacional.
+		 * @see PoliticaSincronizacaoDisco
+		 */
+		default PoliticaSincronizacaoDisco getPoliticaSincronizacaoDisco() {
+			return null;
+		}
+		/**
+		 * Para política AGRUPADA é a latência máxima que uma sincronização aguarda outras transações em andamento para sincronizá-las juntas (padrão 2 ms), para 
+		 * política PERIODICA é o intervalo entre sincronizações (padrão 1000 ms). NULL utiliza o padrão.
+		 */
+		default Integer getMilissegundosSincronizacaoDisco() {
+			return null;
+		}
+		/**
+		 * Quantidade de posições (potência de 2) do anel de transações. Com o anel as threads chamadoras somente serializam suas transações e as publicam em posições 
+		 * pré-alocadas, uma única thread valida, executa e anexa as transações ao jornal em sequência, sem disputa das chamadoras pelo bloco sincronizado do modelo.
+		 * Com o anel cheio as chamadoras aguardam uma posição livre. NULL desabilita o anel, as chamadoras executam suas transações no bloco sincronizado.
+		 */
+		default Integer getTamanhoAnelTransacoes() {
+			return null;
+		}
+		/**
+		 * Quantidade máxima de transações concorrentes gravadas no jornal com uma única escrita e uma única atualização da orientação das réplicas. A primeira chamadora
+		 * que encontrar o agrupamento livre se torna líder: retira da fila as transações que aguardam, valida e executa cada uma isoladamente, com seu próprio número
+		 * de transação e resultado, e grava todas de uma vez, as demais aguardam estacionadas. Com o anel de transações o grupo é formado pela thread do anel e nas
+		 * transações assíncronas pelo escritor assíncrono. NULL desabilita o agrupamento.
+		 */
+		default Integer getTamanhoMaximoAgrupamentoTransacoes() {
+			return null;
+		}
+		/**
+		 * Tempo máximo que a líder do agrupamento aguarda outras transações enquanto o grupo não estiver completo. NULL ou zero agrupa somente as transações que já 
+		 * aguardam na fila.
+		 */
+		default Integer getMicrossegundosEsperaAgrupamento() {
+			return null;
+		}
+		/**
+		 * Codificador das transações gravadas no jornal e do modelo gravado no arquivo acelerador, NULL utiliza a serialização Java.
+		 * @see CodificadorCompacto
+		 */
+		default Codificador getCodificador() {
+			return null;
+		}
+		/**
+		 * Isolamento das consultas em relação às transações em execução, NULL equivale a NENHUM.
+		 * @see IsolamentoConsulta
+		 */
+		default IsolamentoConsulta getIsolamentoConsultas() {
+			return null;
+		}
+		/**
+		 * Quantidade de execuções otimistas de uma consulta invalidadas por transações antes de executá-la com bloqueio de leitura. NULL utiliza o padrão de 3 tentativas.
+		 */
+		default Integer getTentativasLeituraOtimista() {
+			return null;
+		}
+		/**
+		 * Quantidade de validações fora do bloco sincronizado de uma TransacaoOtimista, repetidas quando invalidadas por conflitos, antes de validá-la dentro do bloco 
+		 * sincronizado. Zero sempre valida dentro do bloco sincronizado, NULL utiliza o padrão de 3 tentativas.
+		 * @see TransacaoOtimista
+		 */
+		default Integer getTentativasTransacaoOtimista() {
+			return null;
+		}
+		/**
+		 * Paralelismo do ForkJoinPool exclusivo das consultas. As consultas executam neste pool, assim seus parallelStream utilizam as threads dele em vez do pool comum
+		 * da JVM. NULL executa as consultas na thread chamadora, como antes.
+		 */
+		default Integer getParalelismoConsultas() {
+			return null;
+		}
+		/**
+		 * Tempo limite padrão das consultas em milissegundos, ao ser excedido a chamada recebe ConsultaCanceladaException e a consulta é cancelada. O cancelamento é 
+		 * cooperativo, a consulta encerra ao verificar o cancelamento. NULL não limita o tempo.
+		 */
+		default Long getMilissegundosLimiteConsulta() {
+			return null;
+		}
+		/**
+		 * TRUE despacha cada consulta assíncrona (executarAssincrono) em uma thread virtual, quando a JVM as suportar (Java 21), caso contrário em uma nova thread daemon 
+		 * por consulta. O paralelismo interno da consulta continua no pool exclusivo, quando configurado. FALSE despacha no pool exclusivo ou no pool comum.
+		 */
+		default boolean isConsultasEmThreadsVirtuais() {
+			return false;
+		}
+		/**
+		 * Quantidade máxima de resultados mantidos no cache das consultas que implementam ConsultaCacheavel, cada resultado é válido enquanto o modelo não for alterado
+		 * por uma transação. NULL desabilita o cache.
+		 * @see ConsultaCacheavel
+		 */
+		default Integer getTamanhoCacheConsultas() {
+			return null;
+		}
+		/**
+		 * Política de remoção do cache de consultas quando cheio, NULL utiliza LRU.
+		 */
+		default PoliticaRemocaoCache getPoliticaRemocaoCache() {
+			return null;
+		}
 	}
 	/**
-	 * Interface para criação e execução de transações atômicas, consistentes, isoladas e duráveis que atualizam o estado do seu modelo. Podem ser utilizadas para consultas síncronas e devem 
-	 * ser utilizadas para atualizar o modelo (pojoUnico).  Exceptions relacionadas a transação utilizam o método toString em seu detalhamento. Transações além de serializáveis precisam ser 
-	 * repetíveis após sua desserialização, desta forma, garanta que a implementação de transações que alterem dados sejam autocontidas para correta serialização.<br>
-	 * <b>Durante o crescimento do seu sistema, recomendo que transações já executadas não sejam alteradas, crie uma nova classe para uma transação nova, mantendo antiga dentro do sistema.</b>
-	 * @param <R> Tipo de retorno após execução.
-	 * @param <T> Seu modelo de dados mantido em memória e sistema de arquivo.
-	 * @param <E> Sua exception que pode ser lançada no processo de validação pré execução.
+	 * Políticas de sincronização do jornal com o disco (FileChannel.force), do mais rápido e menos durável ao mais lento e mais durável.
 	 */
-	public abstract interface Transacao <T extends Serializable, E extends Throwable> {
+	public enum PoliticaSincronizacaoDisco {
 		/**
-		 * Devido ao processo de reversão (roolback) ser lento consumir memória, e também a gravação de transações custosa, a implementação deste método é útil para verificar pré-condições 
-		 * que invalidem a execução da transação, levantar uma exception dentro deste método não implica em reversão da base, apenas impede a execução da transação. A validação, assim como 
-		 * executar, é executada em um bloco sincronizado, desta forma você pode ter certeza do isolamento e da consistência de sua validação.<br>
-		 * OBS: não alterar dados do seu modelo neste método, e muito menos fora de transações! Aqui é o momento para impedir a execução de uma transação lançando sua Exception, não deixe 
-		 * para abortar uma transação dentro do método executar, pois, no método executar um arquivo de transação já foi gravado e a base passará por reversão. Também evite retornos
-		 * sem alterar o estado do seu modelo, isso degrada o desempenho com carregamento de transações inúteis. 
-		 * @param pojoUnico Seu modelo de dados.
-		 * @throws E Sua lógica de negócio, ao identificar um impeditivo na execução, deve lançar uma exception abortando a execução da transação.
+		 * Nunca sincroniza, o sistema operacional decide quando gravar, uma queda de energia pode perder as últimas transações.
 		 */
-		void validar(T pojoRegistro) throws E;		
-	}	
-	/**
-	 * Interface para criação e execução de transações ACID com retorno.
-	 * @param <R> O tipo de retorno.
-	 * @param <T> O tipo do seu modelo (pojoRegistro).
-	 * @param <E> O tipo de exception que sua validação pode levantar.
-	 */
-	public interface TransacaoComRetorno <R, T extends Serializable, E extends Throwable> extends Transacao<T, E>, Serializable {
+		NENHUMA,
 		/**
-		 * Os atributos (serializáveis) da sua instância de transação devem ser utilizados dentro deste método para atualização de seu modelo. 
-		 * Este método, em conjunto com validar, são executados de forma síncrona para garantir atomicidade e isolamento.<br>
-		 * Caso um erro ocorra nesta fase a base será revertida para última versão válida, ou seja ela será recarregada do sistema arquivos, assim a reversão consumirá o 
-		 * mesmo tempo que a inicialização. Alteração no modelo só pode ocorrer dentro da implementação deste método, após o retorno, fora deste método, se 
-		 * ocorrer qualquer atualização no modelo, o novo estado não estará gravado em sistema de arquivos, invalidando transações sequentes.<br>
-		 * OBS: não abortar a transação dentro da implementação deste método com returns, exceptions ou qualquer outro artifício, se precisar aborte a transação durante a validação.
-		 * @param pojoUnico O modelo mantido em memória.
-		 * @return Seu retorno.
+		 * Sincroniza cada transação dentro do bloco sincronizado, durável mas limita a vazão a velocidade de sincronização do disco.
 		 */
-		R executar(T pojoRegistro);
+		CADA_TRANSACAO,
+		/**
+		 * Transações concorrentes são sincronizadas em grupo com uma única sincronização, cada chamada só retorna depois que seu grupo estiver durável.
+		 */
+		AGRUPADA,
+		/**
+		 * Uma thread sincroniza o jornal periodicamente, as chamadas não aguardam e a perda fica limitada ao intervalo configurado.
+		 */
+		PERIODICA
 	}
 	/**
-	 * Interface para criação e execução de transações ACID sem retorno.
-	 * @param <T> Seu modelo de dados mantido em memória e sistema de arquivo.
-	 * @param <E> Sua exception que pode ser lançada no processo de validação pré execução.
+	 * Isolamento das consultas em relação às transações, com exceção de NENHUM as transações bloqueiam o modelo para escrita enquanto o alteram e o anexam ao jornal, 
+	 * assim uma consulta isolada nunca vê uma alteração revertida por falha na gravação. A serialização continua fora do bloqueio, a sincronização com o disco fica 
+	 * dentro dele somente com a política CADA_TRANSACAO.
 	 */
-	public interface TransacaoSemRetorno <T extends Serializable, E extends Throwable> extends Transacao<T, E>, Serializable {
+	public enum IsolamentoConsulta {
 		/**
-		 * Mesmos requisitos de transação com retorno para ser executada, mas não tem retorno.
-		 * @see TransacaoComRetorno
-		 * @param pojoUnico O modelo mantido em memória.
+		 * Consultas executam sem sincronização e podem ver uma transação aplicada pela metade (leitura "suja"), sem nenhum custo para as transações.
 		 */
-		void executar(T pojoUnico);
-	}	
-	/**
-	 * Interface para criação e execução de consultas. OBS: não faça atribuições nos objetos retornados pela sua pesquisa!
-	 * @param <R> Seu tipo de retorno
-	 * @param <T> Seu modelo de dados mantido em memória e sistema de arquivo.
-	 */
-	public interface Consulta<R, T extends Serializable> {
-		R executar(T pojoUnico);
+		NENHUM,
+		/**
+		 * Consultas executam sem bloqueio e são validadas ao final, caso uma transação tenha alterado o modelo durante a execução a consulta é repetida, esgotadas as 
+		 * tentativas ela é executada com bloqueio de leitura. Indicado para consultas curtas, que devem ser livres de efeitos colaterais pois podem ser repetidas.
+		 */
+		OTIMISTA,
+		/**
+		 * Consultas executam com bloqueio compartilhado de leitura, executam em paralelo entre si e aguardam somente transações alterando o modelo.
+		 */
+		BLOQUEIO_LEITURA,
+		/**
+		 * Consultas executam sobre a última versão publicada do modelo, sem bloquear nem serem bloqueadas por transações. Duas cópias do modelo são mantidas além do 
+		 * modelo das transações (o triplo de memória): uma publicada para as consultas e uma reserva, atualizada por uma thread publicadora que reexecuta as transações 
+		 * confirmadas a partir dos seus bytes serializados e então a publica. Consultas longas atrasam somente a próxima publicação, nunca as transações. Uma consulta 
+		 * logo após uma transação pode não vê-la ainda, a versão publicada é informada por getIdentificadorVersaoPublicada. Transações devem ser determinísticas, como 
+		 * já exigido pela reexecução do jornal.
+		 */
+		MULTIVERSAO
 	}
 	/**
-	 * Interface para observadores monitorarem transações executadas.
+	 * Política de remoção do cache de consultas ao atingir seu tamanho máximo.
 	 */
-	public interface Observador <T extends Serializable> {
-		void receberAvisoExecucao(Transacao<T, ? extends Throwable> transacao);
+	public enum PoliticaRemocaoCache {
+		/**
+		 * Remove o resultado acessado há mais tempo, indicado quando as consultas repetidas mudam ao longo do tempo.
+		 */
+		LRU,
+		/**
+		 * Remove o resultado com menos acertos, em caso de empate o acessado há mais tempo. Indicado para um conjunto estável de consultas muito repetidas (ex: painéis)
+		 * misturado a consultas eventuais que não devem retirá-las do cache.
+		 */
+		LFU
 	}
-	
-	/**
-	 * Configurador da classe para gerar novas instâncias. 
-	 */
-	private static Configurador configurador;
-	/**
-	 * Mapa das bases inicializadas, vários modelos de dados independentes entre si podem ser mantidos em um diretório e também em memória. 
-	 */
-	private static Map<Class<? extends Serializable>, MiniPrevalencia<?>> mapaPrevalencias = new HashMap<Class<? extends Serializable>, MiniPrevalencia<?>>();
-	/**
-	 * Caso TRUE as instâncias só efetuam consultas.
-	 */
-	private static Boolean replica = null;
-	/**
-	 * Diretório de gravação dos dados, sequencias, transações etc.
-	 */
-	private static String diretorio = null;
-	/**
-	 * Com TRUE os retornos são copiados em novas instâncias para evitar a alteração dos registros internos fora das transações. No entanto, este processo
-	 * consome memória e processamento, como alternativa pode ser desativado para melhorar o desempenho e economizar memória. Caso seu código altere objetos
-	 * fora das transações sua base se tornará inconsistente. Outra alternativa após desabilitar a cópia, é a implementação manual da cópia dentro das consultas
-	 * e transações para os retornos sensíveis (entidades). Para uso performático desative (FALSE) a proteção e não altere entidades fora de transações.
-	 */
-	private static boolean protegerRetornoCopiandoObjetos = false;
-	/**
-	 * Por padrão todos arquivos de transação são mantidos em sistema de arquivos por poucos segundos, no entanto durante a configuração inicial é possível optar por não apagar 
-	 * as transações que já foram internalizadas pelo arquivo acelerador de inicialização.<br>
-	 * TRUE para apagar transações aceleradas.<br>
-	 * FALSE para manter todas transações em sistema de arquivo, mesmo as que já estão internalizadas no arquivo acelerador.
-	 */
-	private static boolean apagarTransacoesAceleradas = true;
-	/**
-	 * Quantidade de milissegundos de inatividade para disparar a gravação do arquivo acelerador e a eliminação de arquivo transacionais internalizados.
-	 */
-	private static Long milisegundosInatividadeTransacionalDispararGravacaoAcelerador;
-	
-	/**
-	 * Seu POJO, objeto de entrada para que será mantido pelo sistema de prevalência.
-	 */
-	private M pojoRegistro;
-	/**
-	 * O tipo de registro que a instância de prevalência está mantendo.
-	 */
-	private Class<M> tipoRegistro;
-	/**
-	 * Serial da ultima transação executada. 
-	 */
-	private volatile Long ultimaTransacaoExecutada = 0L;
-	/**
-	 * Serial da ultima transação internalizada pelo arquivo acelerador.
-	 */
-	private volatile Long ultimaTransacaoAcelerada = 0L;
-	/**
-	 * Lista de observadores registrados.
-	 */
-	private CopyOnWriteArraySet<Observador<M>> observadores = new CopyOnWriteArraySet<Observador<M>>();
-	/**
-	 * Logger para operações executadas por threads, demais exceptions são apenas lançadas.
-	 */
-	private final Logger logger = Logger.getLogger(getClass().getName());
-	/**
-	 * Indicador de solicitação de finalização;
-	 */
-	private volatile boolean finalizar = false;
-	/**
-	 * Indica quando a instância está executando transações para carregar o modelo, com objetivo de impedir operações.
-	 */
-	private volatile boolean inicializando = false;	
 	/**
-	 * Momento de inicialização ou ultima transação.
+	 * Codificador que converte transações em bytes para o jornal e o modelo para o arquivo acelerador. Implementações devem ser thread safe, pois transações concorrentes são
+	 * codificadas em paralelo. Arquivos gravados com serialização Java (assinatura 0xACED) continuam legíveis após a troca do codificador.
 	 */
-	private Long momentoInicializacaoOuUltimaTransacao;
+	public interface Codificador {
+		/**
+		 * Codifica o objeto e todo seu grafo de referências na saída, sem fechá-la.
+		 * @param objeto Transação ou modelo.
+		 * @param saida Saída de gravação.
+		 */
+		void codificar(Object objeto, OutputStream saida) throws IOException;
+		/**
+		 * Decodifica um objeto gravado pelo método codificar, a entrada contém somente os bytes deste objeto.
+		 * @param entrada Entrada de leitura.
+		 * @return O objeto decodificado.
+		 */
+		Object decodificar(InputStream entrada) throws IOException, ClassNotFoundException;
+	}
 	/**
-	 * Comparador nome de arquivo como número.
+	 * Codificador padrão utilizando serialização Java.
 	 */
-	private Comparator<File> fileNomeNumeroTransacao = new Comparator<File>() {
+	public static class CodificadorSerializacaoJava implements Codificador {
 		@Override
-		public int compare(File o1, File o2) {
-			Long lo1 = converterNomeArquivo(o1);
-			Long lo2 = converterNomeArquivo(o2);
-			return lo1.compareTo(lo2);
+		public void codificar(Object objeto, OutputStream saida) throws IOException {
+			ObjectOutputStream oos = new ObjectOutputStream(saida);
+			oos.writeObject(objeto);
+			oos.flush();
 		}
-	};
+		@Override
+		public Object decodificar(InputStream entrada) throws IOException, ClassNotFoundException {
+			return new ObjectInputStream(entrada).readObject();
+		}
+	}
 	/**
-	 * Atribui uma implementação de configurador para inicializar novas instâncias da prevalência.
-	 * @param conf Uma implementação de configurador.
-	 * @return TRUE quando o configurado é atribuído, false quando não é, isso significa que um configurador já foi atribuído anteriormente.
+	 * Codificador binário compacto: classes registradas são gravadas como um número, campos inteiros como varint e nenhum descritor de classe é gravado por registro. Classes não
+	 * registradas são gravadas pelo nome uma única vez por registro (ou arquivo acelerador). Coleções e mapas usuais do java.util, datas, números e textos possuem codificação própria.<br>
+	 * Segue as regras da serialização Java: somente classes serializáveis, campos transient e static são ignorados. Classes com writeObject, readObject, writeReplace, readResolve,
+	 * Externalizable, records e demais classes do JDK são gravadas em bloco com serialização Java, referências compartilhadas entre o bloco e o restante do grafo não são preservadas.<br>
+	 * <b>Difere da serialização Java na construção:</b> a decodificação chama o construtor sem parâmetros da própria classe (de qualquer visibilidade), executando o construtor e os
+	 * inicializadores de campos da classe e de suas superclasses, e em seguida atribui os campos gravados, sobrescrevendo os valores inicializados. Campos transient mantêm portanto o
+	 * valor do inicializador, e não o valor padrão (null, 0) como na serialização Java, que chama somente o construtor da primeira superclasse não serializável. Classes sem construtor
+	 * sem parâmetros são gravadas em bloco com serialização Java.<br>
+	 * <b>Os campos das classes fazem parte do formato: alterar campos de classes já gravadas impede a leitura dos arquivos, assim como alterar o registro de classes. Grave um novo arquivo
+	 * acelerador com o codificador antigo antes de alterações.</b>
+	 */
+	public static class CodificadorCompacto implements Codificador {
+		private static final int VERSAO = 1;
+		//Marcadores de tipo
+		private static final int NULO = 0;
+		private static final int REFERENCIA = 1;
+		private static final int TEXTO = 2;
+		private static final int INTEIRO = 3;
+		private static final int LONGO = 4;
+		private static final int VERDADEIRO = 5;
+		private static final int FALSO = 6;
+		private static final int DUPLO = 7;
+		private static final int FLUTUANTE = 8;
+		private static final int CURTO = 9;
+		private static final int BYTE = 10;
+		private static final int CARACTERE = 11;
+		private static final int OBJETO = 12;
+		private static final int ENUMERADO = 13;
+		private static final int VETOR = 14;
+		private static final int COLECAO = 15;
+		private static final int MAPA = 16;
+		private static final int DATA = 17;
+		private static final int DECIMAL = 18;
+		private static final int INTEIRO_GRANDE = 19;
+		private static final int DATA_LOCAL = 20;
+		private static final int DATA_HORA_LOCAL = 21;
+		private static final int INSTANTE = 22;
+		private static final int IDENTIFICADOR_UNICO = 23;
+		private static final int SERIALIZACAO_JAVA = 24;
+		/**
+		 * Classes conhecidas por ambos os lados sem gravação do nome, a ordem faz parte do formato.
+		 */
+		private static final Class<?>[] CLASSES_PADRAO = {Object.class, String.class, Integer.class, Long.class, Boolean.class, Double.class, Float.class, Short.class, Byte.class,
+				Character.class, Number.class, Serializable.class, Date.class, BigDecimal.class, BigInteger.class, LocalDate.class, LocalDateTime.class, Instant.class, UUID.class};
+		private static final List<Class<?>> PRIMITIVOS = Arrays.asList(null, boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class);
+		private static final List<Class<?>> COLECOES = Arrays.asList(ArrayList.class, LinkedList.class, HashSet.class, LinkedHashSet.class, TreeSet.class, ArrayDeque.class);
+		private static final List<Class<?>> MAPAS = Arrays.asList(HashMap.class, LinkedHashMap.class, TreeMap.class, ConcurrentHashMap.class);
+
+		private final Map<Class<?>, Integer> identificadoresClasses = new ConcurrentHashMap<Class<?>, Integer>();
+		private final Map<Integer, Class<?>> classesRegistradas = new ConcurrentHashMap<Integer, Class<?>>();
+		private final Map<Class<?>, EstruturaClasse> estruturas = new ConcurrentHashMap<Class<?>, EstruturaClasse>();
+
+		/**
+		 * Registra o identificador numérico da classe, gravado no lugar do nome. Registre as classes do modelo e das transações antes da configuração, sempre com o mesmo identificador.
+		 * @param identificador Número da classe, maior ou igual a zero e único.
+		 * @param classe Classe serializável.
+		 * @return Este codificador.
+		 */
+		public CodificadorCompacto registrar(int identificador, Class<?> classe) {
+			if (identificador < 0) {
+				throw new IllegalArgumentException("O identificador da classe " + classe.getName() + " deve ser maior ou igual a zero.");
+			}
+			if (classesRegistradas.containsKey(identificador) || identificadoresClasses.containsKey(classe)) {
+				throw new IllegalArgumentException("O identificador " + identificador + " ou a classe " + classe.getName() + " já foi registrado.");
+			}
+			identificadoresClasses.put(classe, identificador);
+			classesRegistradas.put(identificador, classe);
+			return this;
+		}
+		@Override
+		public void codificar(Object objeto, OutputStream saida) throws IOException {
+			Codificacao codificacao = new Codificacao(saida);
+			codificacao.escreverByte(VERSAO);
+			codificacao.escreverObjeto(objeto);
+			codificacao.descarregar();
+		}
+		@Override
+		public Object decodificar(InputStream entrada) throws IOException, ClassNotFoundException {
+			Decodificacao decodificacao = new Decodificacao(entrada);
+			int versao = decodificacao.lerByte();
+			if (versao != VERSAO) {
+				throw new StreamCorruptedException("Versão " + versao + " do codificador compacto não suportada.");
+			}
+			return decodificacao.lerObjeto();
+		}
+		private EstruturaClasse obterEstrutura(Class<?> classe) throws IOException {
+			EstruturaClasse estrutura = estruturas.get(classe);
+			if (estrutura == null) {
+				estrutura = new EstruturaClasse(classe);
+				estruturas.putIfAbsent(classe, estrutura);
+			}
+			return estrutura;
+		}
+		private static Class<?> carregarClasse(String nome) throws ClassNotFoundException {
+			ClassLoader carregador = Thread.currentThread().getContextClassLoader();
+			return Class.forName(nome, false, (carregador != null) ? carregador : CodificadorCompacto.class.getClassLoader());
+		}
+		private static long zigzag(long valor) {
+			return (valor << 1) ^ (valor >> 63);
+		}
+		private static long dezigzag(long valor) {
+			return (valor >>> 1) ^ -(valor & 1);
+		}
+
+		/**
+		 * Campos gravados de uma classe, na ordem das superclasses para subclasse e pelo nome.
+		 */
+		private static class EstruturaClasse {
+			private final Field[] campos;
+			private final int[] tipos;
+			private final Constructor<?> construtor;
+			private final int assinatura;
+			private final boolean serializacaoJava;
+
+			private EstruturaClasse(Class<?> classe) throws IOException {
+				if (!Serializable.class.isAssignableFrom(classe)) {
+					throw new NotSerializableException(classe.getName());
+				}
+				List<Field> camposGravados = new ArrayList<Field>();
+				boolean serializacaoPropria = Externalizable.class.isAssignableFrom(classe) || "java.lang.Record".equals(classe.getSuperclass().getName());
+				for (Class<?> hierarquia = classe; (hierarquia != null) && !serializacaoPropria; hierarquia = hierarquia.getSuperclass()) {
+					for (Method metodo : hierarquia.getDeclaredMethods()) {
+						String nome = metodo.getName();
+						if (((metodo.getParameterCount() == 0) && (nome.equals("writeReplace") || nome.equals("readResolve")))
+								|| ((metodo.getParameterCount() == 1) && (nome.equals("writeObject") || nome.equals("readObject")))) {
+							serializacaoPropria = true;
+						}
+					}
+					if (!serializacaoPropria && Serializable.class.isAssignableFrom(hierarquia)) {
+						List<Field> camposClasse = new ArrayList<Field>();
+						for (Field campo : hierarquia.getDeclaredFields()) {
+							if (!Modifier.isStatic(campo.getModifiers()) && !Modifier.isTransient(campo.getModifiers())) {
+								camposClasse.add(campo);
+							}
+						}
+						camposClasse.sort(Comparator.comparing(Field::getName));
+						camposGravados.addAll(0, camposClasse);
+					}
+				}
+				Constructor<?> construtorSerializacao = null;
+				if (!serializacaoPropria) {
+					try {
+						for (Field campo : camposGravados) {
+							campo.setAccessible(true);
+						}
+						construtorSerializacao = classe.getDeclaredConstructor();
+						construtorSerializacao.setAccessible(true);
+					} catch (NoSuchMethodException e) {
+						construtorSerializacao = null;//Sem construtor sem parâmetros
+					} catch (RuntimeException e) {
+						serializacaoPropria = true;//Classes de módulos fechados, como as do JDK
+					}
+				}
+				serializacaoJava = serializacaoPropria || (construtorSerializacao == null);
+				construtor = construtorSerializacao;
+				campos = serializacaoJava ? new Field[0] : camposGravados.toArray(new Field[0]);
+				tipos = new int[campos.length];
+				int hash = 1;
+				for (int indice = 0; indice < campos.length; indice++) {
+					tipos[indice] = Math.max(0, PRIMITIVOS.indexOf(campos[indice].getType()));
+					hash = (31 * hash) + (campos[indice].getName() + ":" + campos[indice].getType().getName()).hashCode();
+				}
+				assinatura = hash;
+			}
+		}
+
+		/**
+		 * Estado de uma codificação: objetos já gravados e classes já nomeadas.
+		 */
+		private class Codificacao {
+			private final OutputStream saida;
+			private final byte[] buffer = new byte[65536];
+			private int posicao;
+			private final IdentityHashMap<Object, Integer> objetos = new IdentityHashMap<Object, Integer>();
+			private final Map<Class<?>, Integer> classes = new HashMap<Class<?>, Integer>();
+			private final Set<Class<?>> assinaturasGravadas = new HashSet<Class<?>>();
+
+			private Codificacao(OutputStream saida) {
+				this.saida = saida;
+				for (Class<?> classe : CLASSES_PADRAO) {
+					classes.put(classe, classes.size());
+				}
+			}
+			private void escreverObjeto(Object objeto) throws IOException {
+				if (objeto == null) {
+					escreverByte(NULO);
+					return;
+				}
+				Class<?> classe = objeto.getClass();
+				if (classe == Integer.class) {
+					escreverByte(INTEIRO);
+					escreverVarLong(zigzag((Integer) objeto));
+				} else if (classe == Long.class) {
+					escreverByte(LONGO);
+					escreverVarLong(zigzag((Long) objeto));
+				} else if (classe == Boolean.class) {
+					escreverByte(((Boolean) objeto) ? VERDADEIRO : FALSO);
+				} else if (classe == Double.class) {
+					escreverByte(DUPLO);
+					escreverLongoFixo(Double.doubleToRawLongBits((Double) objeto));
+				} else if (classe == Float.class) {
+					escreverByte(FLUTUANTE);
+					escreverInteiroFixo(Float.floatToRawIntBits((Float) objeto));
+				} else if (classe == Short.class) {
+					escreverByte(CURTO);
+					escreverVarLong(zigzag((Short) objeto));
+				} else if (classe == Byte.class) {
+					escreverByte(BYTE);
+					escreverByte((Byte) objeto);
+				} else if (classe == Character.class) {
+					escreverByte(CARACTERE);
+					escreverVarLong((Character) objeto);
+				} else {
+					Integer referencia = objetos.get(objeto);
+					if (referencia != null) {
+						escreverByte(REFERENCIA);
+						escreverVarLong(referencia);
+						return;
+					}
+					objetos.put(objeto, objetos.size());
+					escreverObjetoReferenciavel(objeto, classe);
+				}
+			}
+			private void escreverObjetoReferenciavel(Object objeto, Class<?> classe) throws IOException {
+				if (classe == String.class) {
+					escreverByte(TEXTO);
+					escreverTexto((String) objeto);
+				} else if (objeto instanceof Enum) {
+					escreverByte(ENUMERADO);
+					escreverClasse(((Enum<?>) objeto).getDeclaringClass());
+					escreverTexto(((Enum<?>) objeto).name());
+				} else if (classe.isArray()) {
+					escreverVetor(objeto, classe.getComponentType());
+				} else if (COLECOES.contains(classe) && !((classe == TreeSet.class) && (((TreeSet<?>) objeto).comparator() != null))) {
+					Collection<?> colecao = (Collection<?>) objeto;
+					escreverByte(COLECAO);
+					escreverByte(COLECOES.indexOf(classe));
+					escreverVarLong(colecao.size());
+					for (Object elemento : colecao) {
+						escreverObjeto(elemento);
+					}
+				} else if (MAPAS.contains(classe) && !((classe == TreeMap.class) && (((TreeMap<?, ?>) objeto).comparator() != null))) {
+					Map<?, ?> mapa = (Map<?, ?>) objeto;
+					escreverByte(MAPA);
+					escreverByte(MAPAS.indexOf(classe));
+					escreverVarLong(mapa.size());
+					for (Map.Entry<?, ?> entrada : mapa.entrySet()) {
+						escreverObjeto(entrada.getKey());
+						escreverObjeto(entrada.getValue());
+					}
+				} else if (classe == Date.class) {
+					escreverByte(DATA);
+					escreverVarLong(zigzag(((Date) objeto).getTime()));
+				} else if (classe == BigDecimal.class) {
+					escreverByte(DECIMAL);
+					escreverVarLong(zigzag(((BigDecimal) objeto).scale()));
+					escreverBytes(((BigDecimal) objeto).unscaledValue().toByteArray());
+				} else if (classe == BigInteger.class) {
+					escreverByte(INTEIRO_GRANDE);
+					escreverBytes(((BigInteger) objeto).toByteArray());
+				} else if (classe == LocalDate.class) {
+					escreverByte(DATA_LOCAL);
+					escreverVarLong(zigzag(((LocalDate) objeto).toEpochDay()));
+				} else if (classe == LocalDateTime.class) {
+					escreverByte(DATA_HORA_LOCAL);
+					escreverVarLong(zigzag(((LocalDateTime) objeto).toLocalDate().toEpochDay()));
+					escreverVarLong(((LocalDateTime) objeto).toLocalTime().toNanoOfDay());
+				} else if (classe == Instant.class) {
+					escreverByte(INSTANTE);
+					escreverVarLong(zigzag(((Instant) objeto).getEpochSecond()));
+					escreverVarLong(((Instant) objeto).getNano());
+				} else if (classe == UUID.class) {
+					escreverByte(IDENTIFICADOR_UNICO);
+					escreverLongoFixo(((UUID) objeto).getMostSignificantBits());
+					escreverLongoFixo(((UUID) objeto).getLeastSignificantBits());
+				} else {
+					escreverObjetoCampos(objeto, classe);
+				}
+			}
+			private void escreverObjetoCampos(Object objeto, Class<?> classe) throws IOException {
+				EstruturaClasse estrutura = obterEstrutura(classe);
+				if (estrutura.serializacaoJava) {
+					ByteArrayOutputStream baos = new ByteArrayOutputStream();
+					ObjectOutputStream oos = new ObjectOutputStream(baos);
+					oos.writeObject(objeto);
+					oos.flush();
+					escreverByte(SERIALIZACAO_JAVA);
+					escreverBytes(baos.toByteArray());
+					return;
+				}
+				escreverByte(OBJETO);
+				escreverClasse(classe);
+				if (assinaturasGravadas.add(classe)) {
+					escreverInteiroFixo(estrutura.assinatura);
+				}
+				try {
+					for (int indice = 0; indice < estrutura.campos.length; indice++) {
+						Field campo = estrutura.campos[indice];
+						switch (estrutura.tipos[indice]) {
+						case 0: escreverObjeto(campo.get(objeto)); break;
+						case 1: escreverByte(campo.getBoolean(objeto) ? 1 : 0); break;
+						case 2: escreverByte(campo.getByte(objeto)); break;
+						case 3: escreverVarLong(campo.getChar(objeto)); break;
+						case 4: escreverVarLong(zigzag(campo.getShort(objeto))); break;
+						case 5: escreverVarLong(zigzag(campo.getInt(objeto))); break;
+						case 6: escreverVarLong(zigzag(campo.getLong(objeto))); break;
+						case 7: escreverInteiroFixo(Float.floatToRawIntBits(campo.getFloat(objeto))); break;
+						default: escreverLongoFixo(Double.doubleToRawLongBits(campo.getDouble(objeto)));
+						}
+					}
+				} catch (IllegalAccessException e) {
+					throw new IOException("Erro ao ler os campos da classe " + classe.getName() + ".", e);
+				}
+			}
+			private void escreverVetor(Object vetor, Class<?> tipoComponente) throws IOException {
+				int tipo = Math.max(0, PRIMITIVOS.indexOf(tipoComponente));
+				int tamanho = Array.getLength(vetor);
+				escreverByte(VETOR);
+				escreverByte(tipo);
+				if (tipo == 0) {
+					escreverClasse(tipoComponente);
+				}
+				escreverVarLong(tamanho);
+				switch (tipo) {
+				case 0: for (Object elemento : (Object[]) vetor) { escreverObjeto(elemento); } break;
+				case 1: for (boolean elemento : (boolean[]) vetor) { escreverByte(elemento ? 1 : 0); } break;
+				case 2: escreverBytesBrutos((byte[]) vetor); break;
+				case 3: for (char elemento : (char[]) vetor) { escreverVarLong(elemento); } break;
+				case 4: for (short elemento : (short[]) vetor) { escreverVarLong(zigzag(elemento)); } break;
+				case 5: for (int elemento : (int[]) vetor) { escreverVarLong(zigzag(elemento)); } break;
+				case 6: for (long elemento : (long[]) vetor) { escreverVarLong(zigzag(elemento)); } break;
+				case 7: for (float elemento : (float[]) vetor) { escreverInteiroFixo(Float.floatToRawIntBits(elemento)); } break;
+				default: for (double elemento : (double[]) vetor) { escreverLongoFixo(Double.doubleToRawLongBits(elemento)); }
+				}
+			}
+			/**
+			 * Classe registrada (2 * id + 2), classe já nomeada nesta codificação (2 * índice + 1) ou zero seguido do nome.
+			 */
+			private void escreverClasse(Class<?> classe) throws IOException {
+				Integer identificador = identificadoresClasses.get(classe);
+				if (identificador != null) {
+					escreverVarLong((2L * identificador) + 2);
+					return;
+				}
+				Integer indice = classes.get(classe);
+				if (indice != null) {
+					escreverVarLong((2L * indice) + 1);
+					return;
+				}
+				classes.put(classe, classes.size());
+				escreverVarLong(0);
+				escreverTexto(classe.getName());
+			}
+			private void escreverTexto(String texto) throws IOException {
+				escreverBytes(texto.getBytes(StandardCharsets.UTF_8));
+			}
+			private void escreverBytes(byte[] bytes) throws IOException {
+				escreverVarLong(bytes.length);
+				escreverBytesBrutos(bytes);
+			}
+			private void escreverBytesBrutos(byte[] bytes) throws IOException {
+				if (bytes.length > (buffer.length - posicao)) {
+					descarregar();
+					if (bytes.length > buffer.length) {
+						saida.write(bytes);
+						return;
+					}
+				}
+				System.arraycopy(bytes, 0, buffer, posicao, bytes.length);
+				posicao += bytes.length;
+			}
+			private void escreverByte(int valor) throws IOException {
+				if (posicao == buffer.length) {
+					descarregar();
+				}
+				buffer[posicao++] = (byte) valor;
+			}
+			private void escreverVarLong(long valor) throws IOException {
+				if ((buffer.length - posicao) < 10) {
+					descarregar();
+				}
+				while ((valor & ~0x7FL) != 0) {
+					buffer[posicao++] = (byte) ((valor & 0x7F) | 0x80);
+					valor >>>= 7;
+				}
+				buffer[posicao++] = (byte) valor;
+			}
+			private void escreverInteiroFixo(int valor) throws IOException {
+				if ((buffer.length - posicao) < 4) {
+					descarregar();
+				}
+				for (int deslocamento = 24; deslocamento >= 0; deslocamento -= 8) {
+					buffer[posicao++] = (byte) (valor >>> deslocamento);
+				}
+			}
+			private void escreverLongoFixo(long valor) throws IOException {
+				if ((buffer.length - posicao) < 8) {
+					descarregar();
+				}
+				for (int deslocamento = 56; deslocamento >= 0; deslocamento -= 8) {
+					buffer[posicao++] = (byte) (valor >>> deslocamento);
+				}
+			}
+			private void descarregar() throws IOException {
+				saida.write(buffer, 0, posicao);
+				posicao = 0;
+			}
+		}
+
+		/**
+		 * Estado de uma decodificação, espelho da codificação.
+		 */
+		private class Decodificacao {
+			private final InputStream entrada;
+			private final byte[] buffer = new byte[65536];
+			private int posicao;
+			private int limite;
+			private final List<Object> objetos = new ArrayList<Object>();
+			private final List<Class<?>> classes = new ArrayList<Class<?>>(Arrays.asList(CLASSES_PADRAO));
+			private final Set<Class<?>> assinaturasLidas = new HashSet<Class<?>>();
+
+			private Decodificacao(InputStream entrada) {
+				this.entrada = entrada;
+			}
+			@SuppressWarnings({"unchecked", "rawtypes"})
+			private Object lerObjeto() throws IOException, ClassNotFoundException {
+				int marcador = lerByte();
+				switch (marcador) {
+				case NULO: return null;
+				case REFERENCIA: return objetos.get((int) lerVarLong());
+				case INTEIRO: return (int) dezigzag(lerVarLong());
+				case LONGO: return dezigzag(lerVarLong());
+				case VERDADEIRO: return Boolean.TRUE;
+				case FALSO: return Boolean.FALSE;
+				case DUPLO: return Double.longBitsToDouble(lerLongoFixo());
+				case FLUTUANTE: return Float.intBitsToFloat(lerInteiroFixo());
+				case CURTO: return (short) dezigzag(lerVarLong());
+				case BYTE: return (byte) lerByte();
+				case CARACTERE: return (char) lerVarLong();
+				case TEXTO: return registrar(lerTexto());
+				case ENUMERADO: return registrar(Enum.valueOf((Class) lerClasse(), lerTexto()));
+				case VETOR: return lerVetor();
+				case COLECAO: {
+					int tipo = lerByte();
+					int tamanho = (int) lerVarLong();
+					Collection<Object> colecao;
+					switch (tipo) {
+					case 0: colecao = new ArrayList<Object>(tamanho); break;
+					case 1: colecao = new LinkedList<Object>(); break;
+					case 2: colecao = new HashSet<Object>(Math.max(16, (int) (tamanho / .75f) + 1)); break;
+					case 3: colecao = new LinkedHashSet<Object>(Math.max(16, (int) (tamanho / .75f) + 1)); break;
+					case 4: colecao = new TreeSet<Object>(); break;
+					case 5: colecao = new ArrayDeque<Object>(tamanho); break;
+					default: throw new StreamCorruptedException("Tipo de coleção " + tipo + " desconhecido.");
+					}
+					registrar(colecao);
+					for (int indice = 0; indice < tamanho; indice++) {
+						colecao.add(lerObjeto());
+					}
+					return colecao;
+				}
+				case MAPA: {
+					int tipo = lerByte();
+					int tamanho = (int) lerVarLong();
+					Map<Object, Object> mapa;
+					switch (tipo) {
+					case 0: mapa = new HashMap<Object, Object>(Math.max(16, (int) (tamanho / .75f) + 1)); break;
+					case 1: mapa = new LinkedHashMap<Object, Object>(Math.max(16, (int) (tamanho / .75f) + 1)); break;
+					case 2: mapa = new TreeMap<Object, Object>(); break;
+					case 3: mapa = new ConcurrentHashMap<Object, Object>(Math.max(16, tamanho)); break;
+					default: throw new StreamCorruptedException("Tipo de mapa " + tipo + " desconhecido.");
+					}
+					registrar(mapa);
+					for (int indice = 0; indice < tamanho; indice++) {
+						mapa.put(lerObjeto(), lerObjeto());
+					}
+					return mapa;
+				}
+				case DATA: return registrar(new Date(dezigzag(lerVarLong())));
+				case DECIMAL: {
+					int escala = (int) dezigzag(lerVarLong());
+					return registrar(new BigDecimal(new BigInteger(lerBytes()), escala));
+				}
+				case INTEIRO_GRANDE: return registrar(new BigInteger(lerBytes()));
+				case DATA_LOCAL: return registrar(LocalDate.ofEpochDay(dezigzag(lerVarLong())));
+				case DATA_HORA_LOCAL: {
+					LocalDate data = LocalDate.ofEpochDay(dezigzag(lerVarLong()));
+					return registrar(LocalDateTime.of(data, LocalTime.ofNanoOfDay(lerVarLong())));
+				}
+				case INSTANTE: {
+					long segundos = dezigzag(lerVarLong());
+					return registrar(Instant.ofEpochSecond(segundos, lerVarLong()));
+				}
+				case IDENTIFICADOR_UNICO: {
+					long maisSignificativos = lerLongoFixo();
+					return registrar(new UUID(maisSignificativos, lerLongoFixo()));
+				}
+				case SERIALIZACAO_JAVA: return registrar(new ObjectInputStream(new ByteArrayInputStream(lerBytes())).readObject());
+				case OBJETO: return lerObjetoCampos();
+				default: throw new StreamCorruptedException("Marcador " + marcador + " desconhecido.");
+				}
+			}
+			private Object lerObjetoCampos() throws IOException, ClassNotFoundException {
+				Class<?> classe = lerClasse();
+				EstruturaClasse estrutura = obterEstrutura(classe);
+				if (estrutura.serializacaoJava) {
+					throw new InvalidClassException(classe.getName(), "a classe deve ser gravada com serialização Java.");
+				}
+				if (assinaturasLidas.add(classe) && (lerInteiroFixo() != estrutura.assinatura)) {
+					throw new InvalidClassException(classe.getName(), "os campos da classe foram alterados após a gravação.");
+				}
+				try {
+					Object objeto = estrutura.construtor.newInstance();
+					registrar(objeto);
+					for (int indice = 0; indice < estrutura.campos.length; indice++) {
+						Field campo = estrutura.campos[indice];
+						switch (estrutura.tipos[indice]) {
+						case 0: campo.set(objeto, lerObjeto()); break;
+						case 1: campo.setBoolean(objeto, lerByte() != 0); break;
+						case 2: campo.setByte(objeto, (byte) lerByte()); break;
+						case 3: campo.setChar(objeto, (char) lerVarLong()); break;
+						case 4: campo.setShort(objeto, (short) dezigzag(lerVarLong())); break;
+						case 5: campo.setInt(objeto, (int) dezigzag(lerVarLong())); break;
+						case 6: campo.setLong(objeto, dezigzag(lerVarLong())); break;
+						case 7: campo.setFloat(objeto, Float.intBitsToFloat(lerInteiroFixo())); break;
+						default: campo.setDouble(objeto, Double.longBitsToDouble(lerLongoFixo()));
+						}
+					}
+					return objeto;
+				} catch (ReflectiveOperationException | IllegalArgumentException e) {
+					throw new InvalidClassException(classe.getName(), "erro ao instanciar ou atribuir campos: " + e);
+				}
+			}
+			private Object lerVetor() throws IOException, ClassNotFoundException {
+				int tipo = lerByte();
+				Class<?> tipoComponente = (tipo == 0) ? lerClasse() : PRIMITIVOS.get(tipo);
+				int tamanho = (int) lerVarLong();
+				Object vetor = registrar(Array.newInstance(tipoComponente, tamanho));
+				switch (tipo) {
+				case 0: { Object[] elementos = (Object[]) vetor; for (int i = 0; i < tamanho; i++) { elementos[i] = lerObjeto(); } break; }
+				case 1: { boolean[] elementos = (boolean[]) vetor; for (int i = 0; i < tamanho; i++) { elementos[i] = lerByte() != 0; } break; }
+				case 2: lerBytesBrutos((byte[]) vetor); break;
+				case 3: { char[] elementos = (char[]) vetor; for (int i = 0; i < tamanho; i++) { elementos[i] = (char) lerVarLong(); } break; }
+				case 4: { short[] elementos = (short[]) vetor; for (int i = 0; i < tamanho; i++) { elementos[i] = (short) dezigzag(lerVarLong()); } break; }
+				case 5: { int[] elementos = (int[]) vetor; for (int i = 0; i < tamanho; i++) { elementos[i] = (int) dezigzag(lerVarLong()); } break; }
+				case 6: { long[] elementos = (long[]) vetor; for (int i = 0; i < tamanho; i++) { elementos[i] = dezigzag(lerVarLong()); } break; }
+				case 7: { float[] elementos = (float[]) vetor; for (int i = 0; i < tamanho; i++) { elementos[i] = Float.intBitsToFloat(lerInteiroFixo()); } break; }
+				default: { double[] elementos = (double[]) vetor; for (int i = 0; i < tamanho; i++) { elementos[i] = Double.longBitsToDouble(lerLongoFixo()); } }
+				}
+				return vetor;
+			}
+			private Class<?> lerClasse() throws IOException, ClassNotFoundException {
+				long codigo = lerVarLong();
+				if (codigo == 0) {
+					Class<?> classe = carregarClasse(lerTexto());
+					classes.add(classe);
+					return classe;
+				}
+				if ((codigo & 1) == 1) {
+					return classes.get((int) (codigo >>> 1));
+				}
+				Class<?> classe = classesRegistradas.get((int) ((codigo - 2) >>> 1));
+				if (classe == null) {
+					throw new ClassNotFoundException("Nenhuma classe registrada com o identificador " + ((codigo - 2) >>> 1) + ".");
+				}
+				return classe;
+			}
+			private <O> O registrar(O objeto) {
+				objetos.add(objeto);
+				return objeto;
+			}
+			private String lerTexto() throws IOException {
+				int tamanho = (int) lerVarLong();
+				if (tamanho <= buffer.length) {
+					preencher(tamanho);
+					String texto = new String(buffer, posicao, tamanho, StandardCharsets.UTF_8);
+					posicao += tamanho;
+					return texto;
+				}
+				byte[] bytes = new byte[tamanho];
+				lerBytesBrutos(bytes);
+				return new String(bytes, StandardCharsets.UTF_8);
+			}
+			private byte[] lerBytes() throws IOException {
+				byte[] bytes = new byte[(int) lerVarLong()];
+				lerBytesBrutos(bytes);
+				return bytes;
+			}
+			private void lerBytesBrutos(byte[] bytes) throws IOException {
+				int disponiveis = Math.min(limite - posicao, bytes.length);
+				System.arraycopy(buffer, posicao, bytes, 0, disponiveis);
+				posicao += disponiveis;
+				if (disponiveis < bytes.length) {
+					new DataInputStream(entrada).readFully(bytes, disponiveis, bytes.length - disponiveis);
+				}
+			}
+			private int lerByte() throws IOException {
+				if (posicao == limite) {
+					preencher(1);
+				}
+				return buffer[posicao++] & 0xFF;
+			}
+			private long lerVarLong() throws IOException {
+				long valor = 0;
+				for (int deslocamento = 0; deslocamento < 64; deslocamento += 7) {
+					int lido = lerByte();
+					valor |= (long) (lido & 0x7F) << deslocamento;
+					if ((lido & 0x80) == 0) {
+						return valor;
+					}
+				}
+				throw new StreamCorruptedException("Varint inválido.");
+			}
+			private int lerInteiroFixo() throws IOException {
+				preencher(4);
+				int valor = 0;
+				for (int indice = 0; indice < 4; indice++) {
+					valor = (valor << 8) | (buffer[posicao++] & 0xFF);
+				}
+				return valor;
+			}
+			private long lerLongoFixo() throws IOException {
+				preencher(8);
+				long valor = 0;
+				for (int indice = 0; indice < 8; indice++) {
+					valor = (valor << 8) | (buffer[posicao++] & 0xFF);
+				}
+				return valor;
+			}
+			/**
+			 * Garante a quantidade de bytes informada no buffer.
+			 */
+			private void preencher(int quantidade) throws IOException {
+				if ((limite - posicao) >= quantidade) {
+					return;
+				}
+				System.arraycopy(buffer, posicao, buffer, 0, limite - posicao);
+				limite -= posicao;
+				posicao = 0;
+				while (limite < quantidade) {
+					int lidos = entrada.read(buffer, limite, buffer.length - limite);
+					if (lidos < 0) {
+						throw new EOFException("Fim inesperado dos dados codificados.");
+					}
+					limite += lidos;
+				}
+			}
+		}
+	}
+	/**
+	 * Interface para criação e execução de transações atômicas, consistentes, isoladas e duráveis que atualizam o estado do seu modelo. Podem ser utilizadas para consultas síncronas e devem 
+	 * ser utilizadas para atualizar o modelo (pojoUnico).  Exceptions relacionadas a transação utilizam o método toString em seu detalhamento. Transações além de serializáveis precisam ser 
+	 * repetíveis após sua desserialização, desta forma, garanta que a implementação de transações que alterem dados sejam autocontidas para correta serialização.<br>
+	 * <b>Durante o crescimento do seu sistema, recomendo que transações já executadas não sejam alteradas, crie uma nova classe para uma transação nova, mantendo antiga dentro do sistema.</b>
+	 * @param <R> Tipo de retorno após execução.
+	 * @param <T> Seu modelo de dados mantido em memória e sistema de arquivo.
+	 * @param <E> Sua exception que pode ser lançada no processo de validação pré execução.
+	 */
+	public abstract interface Transacao <T extends Serializable, E extends Throwable> {
+		/**
+		 * Devido ao processo de reversão (roolback) ser lento consumir memória, e também a gravação de transações custosa, a implementação deste método é útil para verificar pré-condições 
+		 * que invalidem a execução da transação, levantar uma exception dentro deste método não implica em reversão da base, apenas impede a execução da transação. A validação, assim como 
+		 * executar, é executada em um bloco sincronizado, desta forma você pode ter certeza do isolamento e da consistência de sua validação.<br>
+		 * OBS: não alterar dados do seu modelo neste método, e muito menos fora de transações! Aqui é o momento para impedir a execução de uma transação lançando sua Exception, não deixe 
+		 * para abortar uma transação dentro do método executar, pois, no método executar um arquivo de transação já foi gravado e a base passará por reversão. Também evite retornos
+		 * sem alterar o estado do seu modelo, isso degrada o desempenho com carregamento de transações inúteis.<br>
+		 * A transação é serializada antes da validação, fora do bloco sincronizado, desta forma atributos atribuídos neste método não são gravados e não estarão disponíveis 
+		 * quando a transação for reexecutada a partir do sistema de arquivos.
+		 * @param pojoUnico Seu modelo de dados.
+		 * @throws E Sua lógica de negócio, ao identificar um impeditivo na execução, deve lançar uma exception abortando a execução da transação.
+		 */
+		void validar(T pojoRegistro) throws E;		
+	}	
+	/**
+	 * Interface para criação e execução de transações ACID com retorno.
+	 * @param <R> O tipo de retorno.
+	 * @param <T> O tipo do seu modelo (pojoRegistro).
+	 * @param <E> O tipo de exception que sua validação pode levantar.
+	 */
+	public interface TransacaoComRetorno <R, T extends Serializable, E extends Throwable> extends Transacao<T, E>, Serializable {
+		/**
+		 * Os atributos (serializáveis) da sua instância de transação devem ser utilizados dentro deste método para atualização de seu modelo. 
+		 * Este método, em conjunto com validar, são executados de forma síncrona para garantir atomicidade e isolamento.<br>
+		 * Caso um erro ocorra nesta fase a base será revertida para última versão válida, ou seja ela será recarregada do sistema arquivos, assim a reversão consumirá o 
+		 * mesmo tempo que a inicialização. Alteração no modelo só pode ocorrer dentro da implementação deste método, após o retorno, fora deste método, se 
+		 * ocorrer qualquer atualização no modelo, o novo estado não estará gravado em sistema de arquivos, invalidando transações sequentes.<br>
+		 * OBS: não abortar a transação dentro da implementação deste método com returns, exceptions ou qualquer outro artifício, se precisar aborte a transação durante a validação.
+		 * @param pojoUnico O modelo mantido em memória.
+		 * @return Seu retorno.
+		 */
+		R executar(T pojoRegistro);
+	}
+	/**
+	 * Interface para criação e execução de transações ACID sem retorno.
+	 * @param <T> Seu modelo de dados mantido em memória e sistema de arquivo.
+	 * @param <E> Sua exception que pode ser lançada no processo de validação pré execução.
+	 */
+	public interface TransacaoSemRetorno <T extends Serializable, E extends Throwable> extends Transacao<T, E>, Serializable {
+		/**
+		 * Mesmos requisitos de transação com retorno para ser executada, mas não tem retorno.
+		 * @see TransacaoComRetorno
+		 * @param pojoUnico O modelo mantido em memória.
+		 */
+		void executar(T pojoUnico);
+	}	
+	/**
+	 * Interface para criação e execução de consultas. OBS: não faça atribuições nos objetos retornados pela sua pesquisa!
+	 * @param <R> Seu tipo de retorno
+	 * @param <T> Seu modelo de dados mantido em memória e sistema de arquivo.
+	 */
+	public interface Consulta<R, T extends Serializable> {
+		R executar(T pojoUnico);
+		/**
+		 * Isolamento desta consulta, NULL utiliza o isolamento configurado. Só tem efeito quando o isolamento configurado for OTIMISTA ou BLOQUEIO_LEITURA, pois somente 
+		 * assim as transações bloqueiam o modelo durante suas alterações. Ex: OTIMISTA para consultas curtas e BLOQUEIO_LEITURA para consultas longas que não devem ser 
+		 * repetidas. Com MULTIVERSAO todas as consultas utilizam a versão publicada.
+		 */
+		default IsolamentoConsulta getIsolamento() {
+			return null;
+		}
+		/**
+		 * Tempo limite desta consulta em milissegundos, NULL utiliza o tempo limite configurado.
+		 * @see MiniPrevalencia#verificarCancelamentoConsulta()
+		 */
+		default Long getMilissegundosLimite() {
+			return null;
+		}
+	}
+	/**
+	 * Consulta cujo resultado é uma função pura do modelo, mantido no cache de consultas (Configurador.getTamanhoCacheConsultas) e reutilizado por consultas iguais 
+	 * (equals e hashCode) enquanto nenhuma transação alterar o modelo. Implemente equals e hashCode com todos os parâmetros da consulta e não os altere após a execução,
+	 * a própria consulta é a chave do cache. O resultado mantido é a cópia protegida do retorno, cada chamada recebe sua própria cópia.
+	 * @param <R> Tipo de retorno da consulta.
+	 * @param <T> Tipo do modelo.
+	 */
+	public interface ConsultaCacheavel<R, T extends Serializable> extends Consulta<R, T> {
+	}
+	/**
+	 * Métricas do cache de consultas desde a criação da instância de prevalência.
+	 */
+	public static class MetricasCacheConsultas {
+		private final long acertos;
+		private final long faltas;
+		private final long remocoes;
+		private final long invalidacoes;
+		private final int tamanho;
+
+		private MetricasCacheConsultas(long acertos, long faltas, long remocoes, long invalidacoes, int tamanho) {
+			this.acertos = acertos;
+			this.faltas = faltas;
+			this.remocoes = remocoes;
+			this.invalidacoes = invalidacoes;
+			this.tamanho = tamanho;
+		}
+		/**
+		 * @return Consultas respondidas pelo cache.
+		 */
+		public long getAcertos() {
+			return acertos;
+		}
+		/**
+		 * @return Consultas executadas no modelo por não haver resultado válido no cache.
+		 */
+		public long getFaltas() {
+			return faltas;
+		}
+		/**
+		 * @return Resultados removidos pela política de remoção para liberar espaço.
+		 */
+		public long getRemocoes() {
+			return remocoes;
+		}
+		/**
+		 * @return Consultas que encontraram no cache somente o resultado de uma versão anterior do modelo, alterada por transações.
+		 */
+		public long getInvalidacoes() {
+			return invalidacoes;
+		}
+		/**
+		 * @return Quantidade de resultados no cache, válidos ou ainda não descartados.
+		 */
+		public int getTamanho() {
+			return tamanho;
+		}
+		/**
+		 * @return Proporção de acertos entre 0 e 1, zero sem consultas.
+		 */
+		public double getTaxaAcertos() {
+			long total = acertos + faltas;
+			return (total == 0) ? 0 : (double) acertos / total;
+		}
+	}
+	/**
+	 * Cancelamento cooperativo de uma consulta em execução, cancelada ao exceder o tempo limite ou pelo cancelamento do futuro da execução assíncrona. A consulta 
+	 * deve verificá-lo periodicamente, a thread da consulta é obtida com MiniPrevalencia.obterCancelamentoConsulta(); as threads de um parallelStream não o 
+	 * herdam, assim obtenha-o antes do parallelStream e utilize o mesmo objeto dentro dele.
+	 */
+	public static class CancelamentoConsulta {
+		private final long prazoNanos;
+		private volatile boolean cancelada = false;
+
+		private CancelamentoConsulta(Long milissegundosLimite) {
+			this.prazoNanos = (milissegundosLimite != null) ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(milissegundosLimite) : 0;
+		}
+		private void cancelar() {
+			cancelada = true;
+		}
+		/**
+		 * @return TRUE caso a consulta tenha sido cancelada ou excedido seu tempo limite.
+		 */
+		public boolean isCancelada() {
+			if (!cancelada && (prazoNanos != 0) && (System.nanoTime() - prazoNanos > 0)) {
+				cancelada = true;
+			}
+			return cancelada;
+		}
+		/**
+		 * Interrompe a consulta caso ela tenha sido cancelada.
+		 * @throws ConsultaCanceladaException Caso a consulta tenha sido cancelada ou excedido seu tempo limite.
+		 */
+		public void verificar() throws ConsultaCanceladaException {
+			if (isCancelada()) {
+				throw new ConsultaCanceladaException("Consulta cancelada ou com tempo limite excedido.");
+			}
+		}
+		private long obterNanosRestantes() {
+			return (prazoNanos != 0) ? Math.max(prazoNanos - System.nanoTime(), 0) : Long.MAX_VALUE;
+		}
+	}
+	/**
+	 * Interface para observadores monitorarem transações executadas.
+	 */
+	public interface Observador <T extends Serializable> {
+		void receberAvisoExecucao(Transacao<T, ? extends Throwable> transacao);
+	}
+	/**
+	 * Marcador para transações que registram a reversão de cada alteração feita no modelo. Caso a execução falhe, as reversões são executadas em memória na ordem inversa, em tempo
+	 * proporcional ao trabalho feito pela transação, sem recarregar todo o modelo do sistema de arquivos. A recarga completa continua sendo utilizada se alguma reversão falhar.<br>
+	 * <b>Toda alteração deve ser feita através das coleções reversíveis (ListaReversivel, ListaIndexada, MapaReversivel, ConjuntoReversivel) ou registrada com MiniPrevalencia.registrarReversao, 
+	 * uma alteração não registrada permanece no modelo após a reversão.</b>
+	 */
+	public interface TransacaoReversivel {
+	}
+	/**
+	 * Transação cuja validação é executada fora do bloco sincronizado, sobre uma versão do modelo que nenhuma transação alterou durante a validação. Na confirmação,
+	 * dentro do bloco sincronizado, as chaves de versão declaradas são conferidas: caso uma transação otimista com alguma das chaves, ou qualquer transação não otimista,
+	 * tenha sido confirmada após a versão validada, a validação é repetida. Esgotadas as tentativas (Configurador.getTentativasTransacaoOtimista) a transação é validada
+	 * dentro do bloco sincronizado, como as demais. Indicada para validações longas que hoje ocupam o bloco sincronizado.<br>
+	 * <b>As chaves devem identificar todos os dados lidos pela validação e alterados pela execução (ex: ids das entidades), e a validação não pode alterar o modelo.</b>
+	 * Transações executadas de forma assíncrona são sempre validadas dentro do bloco sincronizado.
+	 */
+	public interface TransacaoOtimista {
+		Collection<?> getChavesVersao();
+	}
+	/**
+	 * Resultado de uma transação executada em lote, contém o retorno da transação ou a exception da sua validação.
+	 * @see MiniPrevalencia#executarLote(List)
+	 */
+	public static class ResultadoTransacaoLote {
+		private final Object retorno;
+		private final Throwable erro;
+
+		private ResultadoTransacaoLote(Object retorno, Throwable erro) {
+			this.retorno = retorno;
+			this.erro = erro;
+		}
+		/**
+		 * @return TRUE caso a transação tenha sido validada e executada, FALSE caso sua validação tenha lançado uma exception.
+		 */
+		public boolean isExecutada() {
+			return erro == null;
+		}
+		/**
+		 * @param <R> Tipo de retorno da transação.
+		 * @return O retorno da transação, NULL para transações sem retorno ou recusadas pela validação.
+		 */
+		@SuppressWarnings("unchecked")
+		public <R> R getRetorno() {
+			return (R) retorno;
+		}
+		/**
+		 * @return A exception lançada pela validação da transação, NULL caso tenha sido executada.
+		 */
+		public Throwable getErro() {
+			return erro;
+		}
+	}
+	/**
+	 * Transações e consultas de um modelo particionado declaram a chave que define sua partição. A partição é obtida pelo hashCode da chave, que deve ser estável entre 
+	 * execuções da JVM (ex: String, Long, UUID, records destes tipos), pois define onde a transação foi gravada.
+	 * @see PrevalenciaParticionada
+	 */
+	public interface Particionada {
+		Object getChaveParticao();
+	}
+	/**
+	 * Prevalência de um modelo dividido em partições independentes, cada uma com seu próprio modelo, bloco sincronizado, jornal, arquivo acelerador e réplicas, gravadas 
+	 * em [diretório]/[modelo]/PARTICOES/[índice]. Transações de partições diferentes são executadas em paralelo e o carregamento das partições também ocorre em paralelo.<br>
+	 * Cada transação (Particionada) altera somente sua partição, não há atomicidade entre partições. A quantidade de partições é definida na criação da base e não pode
+	 * ser alterada depois, pois as transações gravadas seriam direcionadas para outras partições.
+	 * @param <M> Tipo do modelo de cada partição.
+	 */
+	public static class PrevalenciaParticionada<M extends Serializable> {
+		private static final String DIRETORIO_PARTICOES = "PARTICOES";
+		private static final String ARQUIVO_QUANTIDADE = "QUANTIDADE";
+		private static final Map<Class<? extends Serializable>, PrevalenciaParticionada<?>> mapaParticionadas = new HashMap<Class<? extends Serializable>, PrevalenciaParticionada<?>>();
+		private final Class<M> tipoRegistro;
+		private final List<MiniPrevalencia<M>> particoes;
+
+		private PrevalenciaParticionada(Class<M> tipoRegistro, List<MiniPrevalencia<M>> particoes) {
+			this.tipoRegistro = tipoRegistro;
+			this.particoes = particoes;
+		}
+		/**
+		 * Obtém a prevalência particionada do modelo, carregando todas as partições em paralelo na primeira chamada. A configuração é a mesma de MiniPrevalencia.prevalecer 
+		 * e se aplica a cada partição.
+		 * @param <Z> A classe do modelo de cada partição.
+		 * @param tipoRegistro Tipo do modelo, um POJO serializável com construtor padrão.
+		 * @param quantidadeParticoes Quantidade de partições, deve ser a mesma utilizada na criação da base.
+		 * @return A prevalência particionada com todas as partições carregadas.
+		 * @throws LeituraEmDiscoException Caso alguma partição não possa ser carregada.
+		 */
+		@SuppressWarnings("unchecked")
+		public static <Z extends Serializable> PrevalenciaParticionada<Z> prevalecer(Class<Z> tipoRegistro, int quantidadeParticoes) throws LeituraEmDiscoException {
+			if (quantidadeParticoes < 1) {
+				throw new IllegalArgumentException("A quantidade de partições deve ser maior que zero.");
+			}
+			synchronized (MiniPrevalencia.class) {
+				aplicarConfiguracao();
+				PrevalenciaParticionada<Z> particionada = (PrevalenciaParticionada<Z>) mapaParticionadas.get(tipoRegistro);
+				if (particionada != null) {
+					if (particionada.particoes.size() != quantidadeParticoes) {
+						throw new IllegalArgumentException("O modelo " + tipoRegistro.getName() + " já foi iniciado com " + particionada.particoes.size() + " partições.");
+					}
+					particionada.particoes.get(0).validarFinalizacao();
+					return particionada;
+				}
+				validarQuantidadeParticoes(tipoRegistro, quantidadeParticoes);
+				List<CompletableFuture<MiniPrevalencia<Z>>> carregamentos = new ArrayList<CompletableFuture<MiniPrevalencia<Z>>>();
+				for (int indice = 0; indice < quantidadeParticoes; indice++) {
+					MiniPrevalencia<Z> particao = new MiniPrevalencia<Z>(tipoRegistro, indice);
+					carregamentos.add(CompletableFuture.supplyAsync(() -> {
+						particao.iniciar();
+						return particao;
+					}));
+				}
+				List<MiniPrevalencia<Z>> particoes = new ArrayList<MiniPrevalencia<Z>>();
+				Throwable erro = null;
+				for (CompletableFuture<MiniPrevalencia<Z>> carregamento : carregamentos) {
+					try {
+						particoes.add(carregamento.join());
+					} catch (CompletionException e) {
+						erro = (erro == null) ? e.getCause() : erro;
+					}
+				}
+				if (erro != null) {
+					particoes.forEach(MiniPrevalencia::finalizarPrevalencia);
+					throw (erro instanceof LeituraEmDiscoException) ? (LeituraEmDiscoException) erro 
+							: new LeituraEmDiscoException("Erro ao carregar as partições do modelo " + tipoRegistro.getName(), erro);
+				}
+				particionada = new PrevalenciaParticionada<Z>(tipoRegistro, Collections.unmodifiableList(particoes));
+				mapaParticionadas.put(tipoRegistro, particionada);
+				return particionada;
+			}
+		}
+		/**
+		 * Grava a quantidade de partições na criação da base ou verifica se é a mesma da base existente.
+		 */
+		private static void validarQuantidadeParticoes(Class<? extends Serializable> tipoRegistro, int quantidadeParticoes) throws LeituraEmDiscoException {
+			File diretorioParticoes = new File(new File(diretorio, tipoRegistro.getCanonicalName()), DIRETORIO_PARTICOES);
+			File arquivoQuantidade = new File(diretorioParticoes, ARQUIVO_QUANTIDADE);
+			try {
+				if (arquivoQuantidade.exists()) {
+					int quantidadeGravada = Integer.parseInt(new String(Files.readAllBytes(arquivoQuantidade.toPath()), StandardCharsets.UTF_8).trim());
+					if (quantidadeGravada != quantidadeParticoes) {
+						throw new IllegalArgumentException("A base do modelo " + tipoRegistro.getName() + " foi criada com " + quantidadeGravada + " partições, não é possível utilizar " 
+								+ quantidadeParticoes + ".");
+					}
+				} else if (!replica) {
+					Files.createDirectories(diretorioParticoes.toPath());
+					Files.write(arquivoQuantidade.toPath(), String.valueOf(quantidadeParticoes).getBytes(StandardCharsets.UTF_8));
+				}
+			} catch (IOException | NumberFormatException e) {
+				throw new LeituraEmDiscoException("Erro ao ler a quantidade de partições do arquivo " + arquivoQuantidade, e);
+			}
+		}
+		public int getQuantidadeParticoes() {
+			return particoes.size();
+		}
+		/**
+		 * Índice da partição da chave informada.
+		 * @param chave Chave de partição, NULL pertence à partição zero.
+		 * @return Índice entre zero e a quantidade de partições menos um.
+		 */
+		public int obterIndiceParticao(Object chave) {
+			return Math.floorMod(Objects.hashCode(chave), particoes.size());
+		}
+		/**
+		 * Obtém a prevalência de uma partição, para operações que não declaram sua chave de partição (ex: observadores, métricas e consultas na partição).
+		 * @param indice Índice da partição.
+		 */
+		public MiniPrevalencia<M> obterParticao(int indice) {
+			return particoes.get(indice);
+		}
+		private MiniPrevalencia<M> obterParticao(Object operacao) {
+			if (!(operacao instanceof Particionada)) {
+				throw new IllegalArgumentException("A operação " + operacao + " deve implementar Particionada para ser executada no modelo particionado " + tipoRegistro.getName() + ".");
+			}
+			return particoes.get(obterIndiceParticao(((Particionada) operacao).getChaveParticao()));
+		}
+		/**
+		 * Executa a transação com retorno na partição da sua chave, em paralelo com transações de outras partições.
+		 * @see MiniPrevalencia#executar(TransacaoComRetorno)
+		 */
+		public <R, E extends Throwable> R executar(TransacaoComRetorno<R, M, E> transacao) throws E, GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
+			return obterParticao(transacao).executar(transacao);
+		}
+		/**
+		 * Executa a transação sem retorno na partição da sua chave, em paralelo com transações de outras partições.
+		 * @see MiniPrevalencia#executar(TransacaoSemRetorno)
+		 */
+		public <E extends Throwable> void executar(TransacaoSemRetorno<M, E> transacao) throws E, GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
+			obterParticao(transacao).executar(transacao);
+		}
+		/**
+		 * @see MiniPrevalencia#executarAssincrono(TransacaoComRetorno)
+		 */
+		public <R, E extends Throwable> CompletableFuture<R> executarAssincrono(TransacaoComRetorno<R, M, E> transacao) throws GravacaoEmDiscoException {
+			return obterParticao(transacao).executarAssincrono(transacao);
+		}
+		/**
+		 * @see MiniPrevalencia#executarAssincrono(TransacaoSemRetorno)
+		 */
+		public <E extends Throwable> CompletableFuture<Void> executarAssincrono(TransacaoSemRetorno<M, E> transacao) throws GravacaoEmDiscoException {
+			return obterParticao(transacao).executarAssincrono(transacao);
+		}
+		/**
+		 * Executa as transações (Particionada) em um lote por partição, cada lote com um único registro no jornal da sua partição. Não há atomicidade entre partições: 
+		 * um erro de execução reverte somente o lote da partição, os lotes de partições já executadas permanecem.
+		 * @return Os resultados na ordem das transações.
+		 * @see MiniPrevalencia#executarLote(List)
+		 */
+		public List<ResultadoTransacaoLote> executarLote(List<? extends Transacao<M, ? extends Throwable>> transacoes) throws GravacaoEmDiscoException, LeituraEmDiscoException, 
+				ExecucaoTransacaoException {
+			Map<MiniPrevalencia<M>, List<Integer>> indicesPorParticao = new LinkedHashMap<MiniPrevalencia<M>, List<Integer>>();
+			for (int indice = 0; indice < transacoes.size(); indice++) {
+				indicesPorParticao.computeIfAbsent(obterParticao(transacoes.get(indice)), particao -> new ArrayList<Integer>()).add(indice);
+			}
+			ResultadoTransacaoLote[] resultados = new ResultadoTransacaoLote[transacoes.size()];
+			for (Map.Entry<MiniPrevalencia<M>, List<Integer>> entrada : indicesPorParticao.entrySet()) {
+				List<Transacao<M, ? extends Throwable>> lote = new ArrayList<Transacao<M, ? extends Throwable>>();
+				entrada.getValue().forEach(indice -> lote.add(transacoes.get(indice)));
+				List<ResultadoTransacaoLote> resultadosParticao = entrada.getKey().executarLote(lote);
+				for (int posicao = 0; posicao < lote.size(); posicao++) {
+					resultados[entrada.getValue().get(posicao)] = resultadosParticao.get(posicao);
+				}
+			}
+			return Arrays.asList(resultados);
+		}
+		/**
+		 * Executa a consulta (Particionada) somente na partição da sua chave.
+		 * @see MiniPrevalencia#executar(Consulta)
+		 */
+		public <R> R executar(Consulta<R, M> consulta) throws ConsultaCanceladaException {
+			return obterParticao(consulta).executar(consulta);
+		}
+		/**
+		 * Executa a consulta em todas as partições em paralelo, cada partição com o isolamento configurado. Os resultados não formam um instantâneo único do modelo, 
+		 * transações concluídas durante a execução podem ser vistas por algumas partições e não por outras.
+		 * @return Os resultados na ordem das partições.
+		 */
+		public <R> List<R> executarEmTodas(Consulta<R, M> consulta) throws ConsultaCanceladaException {
+			List<CompletableFuture<R>> execucoes = new ArrayList<CompletableFuture<R>>();
+			for (MiniPrevalencia<M> particao : particoes) {
+				execucoes.add(particao.executarAssincrono(consulta));
+			}
+			List<R> resultados = new ArrayList<R>();
+			for (CompletableFuture<R> execucao : execucoes) {
+				try {
+					resultados.add(execucao.join());
+				} catch (CompletionException e) {
+					execucoes.forEach(outra -> outra.cancel(true));
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					}
+					throw e;
+				}
+			}
+			return resultados;
+		}
+		/**
+		 * Obtém um número sequencial para a classe de entidade informada, único entre todas as partições (mantido na partição zero).
+		 * @see MiniPrevalencia#obterProximoIdSequencial(Class)
+		 */
+		public <Z extends Serializable> Long obterProximoIdSequencial(Class<Z> classe) throws GravacaoEmDiscoException, LeituraEmDiscoException {
+			return particoes.get(0).obterProximoIdSequencial(classe);
+		}
+		/**
+		 * Finaliza todas as partições.
+		 * @see MiniPrevalencia#finalizarPrevalencia()
+		 */
+		public void finalizarPrevalencia() {
+			synchronized (MiniPrevalencia.class) {
+				mapaParticionadas.remove(tipoRegistro, this);
+			}
+			particoes.forEach(MiniPrevalencia::finalizarPrevalencia);
+		}
+	}
+	/**
+	 * Lista (ArrayList) que registra a reversão de suas alterações durante a execução de transações reversíveis. Fora delas funciona como uma lista comum.
+	 * @param <E> Tipo dos elementos.
+	 */
+	public static class ListaReversivel<E> extends AbstractList<E> implements RandomAccess, Serializable {
+		private static final long serialVersionUID = 1L;
+		private final ArrayList<E> elementos;
+		public ListaReversivel() {
+			elementos = new ArrayList<E>();
+		}
+		public ListaReversivel(Collection<? extends E> colecao) {
+			elementos = new ArrayList<E>(colecao);
+		}
+		@Override
+		public E get(int indice) {
+			return elementos.get(indice);
+		}
+		@Override
+		public int size() {
+			return elementos.size();
+		}
+		@Override
+		public E set(int indice, E elemento) {
+			E anterior = elementos.set(indice, elemento);
+			registrarReversao(() -> elementos.set(indice, anterior));
+			return anterior;
+		}
+		@Override
+		public void add(int indice, E elemento) {
+			elementos.add(indice, elemento);
+			modCount++;
+			registrarReversao(() -> elementos.remove(indice));
+		}
+		@Override
+		public E remove(int indice) {
+			E removido = elementos.remove(indice);
+			modCount++;
+			registrarReversao(() -> elementos.add(indice, removido));
+			return removido;
+		}
+		@Override
+		public void clear() {
+			ArrayList<E> anteriores = new ArrayList<E>(elementos);
+			elementos.clear();
+			modCount++;
+			registrarReversao(() -> elementos.addAll(anteriores));
+		}
+	}
+	/**
+	 * Mapa (HashMap) que registra a reversão de suas alterações durante a execução de transações reversíveis. As visões keySet, values e entrySet são somente leitura.
+	 * @param <K> Tipo das chaves.
+	 * @param <V> Tipo dos valores.
+	 */
+	public static class MapaReversivel<K, V> extends AbstractMap<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private final HashMap<K, V> mapa = new HashMap<K, V>();
+		@Override
+		public V get(Object chave) {
+			return mapa.get(chave);
+		}
+		@Override
+		public boolean containsKey(Object chave) {
+			return mapa.containsKey(chave);
+		}
+		@Override
+		public int size() {
+			return mapa.size();
+		}
+		@Override
+		public V put(K chave, V valor) {
+			boolean existia = mapa.containsKey(chave);
+			V anterior = mapa.put(chave, valor);
+			registrarReversao(existia ? () -> mapa.put(chave, anterior) : () -> mapa.remove(chave));
+			return anterior;
+		}
+		@Override
+		@SuppressWarnings("unchecked")
+		public V remove(Object chave) {
+			if (!mapa.containsKey(chave)) {
+				return null;
+			}
+			V anterior = mapa.remove(chave);
+			registrarReversao(() -> mapa.put((K) chave, anterior));
+			return anterior;
+		}
+		@Override
+		public void clear() {
+			HashMap<K, V> anteriores = new HashMap<K, V>(mapa);
+			mapa.clear();
+			registrarReversao(() -> mapa.putAll(anteriores));
+		}
+		@Override
+		public Set<Map.Entry<K, V>> entrySet() {
+			return Collections.unmodifiableMap(mapa).entrySet();
+		}
+	}
+	/**
+	 * Conjunto (HashSet) que registra a reversão de suas alterações durante a execução de transações reversíveis. O iterador é somente leitura.
+	 * @param <E> Tipo dos elementos.
+	 */
+	public static class ConjuntoReversivel<E> extends AbstractSet<E> implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private final HashSet<E> elementos = new HashSet<E>();
+		@Override
+		public boolean contains(Object elemento) {
+			return elementos.contains(elemento);
+		}
+		@Override
+		public int size() {
+			return elementos.size();
+		}
+		@Override
+		public boolean add(E elemento) {
+			if (!elementos.add(elemento)) {
+				return false;
+			}
+			registrarReversao(() -> elementos.remove(elemento));
+			return true;
+		}
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean remove(Object elemento) {
+			if (!elementos.remove(elemento)) {
+				return false;
+			}
+			registrarReversao(() -> elementos.add((E) elemento));
+			return true;
+		}
+		@Override
+		public void clear() {
+			HashSet<E> anteriores = new HashSet<E>(elementos);
+			elementos.clear();
+			registrarReversao(() -> elementos.addAll(anteriores));
+		}
+		@Override
+		public Iterator<E> iterator() {
+			return Collections.unmodifiableSet(elementos).iterator();
+		}
+	}
+	/**
+	 * Extrai a chave de um elemento para um índice da ListaIndexada. A declaração do índice é gravada com o modelo, por isso o extrator é serializável: referências de método
+	 * e lambdas atribuídas a esta interface já são.
+	 * @param <E> Tipo dos elementos.
+	 * @param <K> Tipo da chave.
+	 */
+	public interface ExtratorChave<E, K> extends Function<E, K>, Serializable {
+	}
+	/**
+	 * Lista (ArrayList) com índices secundários mantidos a cada alteração, para consultas por chave em tempo proporcional ao resultado em vez de percorrer todos os elementos.
+	 * Os índices são declarados por nome e extrator de chave, com hash (indexar) ou ordenados (indexarOrdenado). Somente a declaração é gravada com o modelo: cada índice é 
+	 * construído na sua primeira busca após a carga, e até lá as alterações não pagam por sua manutenção. Registra a reversão de suas alterações durante a execução de 
+	 * transações reversíveis, como a ListaReversivel.<br>
+	 * As buscas e as alterações são sincronizadas na lista, pois consultas executam em paralelo às transações. <b>A construção de um índice percorre todos os elementos 
+	 * (O(N)) e bloqueia as alterações da lista enquanto isso, para não pagar na primeira consulta chame construirIndices ao final da carga do modelo.</b><br>
+	 * Elementos com chave nula não entram no índice. <b>A chave de um elemento não deve mudar enquanto ele estiver na lista, caso mude chame reindexar dentro da transação.</b>
+	 * @param <E> Tipo dos elementos.
+	 */
+	public static class ListaIndexada<E> extends AbstractList<E> implements RandomAccess, Serializable {
+		private static final long serialVersionUID = 1L;
+		private final ArrayList<E> elementos;
+		private final LinkedHashMap<String, DefinicaoIndice<E>> definicoes = new LinkedHashMap<String, DefinicaoIndice<E>>();
+		private transient Map<String, Map<Object, List<E>>> indices;//Somente os índices já construídos, sincronizado na lista
+		public ListaIndexada() {
+			elementos = new ArrayList<E>();
+		}
+		public ListaIndexada(Collection<? extends E> colecao) {
+			elementos = new ArrayList<E>(colecao);
+		}
+		/**
+		 * Declara um índice por hash, para buscas pela chave exata.
+		 * @param <K> Tipo da chave, deve implementar equals e hashCode (ou ser comparada por identidade).
+		 * @param nome Nome do índice utilizado nas buscas.
+		 * @param extrator Extrator da chave de cada elemento.
+		 * @throws IllegalArgumentException Caso já exista um índice com este nome.
+		 */
+		public <K> void indexar(String nome, ExtratorChave<E, K> extrator) {
+			declarar(nome, new DefinicaoIndice<E>(extrator, false));
+		}
+		/**
+		 * Declara um índice ordenado pela ordem natural da chave, para buscas pela chave exata e por intervalo.
+		 * @param <K> Tipo da chave.
+		 * @param nome Nome do índice utilizado nas buscas.
+		 * @param extrator Extrator da chave de cada elemento.
+		 * @throws IllegalArgumentException Caso já exista um índice com este nome.
+		 */
+		public <K extends Comparable<? super K>> void indexarOrdenado(String nome, ExtratorChave<E, K> extrator) {
+			declarar(nome, new DefinicaoIndice<E>(extrator, true));
+		}
+		/**
+		 * Busca os elementos cuja chave é igual à informada, sem ordem definida entre eles. A primeira busca do índice o constrói em O(N).
+		 * @param nome Nome do índice.
+		 * @param chave Chave buscada.
+		 * @return Cópia dos elementos encontrados, vazia quando não houver.
+		 * @throws IllegalArgumentException Caso o índice não tenha sido declarado.
+		 */
+		public synchronized List<E> buscar(String nome, Object chave) {
+			List<E> encontrados = obterIndice(nome).get(chave);
+			return (encontrados == null) ? new ArrayList<E>() : new ArrayList<E>(encontrados);
+		}
+		/**
+		 * Busca os elementos cuja chave está no intervalo, ordenados pela chave, sem ordem definida entre elementos de mesma chave. A primeira busca do índice o constrói em O(N).
+		 * @param nome Nome de um índice ordenado.
+		 * @param inicial Chave inicial (inclusiva), NULL para buscar desde a primeira chave.
+		 * @param fim Chave final (exclusiva), NULL para buscar até a última chave.
+		 * @return Cópia dos elementos encontrados, vazia quando não houver.
+		 * @throws IllegalArgumentException Caso o índice não tenha sido declarado ou não seja ordenado.
+		 */
+		public synchronized List<E> buscarIntervalo(String nome, Object inicial, Object fim) {
+			if (definicoes.containsKey(nome) && !definicoes.get(nome).ordenado) {
+				throw new IllegalArgumentException("O índice " + nome + " não é ordenado.");
+			}
+			NavigableMap<Object, List<E>> intervalo = (NavigableMap<Object, List<E>>) obterIndice(nome);
+			if (inicial != null) {
+				intervalo = intervalo.tailMap(inicial, true);
+			}
+			if (fim != null) {
+				intervalo = intervalo.headMap(fim, false);
+			}
+			List<E> encontrados = new ArrayList<E>();
+			intervalo.values().forEach(encontrados::addAll);
+			return encontrados;
+		}
+		/**
+		 * Constrói os índices declarados que ainda não foram construídos, em O(N) cada. Indicado ao final da carga do modelo (ModeloParticionado.reconstituir, por exemplo),
+		 * para que a primeira consulta não pague pela construção nem bloqueie as transações.
+		 */
+		public synchronized void construirIndices() {
+			definicoes.keySet().forEach(this::obterIndice);
+		}
+		/**
+		 * Descarta o conteúdo dos índices, reconstruído na próxima busca. Necessário quando a chave de algum elemento foi alterada sem removê-lo da lista.
+		 */
+		public synchronized void reindexar() {
+			indices = null;
+			registrarReversao(() -> reindexarSemReversao());
+		}
+		@Override
+		public E get(int indice) {
+			return elementos.get(indice);
+		}
+		@Override
+		public int size() {
+			return elementos.size();
+		}
+		@Override
+		public E set(int indice, E elemento) {
+			E anterior = substituir(indice, elemento);
+			registrarReversao(() -> substituir(indice, anterior));
+			return anterior;
+		}
+		@Override
+		public void add(int indice, E elemento) {
+			inserir(indice, elemento);
+			modCount++;
+			registrarReversao(() -> retirar(indice));
+		}
+		@Override
+		public E remove(int indice) {
+			E removido = retirar(indice);
+			modCount++;
+			registrarReversao(() -> inserir(indice, removido));
+			return removido;
+		}
+		@Override
+		public void clear() {
+			ArrayList<E> anteriores = new ArrayList<E>(elementos);
+			synchronized (this) {
+				elementos.clear();
+				indices = null;
+			}
+			modCount++;
+			registrarReversao(() -> restaurar(anteriores));
+		}
+		private synchronized void declarar(String nome, DefinicaoIndice<E> definicao) {
+			if (definicoes.containsKey(nome)) {
+				throw new IllegalArgumentException("O índice " + nome + " já foi declarado.");
+			}
+			definicoes.put(nome, definicao);
+			registrarReversao(() -> descartar(nome));
+		}
+		private synchronized void descartar(String nome) {
+			definicoes.remove(nome);
+			if (indices != null) {
+				indices.remove(nome);
+			}
+		}
+		private synchronized void reindexarSemReversao() {
+			indices = null;
+		}
+		private synchronized void restaurar(List<E> anteriores) {
+			elementos.addAll(anteriores);
+			indices = null;
+		}
+		private synchronized E substituir(int indice, E elemento) {
+			E anterior = elementos.set(indice, elemento);
+			if (indices != null) {
+				indices.forEach((nome, indiceConstruido) -> {
+					definicoes.get(nome).retirar(indiceConstruido, anterior);
+					definicoes.get(nome).inserir(indiceConstruido, elemento);
+				});
+			}
+			return anterior;
+		}
+		private synchronized void inserir(int indice, E elemento) {
+			elementos.add(indice, elemento);
+			if (indices != null) {
+				indices.forEach((nome, indiceConstruido) -> definicoes.get(nome).inserir(indiceConstruido, elemento));
+			}
+		}
+		private synchronized E retirar(int indice) {
+			E removido = elementos.remove(indice);
+			if (indices != null) {
+				indices.forEach((nome, indiceConstruido) -> definicoes.get(nome).retirar(indiceConstruido, removido));
+			}
+			return removido;
+		}
+		/**
+		 * Obtém o conteúdo do índice, construindo somente ele na sua primeira busca. Chamado com a lista sincronizada.
+		 */
+		private Map<Object, List<E>> obterIndice(String nome) {
+			DefinicaoIndice<E> definicao = definicoes.get(nome);
+			if (definicao == null) {
+				throw new IllegalArgumentException("O índice " + nome + " não foi declarado.");
+			}
+			if (indices == null) {
+				indices = new HashMap<String, Map<Object, List<E>>>();
+			}
+			Map<Object, List<E>> indice = indices.get(nome);
+			if (indice == null) {
+				indice = definicao.construir(elementos);
+				indices.put(nome, indice);
+			}
+			return indice;
+		}
+	}
+	/**
+	 * Declaração de um índice da ListaIndexada, gravada com o modelo.
+	 */
+	private static class DefinicaoIndice<E> implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private final ExtratorChave<E, ?> extrator;
+		private final boolean ordenado;
+		private DefinicaoIndice(ExtratorChave<E, ?> extrator, boolean ordenado) {
+			this.extrator = extrator;
+			this.ordenado = ordenado;
+		}
+		private Map<Object, List<E>> construir(List<E> elementos) {
+			Map<Object, List<E>> indice = ordenado ? new TreeMap<Object, List<E>>() : new HashMap<Object, List<E>>();
+			elementos.forEach(elemento -> inserir(indice, elemento));
+			return indice;
+		}
+		private void inserir(Map<Object, List<E>> indice, E elemento) {
+			Object chave = extrator.apply(elemento);
+			if (chave != null) {
+				indice.computeIfAbsent(chave, novaChave -> new ArrayList<E>(2)).add(elemento);
+			}
+		}
+		private void retirar(Map<Object, List<E>> indice, E elemento) {
+			Object chave = extrator.apply(elemento);
+			List<E> encontrados = (chave != null) ? indice.get(chave) : null;
+			if (encontrados == null) {
+				return;
+			}
+			for (int posicao = encontrados.size() - 1; posicao >= 0; posicao--) {
+				if (encontrados.get(posicao) == elemento) {//Por identidade, elementos iguais continuam indexados
+					encontrados.remove(posicao);
+					break;
+				}
+			}
+			if (encontrados.isEmpty()) {
+				indice.remove(chave);
+			}
+		}
+	}
+	/**
+	 * Fases do carregamento do modelo a partir do sistema de arquivos.
+	 */
+	public enum FaseCarregamento {
+		/**
+		 * Leitura e decodificação do arquivo acelerador.
+		 */
+		ACELERADOR,
+		/**
+		 * Reexecução das transações gravadas após o arquivo acelerador.
+		 */
+		TRANSACOES,
+		/**
+		 * Carregamento finalizado.
+		 */
+		CONCLUIDO
+	}
+	/**
+	 * Retrato do progresso do carregamento entregue ao ouvinte de carregamento.
+	 */
+	public static class ProgressoCarregamento {
+		private final FaseCarregamento fase;
+		private final long transacoesExecutadas;
+		private final double transacoesPorSegundo;
+		private final long bytesLidos;
+		private final long bytesTotais;
+		private final Long milissegundosRestantes;
+		private final long milissegundosDecorridos;
+
+		private ProgressoCarregamento(FaseCarregamento fase, long transacoesExecutadas, double transacoesPorSegundo, long bytesLidos, long bytesTotais, Long milissegundosRestantes, long milissegundosDecorridos) {
+			this.fase = fase;
+			this.transacoesExecutadas = transacoesExecutadas;
+			this.transacoesPorSegundo = transacoesPorSegundo;
+			this.bytesLidos = bytesLidos;
+			this.bytesTotais = bytesTotais;
+			this.milissegundosRestantes = milissegundosRestantes;
+			this.milissegundosDecorridos = milissegundosDecorridos;
+		}
+		public FaseCarregamento getFase() {
+			return fase;
+		}
+		/**
+		 * Transações reexecutadas desde o início do carregamento.
+		 */
+		public long getTransacoesExecutadas() {
+			return transacoesExecutadas;
+		}
+		/**
+		 * Média de transações reexecutadas por segundo na fase de transações.
+		 */
+		public double getTransacoesPorSegundo() {
+			return transacoesPorSegundo;
+		}
+		/**
+		 * Bytes lidos na fase corrente.
+		 */
+		public long getBytesLidos() {
+			return bytesLidos;
+		}
+		/**
+		 * Estimativa de bytes da fase corrente, tamanho do arquivo acelerador ou dos segmentos com transações pendentes.
+		 */
+		public long getBytesTotais() {
+			return bytesTotais;
+		}
+		/**
+		 * Estimativa para o término da fase corrente, NULL enquanto não houver dados suficientes.
+		 */
+		public Long getMilissegundosRestantes() {
+			return milissegundosRestantes;
+		}
+		/**
+		 * Tempo desde o início do carregamento.
+		 */
+		public long getMilissegundosDecorridos() {
+			return milissegundosDecorridos;
+		}
+		@Override
+		public String toString() {
+			return "Carregamento " + fase + ": " + transacoesExecutadas + " transações (" + Math.round(transacoesPorSegundo) + "/s), " + bytesLidos + " de " + bytesTotais + " bytes, " 
+					+ ((milissegundosRestantes != null) ? (milissegundosRestantes / 1000) + " s restantes, " : "") + milissegundosDecorridos + " ms decorridos.";
+		}
+	}
+	/**
+	 * Ouvinte do progresso do carregamento, chamado no máximo uma vez por segundo e na troca de fase. A chamada ocorre nas threads de carregamento, implementações devem ser rápidas.
+	 */
+	public interface OuvinteCarregamento {
+		void receberProgresso(ProgressoCarregamento progresso);
+	}
+	/**
+	 * Modelo que grava e lê o arquivo acelerador em partes independentes, codificadas e decodificadas em paralelo. Indicado para modelos grandes, onde um único fluxo de 
+	 * serialização utiliza apenas um núcleo na inicialização.<br>
+	 * <b>Cada parte é codificada separadamente, referências entre objetos de partes diferentes não são preservadas, o objeto referenciado é duplicado na parte que o referencia 
+	 * e o modelo deve restabelecer as referências em reconstituir.</b>
+	 */
+	public interface ModeloParticionado {
+		/**
+		 * Divide o modelo em partes serializáveis, por exemplo os atributos do modelo ou blocos de uma coleção grande. Executado com o modelo bloqueado para transações.
+		 * @return As partes na ordem em que devem ser entregues para reconstituir.
+		 */
+		List<Object> particionar();
+		/**
+		 * Reconstitui o modelo, recém construído pelo construtor padrão, a partir das partes lidas do arquivo acelerador.
+		 * @param partes As partes na mesma ordem de particionar.
+		 */
+		void reconstituir(List<Object> partes);
+	}
+	/**
+	 * Recebe os registros lidos do jornal na ordem em que foram gravados.
+	 */
+	private interface ConsumidorRegistroJornal {
+		void consumir(long numeroTransacao, byte[] transacaoSerializada) throws Exception;
+	}
+	/**
+	 * Manifesto do arquivo acelerador particionado, gravado por último no diretório do acelerador, um diretório sem manifesto é uma gravação incompleta. Na gravação incremental 
+	 * as partes sem alteração continuam no diretório da geração em que foram gravadas e o manifesto referencia esta geração.
+	 */
+	private static class ManifestoAcelerador {
+		private static final String NOME = "MANIFESTO";
+		private static final int MAGICO = 0x4D504D41;//MPMA
+		private static final int VERSAO = 2;
+		private static final String EXTENSAO_PARTE = ".parte";
+		private final long numeroTransacao;
+		private final int gravacoesIncrementais;
+		private final List<ParteAcelerador> partes = new ArrayList<ParteAcelerador>();
+
+		private ManifestoAcelerador(long numeroTransacao, int gravacoesIncrementais) {
+			this.numeroTransacao = numeroTransacao;
+			this.gravacoesIncrementais = gravacoesIncrementais;
+		}
+		private static boolean existe(File diretorio) {
+			return new File(diretorio, NOME).isFile();
+		}
+		private long calcularTamanhoTotal() {
+			return partes.stream().mapToLong(parte -> parte.tamanho).sum();
+		}
+		/**
+		 * Gerações cujos diretórios contém partes referenciadas pelo manifesto.
+		 */
+		private Set<Long> obterGeracoes() {
+			return partes.stream().map(parte -> parte.geracao).collect(Collectors.toSet());
+		}
+		/**
+		 * Grava o manifesto em um arquivo temporário renomeado no final, tornando a gravação do acelerador visível de uma única vez.
+		 */
+		private void gravar(File diretorio) throws IOException {
+			File temporario = new File(diretorio, NOME + ".tmp");
+			try (DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporario)))) {
+				saida.writeInt(MAGICO);
+				saida.writeInt(VERSAO);
+				saida.writeLong(numeroTransacao);
+				saida.writeInt(gravacoesIncrementais);
+				saida.writeInt(partes.size());
+				for (ParteAcelerador parte : partes) {
+					saida.writeLong(parte.geracao);
+					saida.writeUTF(parte.nome);
+					saida.writeLong(parte.tamanho);
+					saida.writeShort(parte.resumo.length);
+					saida.write(parte.resumo);
+				}
+			}
+			Files.move(temporario.toPath(), new File(diretorio, NOME).toPath(), StandardCopyOption.ATOMIC_MOVE);
+		}
+		private static ManifestoAcelerador ler(File diretorio) throws IOException {
+			try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(new FileInputStream(new File(diretorio, NOME))))) {
+				int versao;
+				if ((entrada.readInt() != MAGICO) || ((versao = entrada.readInt()) < 1) || (versao > VERSAO)) {
+					throw new StreamCorruptedException("Manifesto do arquivo acelerador " + diretorio.getName() + " inválido.");
+				}
+				long numeroTransacao = entrada.readLong();
+				ManifestoAcelerador manifesto = new ManifestoAcelerador(numeroTransacao, (versao == 1) ? 0 : entrada.readInt());
+				int quantidade = entrada.readInt();
+				for (int indice = 0; indice < quantidade; indice++) {
+					if (versao == 1) {//Sem gravação incremental, todas partes no próprio diretório
+						manifesto.partes.add(new ParteAcelerador(numeroTransacao, entrada.readUTF(), entrada.readLong(), new byte[0]));
+					} else {
+						long geracao = entrada.readLong();
+						String nome = entrada.readUTF();
+						long tamanho = entrada.readLong();
+						byte[] resumo = new byte[entrada.readUnsignedShort()];
+						entrada.readFully(resumo);
+						manifesto.partes.add(new ParteAcelerador(geracao, nome, tamanho, resumo));
+					}
+				}
+				return manifesto;
+			}
+		}
+	}
+	/**
+	 * Parte do arquivo acelerador particionado registrada no manifesto.
+	 */
+	private static class ParteAcelerador {
+		/**
+		 * Número do diretório acelerador onde a parte foi gravada.
+		 */
+		private final long geracao;
+		private final String nome;
+		private final long tamanho;
+		/**
+		 * Resumo SHA-256 dos bytes codificados, compara a parte com a gravação anterior.
+		 */
+		private final byte[] resumo;
+
+		private ParteAcelerador(long geracao, String nome, long tamanho, byte[] resumo) {
+			this.geracao = geracao;
+			this.nome = nome;
+			this.tamanho = tamanho;
+			this.resumo = resumo;
+		}
+		private File obterArquivo(File diretorioAcelerador) {
+			return new File(new File(diretorioAcelerador, String.valueOf(geracao)), nome);
+		}
+	}
+	/**
+	 * Resultado de uma transação anexada ao jornal, ainda pendente de sincronização com o disco conforme política configurada.
+	 */
+	private static class TransacaoAnexada {
+		private Object retorno;
+		private Transacao<? extends Serializable, ? extends Throwable> transacao;//Somente em lotes, a transação ou o lote gravado
+		private long numeroTransacao;
+		private JornalSegmentado jornal;
+	}
+	/**
+	 * Transação aguardando na fila do escritor assíncrono, já serializada pela thread solicitante.
+	 */
+	private static class PedidoTransacaoAssincrona<T extends Serializable> {
+		private final Transacao<T, ? extends Throwable> transacao;
+		private final byte[] transacaoSerializada;
+		private final CompletableFuture<Object> futuro = new CompletableFuture<Object>();
+		private TransacaoAnexada transacaoAnexada;
+		private Throwable erro;
+		
+		private PedidoTransacaoAssincrona(Transacao<T, ? extends Throwable> transacao, byte[] transacaoSerializada) {
+			this.transacao = transacao;
+			this.transacaoSerializada = transacaoSerializada;
+		}
+	}
+	/**
+	 * Transação aguardando o agrupamento de escrita, já serializada pela thread solicitante. Sem erro e sem transação anexada após a conclusão indica conflito 
+	 * da validação otimista.
+	 */
+	private static class PedidoAgrupamento {
+		private final Transacao<? extends Serializable, ? extends Throwable> transacao;
+		private final byte[] transacaoSerializada;
+		private final long versaoValidada;
+		private final Thread chamadora = Thread.currentThread();
+		private volatile boolean concluido = false;
+		private TransacaoAnexada transacaoAnexada;
+		private List<Runnable> reversoes;
+		private Throwable erro;
+
+		private PedidoAgrupamento(Transacao<? extends Serializable, ? extends Throwable> transacao, byte[] transacaoSerializada, long versaoValidada) {
+			this.transacao = transacao;
+			this.transacaoSerializada = transacaoSerializada;
+			this.versaoValidada = versaoValidada;
+		}
+	}
+	/**
+	 * Registro no jornal de um lote de transações: somente as transações aceitas pela validação, já serializadas, reexecutadas em sequência com um único número de 
+	 * transação. As transações são decodificadas na primeira execução, assim cada cópia do modelo (MULTIVERSAO) recebe seus próprios objetos.
+	 */
+	private static class LoteTransacoes<T extends Serializable> implements TransacaoSemRetorno<T, RuntimeException> {
+		private static final long serialVersionUID = 1L;
+		private final byte[][] transacoesSerializadas;
+		private transient List<Transacao<T, ? extends Throwable>> transacoes;
+
+		private LoteTransacoes(byte[][] transacoesSerializadas, List<Transacao<T, ? extends Throwable>> transacoes) {
+			this.transacoesSerializadas = transacoesSerializadas;
+			this.transacoes = transacoes;
+		}
+		@Override
+		public void validar(T pojoUnico) {
+		}
+		@Override
+		public void executar(T pojoUnico) {
+			for (Transacao<T, ? extends Throwable> transacao : obterTransacoes()) {
+				executarNoModelo(transacao, pojoUnico);
+			}
+		}
+		@SuppressWarnings("unchecked")
+		private List<Transacao<T, ? extends Throwable>> obterTransacoes() {
+			if (transacoes == null) {
+				List<Transacao<T, ? extends Throwable>> decodificadas = new ArrayList<Transacao<T, ? extends Throwable>>(transacoesSerializadas.length);
+				for (byte[] transacaoSerializada : transacoesSerializadas) {
+					try {
+						decodificadas.add((Transacao<T, ? extends Throwable>) decodificar(new ByteArrayInputStream(transacaoSerializada)));
+					} catch (IOException | ClassNotFoundException e) {
+						throw new LeituraEmDiscoException("Erro ao decodificar uma transação do lote.", e);
+					}
+				}
+				transacoes = decodificadas;
+			}
+			return transacoes;
+		}
+		@Override
+		public String toString() {
+			return "Lote de " + transacoesSerializadas.length + " transações";
+		}
+	}
+	/**
+	 * Fluxo de saída que calcula o CRC32C dos bytes gravados e, ao fechar, anexa o rodapé [mágico][tamanho do conteúdo][CRC32C] utilizado na verificação da leitura.
+	 */
+	private static class SaidaVerificada extends FilterOutputStream {
+		private static final int MAGICO_RODAPE = 0x4D504331;//MPC1
+		private static final int TAMANHO_RODAPE = 16;
+		private static final String MARCADOR_ACELERADOR = "ACELERADOR_RODAPE";//Arquivo com a primeira geração do acelerador gravada com rodapé
+		private final CRC32C crc = new CRC32C();
+		private long tamanho = 0;
+		private boolean fechado = false;
+		
+		private SaidaVerificada(OutputStream destino) {
+			super(destino);
+		}
+		@Override
+		public void write(int valor) throws IOException {
+			out.write(valor);
+			crc.update(valor);
+			tamanho++;
+		}
+		@Override
+		public void write(byte[] origem, int inicio, int quantidade) throws IOException {
+			out.write(origem, inicio, quantidade);
+			crc.update(origem, inicio, quantidade);
+			tamanho += quantidade;
+		}
+		@Override
+		public void close() throws IOException {
+			if (fechado) {
+				return;
+			}
+			fechado = true;
+			try {
+				ByteBuffer rodape = ByteBuffer.allocate(TAMANHO_RODAPE);
+				rodape.putInt(MAGICO_RODAPE).putLong(tamanho).putInt((int) crc.getValue());
+				out.write(rodape.array());
+				out.flush();
+			} finally {
+				out.close();
+			}
+		}
+	}
+	/**
+	 * Fluxo de entrada limitado ao conteúdo de um arquivo gravado por SaidaVerificada, o CRC32C é calculado durante a leitura e conferido com o rodapé ao atingir o final 
+	 * do conteúdo ou ao fechar, quando os bytes não lidos pelo decodificador são consumidos.
+	 */
+	private static class EntradaVerificada extends InputStream {
+		private final InputStream origem;
+		private final String nomeArquivo;
+		private final CRC32C crc = new CRC32C();
+		private final long tamanho;
+		private final int crcEsperado;
+		private long lidos = 0;
+		private boolean verificado = false;
+		
+		private EntradaVerificada(InputStream origem, String nomeArquivo, long tamanho, int crcEsperado) {
+			this.origem = origem;
+			this.nomeArquivo = nomeArquivo;
+			this.tamanho = tamanho;
+			this.crcEsperado = crcEsperado;
+		}
+		/**
+		 * Abre o arquivo verificando o conteúdo pelo rodapé.
+		 * @param anteriorAoRodape TRUE quando o arquivo foi gravado antes do rodapé e pode ser aberto sem verificação, caso contrário um arquivo sem rodapé é considerado corrompido.
+		 */
+		private static InputStream abrir(File arquivo, boolean anteriorAoRodape) throws IOException {
+			long tamanhoArquivo = arquivo.length();
+			if (tamanhoArquivo >= SaidaVerificada.TAMANHO_RODAPE) {
+				ByteBuffer rodape = ByteBuffer.allocate(SaidaVerificada.TAMANHO_RODAPE);
+				try (FileChannel canal = FileChannel.open(arquivo.toPath(), StandardOpenOption.READ)) {
+					while (rodape.hasRemaining() && (canal.read(rodape, tamanhoArquivo - SaidaVerificada.TAMANHO_RODAPE + rodape.position()) > 0)) {
+						//Lendo rodapé
+					}
+				}
+				rodape.flip();
+				if ((rodape.getInt() == SaidaVerificada.MAGICO_RODAPE) && (rodape.getLong() == tamanhoArquivo - SaidaVerificada.TAMANHO_RODAPE)) {
+					return new EntradaVerificada(new FileInputStream(arquivo), arquivo.getName(), tamanhoArquivo - SaidaVerificada.TAMANHO_RODAPE, rodape.getInt());
+				}
+			}
+			if (!anteriorAoRodape) {
+				throw new StreamCorruptedException("O arquivo " + arquivo.getName() + " não possui o rodapé de verificação, a gravação foi interrompida ou o arquivo está corrompido.");
+			}
+			return new FileInputStream(arquivo);
+		}
+		@Override
+		public int read() throws IOException {
+			if (lidos == tamanho) {
+				verificar();
+				return -1;
+			}
+			int lido = origem.read();
+			if (lido < 0) {
+				throw new EOFException("O arquivo " + nomeArquivo + " terminou antes do tamanho registrado no rodapé.");
+			}
+			crc.update(lido);
+			lidos++;
+			return lido;
+		}
+		@Override
+		public int read(byte[] destino, int inicio, int quantidade) throws IOException {
+			if (quantidade == 0) {
+				return 0;
+			}
+			if (lidos == tamanho) {
+				verificar();
+				return -1;
+			}
+			int quantidadeLida = origem.read(destino, inicio, (int) Math.min(quantidade, tamanho - lidos));
+			if (quantidadeLida < 0) {
+				throw new EOFException("O arquivo " + nomeArquivo + " terminou antes do tamanho registrado no rodapé.");
+			}
+			crc.update(destino, inicio, quantidadeLida);
+			lidos += quantidadeLida;
+			return quantidadeLida;
+		}
+		private void verificar() throws IOException {
+			if (!verificado && ((int) crc.getValue() != crcEsperado)) {
+				throw new StreamCorruptedException("O CRC32C do arquivo " + nomeArquivo + " não confere com o rodapé, o arquivo está corrompido.");
+			}
+			verificado = true;
+		}
+		@Override
+		public void close() throws IOException {
+			try {
+				byte[] descarte = new byte[65536];
+				while (read(descarte, 0, descarte.length) >= 0) {
+					//Consome o restante para conferir o CRC32C de todo conteúdo
+				}
+			} finally {
+				origem.close();
+			}
+		}
+	}
+	/**
+	 * Fluxo de saída que divide os bytes em blocos independentes comprimidos com Deflater em paralelo, gravados na ordem original no formato 
+	 * [mágico] ([tamanho][bloco comprimido])* [-1]. Indicado quando a banda do disco ou da rede limita a gravação e a leitura do arquivo acelerador.
+	 */
+	private static class SaidaBlocosComprimidos extends OutputStream {
+		private static final int MAGICO = 0x4D505A31;//MPZ1
+		private static final int TAMANHO_BLOCO = 1024 * 1024;//Se desejar pode ajustar o tamanho dos blocos
+		private final DataOutputStream destino;
+		private final int nivel;
+		private final ArrayDeque<CompletableFuture<byte[]>> blocosEmCompressao = new ArrayDeque<CompletableFuture<byte[]>>();
+		private final int maximoBlocosEmCompressao = Math.max(2, ForkJoinPool.commonPool().getParallelism() * 2);
+		private byte[] bloco = new byte[TAMANHO_BLOCO];
+		private int tamanhoBloco = 0;
+		
+		private SaidaBlocosComprimidos(OutputStream destino, int nivel) throws IOException {
+			this.destino = new DataOutputStream(new BufferedOutputStream(destino, 65536));
+			this.nivel = nivel;
+			this.destino.writeInt(MAGICO);
+		}
+		@Override
+		public void write(int valor) throws IOException {
+			if (tamanhoBloco == bloco.length) {
+				comprimirBloco();
+			}
+			bloco[tamanhoBloco++] = (byte) valor;
+		}
+		@Override
+		public void write(byte[] origem, int inicio, int quantidade) throws IOException {
+			while (quantidade > 0) {
+				if (tamanhoBloco == bloco.length) {
+					comprimirBloco();
+				}
+				int copiar = Math.min(quantidade, bloco.length - tamanhoBloco);
+				System.arraycopy(origem, inicio, bloco, tamanhoBloco, copiar);
+				tamanhoBloco += copiar;
+				inicio += copiar;
+				quantidade -= copiar;
+			}
+		}
+		private void comprimirBloco() throws IOException {
+			byte[] dados = bloco;
+			int tamanho = tamanhoBloco;
+			blocosEmCompressao.add(CompletableFuture.supplyAsync(() -> comprimirDeflate(dados, tamanho, nivel), ForkJoinPool.commonPool()));
+			bloco = new byte[TAMANHO_BLOCO];
+			tamanhoBloco = 0;
+			while (blocosEmCompressao.size() > maximoBlocosEmCompressao) {
+				gravarBlocoComprimido();
+			}
+		}
+		private void gravarBlocoComprimido() throws IOException {
+			byte[] comprimido = aguardarBloco(blocosEmCompressao.poll());
+			destino.writeInt(comprimido.length);
+			destino.write(comprimido);
+		}
+		@Override
+		public void close() throws IOException {
+			try {
+				if (tamanhoBloco > 0) {
+					comprimirBloco();
+				}
+				while (!blocosEmCompressao.isEmpty()) {
+					gravarBlocoComprimido();
+				}
+				destino.writeInt(-1);//Fim, diferencia um arquivo completo de um truncado
+			} finally {
+				destino.close();
+			}
+		}
+	}
+	/**
+	 * Fluxo de entrada dos blocos gravados por SaidaBlocosComprimidos, os próximos blocos são descomprimidos antecipadamente em paralelo.
+	 */
+	private static class EntradaBlocosComprimidos extends InputStream {
+		private final DataInputStream origem;
+		private final ArrayDeque<CompletableFuture<byte[]>> blocosEmDescompressao = new ArrayDeque<CompletableFuture<byte[]>>();
+		private final int maximoBlocosEmDescompressao = Math.max(2, ForkJoinPool.commonPool().getParallelism() * 2);
+		private byte[] bloco = new byte[0];
+		private int posicao = 0;
+		private boolean fimBlocos = false;
+		
+		/**
+		 * @param origem Entrada posicionada após o número mágico.
+		 */
+		private EntradaBlocosComprimidos(InputStream origem) {
+			this.origem = new DataInputStream(origem);
+		}
+		/**
+		 * Verifica, sem consumir, se a entrada inicia com o número mágico dos blocos comprimidos.
+		 * @param entrada Entrada com suporte a marcação.
+		 */
+		private static boolean isComprimido(InputStream entrada) throws IOException {
+			entrada.mark(4);
+			byte[] inicio = new byte[4];
+			int lidos = entrada.readNBytes(inicio, 0, 4);
+			entrada.reset();
+			return (lidos == 4) && (ByteBuffer.wrap(inicio).getInt() == SaidaBlocosComprimidos.MAGICO);
+		}
+		private boolean carregarProximoBloco() throws IOException {
+			while (!fimBlocos && (blocosEmDescompressao.size() < maximoBlocosEmDescompressao)) {
+				int tamanho = origem.readInt();//EOFException indica arquivo truncado
+				if (tamanho < 0) {
+					fimBlocos = true;
+					break;
+				}
+				byte[] comprimido = new byte[tamanho];
+				origem.readFully(comprimido);
+				blocosEmDescompressao.add(CompletableFuture.supplyAsync(() -> descomprimirDeflate(comprimido, 0, comprimido.length), ForkJoinPool.commonPool()));
+			}
+			if (blocosEmDescompressao.isEmpty()) {
+				return false;
+			}
+			bloco = aguardarBloco(blocosEmDescompressao.poll());
+			posicao = 0;
+			return true;
+		}
+		@Override
+		public int read() throws IOException {
+			while (posicao == bloco.length) {
+				if (!carregarProximoBloco()) {
+					return -1;
+				}
+			}
+			return bloco[posicao++] & 0xFF;
+		}
+		@Override
+		public int read(byte[] destino, int inicio, int quantidade) throws IOException {
+			if (quantidade == 0) {
+				return 0;
+			}
+			while (posicao == bloco.length) {
+				if (!carregarProximoBloco()) {
+					return -1;
+				}
+			}
+			int copiar = Math.min(quantidade, bloco.length - posicao);
+			System.arraycopy(bloco, posicao, destino, inicio, copiar);
+			posicao += copiar;
+			return copiar;
+		}
+		@Override
+		public void close() throws IOException {
+			blocosEmDescompressao.forEach(blocoPendente -> blocoPendente.cancel(false));
+			origem.close();
+		}
+	}
+	private static byte[] aguardarBloco(CompletableFuture<byte[]> bloco) throws IOException {
+		try {
+			return bloco.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			}
+			throw new IOException("Erro na compressão do bloco.", e.getCause());
+		}
+	}
+	/**
+	 * Comprime os dados com Deflater no formato [tamanho original][dados comprimidos].
+	 */
+	private static byte[] comprimirDeflate(byte[] dados, int tamanho, int nivel) {
+		Deflater deflater = new Deflater(nivel);
+		try {
+			deflater.setInput(dados, 0, tamanho);
+			deflater.finish();
+			byte[] comprimido = new byte[4 + tamanho + (tamanho >> 8) + 64];
+			ByteBuffer.wrap(comprimido).putInt(tamanho);
+			int total = 4;
+			while (!deflater.finished()) {
+				if (total == comprimido.length) {
+					comprimido = Arrays.copyOf(comprimido, comprimido.length * 2);
+				}
+				total += deflater.deflate(comprimido, total, comprimido.length - total);
+			}
+			return Arrays.copyOf(comprimido, total);
+		} finally {
+			deflater.end();
+		}
+	}
+	/**
+	 * Descomprime dados no formato gerado por comprimirDeflate.
+	 */
+	private static byte[] descomprimirDeflate(byte[] comprimido, int inicio, int tamanhoComprimido) {
+		Inflater inflater = new Inflater();
+		try {
+			byte[] dados = new byte[ByteBuffer.wrap(comprimido, inicio, 4).getInt()];
+			if (dados.length == 0) {
+				return dados;
+			}
+			inflater.setInput(comprimido, inicio + 4, tamanhoComprimido - 4);
+			int total = 0;
+			while (total < dados.length) {
+				int lidos = inflater.inflate(dados, total, dados.length - total);
+				if ((lidos == 0) && (inflater.finished() || inflater.needsInput())) {
+					break;
+				}
+				total += lidos;
+			}
+			if ((total != dados.length) || !inflater.finished()) {
+				throw new UncheckedIOException(new StreamCorruptedException("Bloco comprimido incompleto ou corrompido."));
+			}
+			return dados;
+		} catch (DataFormatException e) {
+			throw new UncheckedIOException(new StreamCorruptedException("Bloco comprimido corrompido: " + e.getMessage()));
+		} finally {
+			inflater.end();
+		}
+	}
+	/**
+	 * Motivo pelo qual o final do último segmento do jornal foi descartado na abertura.
+	 */
+	public enum MotivoDescarteJornal {
+		/** Nenhum byte descartado. */
+		NENHUM,
+		/** O cabeçalho do segmento não foi gravado por completo. */
+		CABECALHO_INCOMPLETO,
+		/** O último registro não foi gravado por completo. */
+		REGISTRO_INCOMPLETO,
+		/** O checksum do último registro não confere com seu conteúdo. */
+		CHECKSUM_INVALIDO
+	}
+	/**
+	 * Resultado da verificação do final do jornal efetuada na abertura para gravação, indica o que foi descartado por uma interrupção durante a gravação.
+	 */
+	public static class RecuperacaoJornal {
+		private final String segmento;
+		private final long registrosVerificados;
+		private final long ultimaTransacaoValida;
+		private final long bytesDescartados;
+		private final int arquivosTemporariosDescartados;
+		private final MotivoDescarteJornal motivo;
+		private final long milissegundosVerificacao;
+
+		private RecuperacaoJornal(String segmento, long registrosVerificados, long ultimaTransacaoValida, long bytesDescartados, int arquivosTemporariosDescartados, 
+				MotivoDescarteJornal motivo, long milissegundosVerificacao) {
+			this.segmento = segmento;
+			this.registrosVerificados = registrosVerificados;
+			this.ultimaTransacaoValida = ultimaTransacaoValida;
+			this.bytesDescartados = bytesDescartados;
+			this.arquivosTemporariosDescartados = arquivosTemporariosDescartados;
+			this.motivo = motivo;
+			this.milissegundosVerificacao = milissegundosVerificacao;
+		}
+		private RecuperacaoJornal comArquivosTemporariosDescartados(int arquivosTemporariosDescartados) {
+			return new RecuperacaoJornal(segmento, registrosVerificados, ultimaTransacaoValida, bytesDescartados, arquivosTemporariosDescartados, motivo, milissegundosVerificacao);
+		}
+		/**
+		 * @return Nome do último segmento verificado, NULL quando o jornal ainda não possui segmentos.
+		 */
+		public String getSegmento() {
+			return segmento;
+		}
+		/**
+		 * @return Quantidade de registros íntegros mantidos no último segmento.
+		 */
+		public long getRegistrosVerificados() {
+			return registrosVerificados;
+		}
+		/**
+		 * @return Número da última transação íntegra do último segmento, zero quando o segmento não possui registros.
+		 */
+		public long getUltimaTransacaoValida() {
+			return ultimaTransacaoValida;
+		}
+		/**
+		 * @return Quantidade de bytes removidos do final do último segmento.
+		 */
+		public long getBytesDescartados() {
+			return bytesDescartados;
+		}
+		/**
+		 * @return Quantidade de arquivos .tmp de transações individuais (versões anteriores ao jornal) removidos.
+		 */
+		public int getArquivosTemporariosDescartados() {
+			return arquivosTemporariosDescartados;
+		}
+		public MotivoDescarteJornal getMotivo() {
+			return motivo;
+		}
+		public long getMilissegundosVerificacao() {
+			return milissegundosVerificacao;
+		}
+		@Override
+		public String toString() {
+			return "segmento: " + segmento + ", registros verificados: " + registrosVerificados + ", última transação válida: " + ultimaTransacaoValida + ", bytes descartados: " 
+					+ bytesDescartados + " (" + motivo + "), temporários descartados: " + arquivosTemporariosDescartados + ", verificação: " + milissegundosVerificacao + " ms";
+		}
+	}
+	/**
+	 * Cabeçalho de um segmento do jornal.
+	 */
+	private static class CabecalhoSegmento {
+		private final short versao;
+		private final short opcoes;
+
+		private CabecalhoSegmento(short versao, short opcoes) {
+			this.versao = versao;
+			this.opcoes = opcoes;
+		}
+		private int obterTamanhoCabecalhoRegistro() {
+			return (versao < 2) ? JornalSegmentado.TAMANHO_CABECALHO_REGISTRO_V1 : JornalSegmentado.TAMANHO_CABECALHO_REGISTRO;
+		}
+		private boolean isComprimido() {
+			return (opcoes & JornalSegmentado.OPCAO_COMPRESSAO) != 0;
+		}
+		private boolean isVerificado() {
+			return versao >= 2;
+		}
+	}
+	/**
+	 * Jornal de transações gravado em segmentos somente de anexação. Cada segmento é um arquivo nomeado pelo número da sua primeira transação (ex: 1.seg), iniciado
+	 * por um cabeçalho [mágico][versão][opções] e seguido por registros no formato [tamanho][número da transação][CRC32C][transação serializada], o CRC32C cobre 
+	 * o tamanho, o número e a transação (segmentos da versão 1 não possuem o CRC32C). Um único canal aberto recebe as transações, evitando a criação, renomeação e 
+	 * atualização de diretório que ocorriam com um arquivo por transação. Com a opção de compressão no cabeçalho todas as transações do segmento são gravadas 
+	 * comprimidas (comprimirDeflate).
+	 */
+	private static class JornalSegmentado {
+		private static final String EXTENSAO = ".seg";
+		private static final int MAGICO = 0x4D504A31;//MPJ1
+		private static final short VERSAO = 2;
+		private static final int TAMANHO_CABECALHO_SEGMENTO = 8;
+		private static final int TAMANHO_CABECALHO_REGISTRO = 16;
+		private static final int TAMANHO_CABECALHO_REGISTRO_V1 = 12;
+		private static final short OPCAO_COMPRESSAO = 0x1;
+		private final File diretorio;
+		private final long tamanhoMaximo;
+		private final boolean sincronizarAoFechar;
+		private final Integer nivelCompressao;
+		private short opcoesSegmento = 0;
+		private FileChannel canal;
+		private File arquivoSegmento;
+		private long posicaoAnteriorUltimoRegistro = -1;
+		private boolean ultimoRegistroIniciouSegmento = false;
+		private long numeroUltimoAnexado;
+		private final Object monitorSincronizacao = new Object();
+		private boolean sincronizando = false;
+		private long numeroUltimoSincronizado;
+		
+		private JornalSegmentado(File diretorio, long tamanhoMaximo, boolean sincronizarAoFechar, Integer nivelCompressao) {
+			this.diretorio = diretorio;
+			this.tamanhoMaximo = tamanhoMaximo;
+			this.sincronizarAoFechar = sincronizarAoFechar;
+			this.nivelCompressao = nivelCompressao;
+		}
+		/**
+		 * Lista os segmentos do diretório ordenados pelo número da primeira transação.
+		 */
+		private static List<File> listarSegmentos(File diretorio) {
+			File[] arquivos = diretorio.listFiles((dir, nome) -> nome.endsWith(EXTENSAO));
+			if (arquivos == null) {
+				return new ArrayList<File>();
+			}
+			return Stream.of(arquivos).sorted(Comparator.comparing(JornalSegmentado::extrairNumero)).collect(Collectors.toList());
+		}
+		private static Long extrairNumero(File segmento) {
+			return Long.parseLong(segmento.getName().replace(EXTENSAO, ""));
+		}
+		/**
+		 * Posiciona a gravação no final do último segmento, truncando a partir do primeiro registro incompleto ou com checksum inválido deixado por uma interrupção 
+		 * durante a gravação. Arquivos .tmp de transações individuais de versões anteriores também são removidos. Um último segmento da versão 1 é mantido como está 
+		 * e as próximas transações iniciam um novo segmento.
+		 * @param ultimaTransacaoExecutada Última transação lida do sistema de arquivos, considerada sincronizada.
+		 * @return O que foi verificado e descartado.
+		 * @throws LeituraEmDiscoException Caso registros íntegros sigam um registro com checksum inválido, corrupção que não é uma gravação interrompida. Nada é truncado.
+		 */
+		private synchronized RecuperacaoJornal abrir(long ultimaTransacaoExecutada) throws IOException {
+			fechar();
+			numeroUltimoAnexado = ultimaTransacaoExecutada;
+			numeroUltimoSincronizado = ultimaTransacaoExecutada;
+			int temporariosDescartados = 0;
+			File[] temporarios = diretorio.listFiles((dir, nome) -> nome.endsWith(".tmp"));
+			for (File temporario : (temporarios != null) ? temporarios : new File[0]) {
+				if (temporario.delete()) {
+					temporariosDescartados++;
+				}
+			}
+			List<File> segmentos = listarSegmentos(diretorio);
+			if (segmentos.isEmpty()) {//O primeiro segmento é criado junto com a primeira transação
+				return new RecuperacaoJornal(null, 0, 0, 0, temporariosDescartados, MotivoDescarteJornal.NENHUM, 0);
+			}
+			arquivoSegmento = segmentos.get(segmentos.size() - 1);
+			RecuperacaoJornal recuperacao = LeitorJornal.verificarSegmento(arquivoSegmento).comArquivosTemporariosDescartados(temporariosDescartados);
+			canal = FileChannel.open(arquivoSegmento.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+			if (recuperacao.getMotivo() == MotivoDescarteJornal.CABECALHO_INCOMPLETO) {
+				canal.truncate(0);
+				escreverCabecalhoSegmento();
+			} else {
+				CabecalhoSegmento cabecalho = LeitorJornal.validarCabecalho(canal, arquivoSegmento);
+				opcoesSegmento = cabecalho.opcoes;//Mantém a compressão com que o segmento foi iniciado
+				if (recuperacao.getBytesDescartados() > 0) {
+					canal.truncate(canal.size() - recuperacao.getBytesDescartados());
+				}
+				if (cabecalho.versao != VERSAO) {
+					fechar();
+					return recuperacao;
+				}
+			}
+			canal.position(canal.size());
+			return recuperacao;
+		}
+		/**
+		 * Anexa uma transação ao segmento corrente, iniciando um novo segmento quando o tamanho máximo for atingido. Em caso de erro o registro parcial é desfeito.
+		 * @return Quantidade de bytes gravados no segmento.
+		 */
+		private long anexar(long numeroTransacao, byte[] transacaoSerializada) throws IOException {
+			return anexar(numeroTransacao, Collections.singletonList(transacaoSerializada));
+		}
+		/**
+		 * Anexa transações de números consecutivos ao segmento corrente com uma única escrita, todas no mesmo segmento. Os registros são os mesmos de transações 
+		 * anexadas uma a uma, e desfazerUltimoRegistro remove todos eles.
+		 * @param numeroPrimeiraTransacao Número da primeira transação.
+		 * @return Quantidade de bytes gravados no segmento.
+		 */
+		private synchronized long anexar(long numeroPrimeiraTransacao, List<byte[]> transacoesSerializadas) throws IOException {
+			posicaoAnteriorUltimoRegistro = -1;
+			ultimoRegistroIniciouSegmento = false;
+			long tamanhoRegistros = 0;
+			for (byte[] transacaoSerializada : transacoesSerializadas) {
+				tamanhoRegistros += TAMANHO_CABECALHO_REGISTRO + transacaoSerializada.length;
+			}
+			if ((canal == null) || ((canal.position() > TAMANHO_CABECALHO_SEGMENTO) && (canal.position() + tamanhoRegistros > tamanhoMaximo))) {
+				iniciarSegmento(numeroPrimeiraTransacao);
+				ultimoRegistroIniciouSegmento = true;
+			}
+			ByteBuffer[] buffers = new ByteBuffer[transacoesSerializadas.size() * 2];
+			long bytesGravados = 0;
+			for (int indice = 0; indice < transacoesSerializadas.size(); indice++) {
+				byte[] transacaoSerializada = transacoesSerializadas.get(indice);
+				if ((opcoesSegmento & OPCAO_COMPRESSAO) != 0) {
+					transacaoSerializada = comprimirDeflate(transacaoSerializada, transacaoSerializada.length, (nivelCompressao != null) ? nivelCompressao : Deflater.DEFAULT_COMPRESSION);
+				}
+				ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_REGISTRO);
+				cabecalho.putInt(transacaoSerializada.length).putLong(numeroPrimeiraTransacao + indice);
+				cabecalho.putInt(calcularCrcRegistro(cabecalho, transacaoSerializada)).flip();
+				buffers[indice * 2] = cabecalho;
+				buffers[indice * 2 + 1] = ByteBuffer.wrap(transacaoSerializada);
+				bytesGravados += TAMANHO_CABECALHO_REGISTRO + transacaoSerializada.length;
+			}
+			posicaoAnteriorUltimoRegistro = canal.position();
+			try {
+				escrever(buffers);
+			} catch (IOException e) {
+				desfazerUltimoRegistro();
+				throw e;
+			}
+			numeroUltimoAnexado = numeroPrimeiraTransacao + transacoesSerializadas.size() - 1;
+			return bytesGravados;
+		}
+		/**
+		 * Sincroniza com o disco todas as transações anexadas até o momento.
+		 */
+		private void sincronizar() throws IOException {
+			long numeroAlvo;
+			FileChannel canalAlvo;
+			synchronized (this) {
+				numeroAlvo = numeroUltimoAnexado;
+				canalAlvo = canal;
+			}
+			try {
+				if (canalAlvo != null) {
+					canalAlvo.force(false);
+				}
+			} catch (ClosedChannelException e) {
+				//Segmento trocado ou fechado, ele foi sincronizado antes de ser fechado
+			}
+			synchronized (monitorSincronizacao) {
+				numeroUltimoSincronizado = Math.max(numeroUltimoSincronizado, numeroAlvo);
+			}
+		}
+		/**
+		 * Sincronização em grupo: a primeira thread que encontrar o jornal sem sincronização em andamento se torna líder, aguarda até a latência máxima pelas transações 
+		 * que ainda estão sendo anexadas e sincroniza todas de uma vez. As demais aguardam o líder e retornam se sua transação foi incluída, ou lideram o próximo grupo.
+		 * @param numeroTransacao Transação que precisa estar sincronizada para o retorno.
+		 * @param latenciaMaximaNanos Tempo máximo que o líder aguarda por outras transações.
+		 * @param transacoesAguardandoAnexacao Contador de transações em andamento que ainda não foram anexadas.
+		 */
+		private void aguardarSincronizacao(long numeroTransacao, long latenciaMaximaNanos, AtomicInteger transacoesAguardandoAnexacao) throws IOException, InterruptedException {
+			synchronized (monitorSincronizacao) {
+				while (true) {
+					if (numeroUltimoSincronizado >= numeroTransacao) {
+						return;
+					}
+					if (!sincronizando) {
+						sincronizando = true;
+						break;
+					}
+					monitorSincronizacao.wait();
+				}
+			}
+			try {
+				long limite = System.nanoTime() + latenciaMaximaNanos;
+				while ((transacoesAguardandoAnexacao.get() > 0) && (System.nanoTime() < limite)) {
+					LockSupport.parkNanos(20000);
+				}
+				sincronizar();
+			} finally {
+				synchronized (monitorSincronizacao) {
+					sincronizando = false;
+					monitorSincronizacao.notifyAll();
+				}
+			}
+		}
+		/**
+		 * Remove o último registro anexado (ou grupo de registros anexados juntos), utilizado quando a transação não pôde ser concluída após sua gravação.
+		 */
+		private synchronized void desfazerUltimoRegistro() throws IOException {
+			if (posicaoAnteriorUltimoRegistro < 0) {
+				return;
+			}
+			if (ultimoRegistroIniciouSegmento) {
+				File segmentoDescartado = arquivoSegmento;
+				fechar();
+				Files.deleteIfExists(segmentoDescartado.toPath());
+			} else {
+				canal.truncate(posicaoAnteriorUltimoRegistro);
+				canal.position(posicaoAnteriorUltimoRegistro);
+			}
+			posicaoAnteriorUltimoRegistro = -1;
+		}
+		/**
+		 * Calcula o CRC32C do registro a partir dos primeiros 12 bytes do cabeçalho (tamanho e número da transação) e da transação serializada.
+		 */
+		private static int calcularCrcRegistro(ByteBuffer cabecalho, byte[] transacaoSerializada) {
+			CRC32C crc = new CRC32C();
+			crc.update(cabecalho.array(), 0, TAMANHO_CABECALHO_REGISTRO_V1);
+			crc.update(transacaoSerializada, 0, transacaoSerializada.length);
+			return (int) crc.getValue();
+		}
+		private void iniciarSegmento(long numeroPrimeiraTransacao) throws IOException {
+			fechar();
+			arquivoSegmento = new File(diretorio, numeroPrimeiraTransacao + EXTENSAO);
+			canal = FileChannel.open(arquivoSegmento.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			escreverCabecalhoSegmento();
+		}
+		private void escreverCabecalhoSegmento() throws IOException {
+			opcoesSegmento = (nivelCompressao != null) ? OPCAO_COMPRESSAO : 0;
+			ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_SEGMENTO);
+			cabecalho.putInt(MAGICO).putShort(VERSAO).putShort(opcoesSegmento).flip();
+			escrever(cabecalho);
+		}
+		private void escrever(ByteBuffer... buffers) throws IOException {
+			while (buffers[buffers.length - 1].hasRemaining()) {
+				canal.write(buffers);
+			}
+		}
+		private File obterArquivoSegmento() {
+			return arquivoSegmento;
+		}
+		private synchronized void fechar() {
+			if (canal == null) {
+				return;
+			}
+			try {
+				if (sincronizarAoFechar) {
+					canal.force(false);
+				}
+				canal.close();
+			} catch (IOException e) {
+				//Nada a fazer, o conteúdo já foi entregue ao sistema operacional
+			}
+			canal = null;
+		}
+	}
+	/**
+	 * Lê sequencialmente os segmentos do jornal mantendo um cursor (segmento e posição), assim leituras sucessivas continuam de onde pararam. Nos segmentos da versão 2
+	 * o CRC32C de cada registro é conferido, um registro inválido no último segmento é tratado como ainda incompleto (a abertura do jornal para gravação o descarta) e 
+	 * nos demais segmentos como corrupção.
+	 */
+	private static class LeitorJornal {
+		private final File diretorio;
+		private long segmentoCorrente = -1;
+		private long posicaoCorrente = 0;
+		
+		private LeitorJornal(File diretorio) {
+			this.diretorio = diretorio;
+		}
+		/**
+		 * Entrega ao consumidor as transações posteriores a informada, em ordem.
+		 * @param ultimaTransacaoExecutada Transações até este número são ignoradas.
+		 * @param limite Número máximo de transação a ser entregue, NULL para ler até o final do jornal.
+		 * @param consumidor Recebe cada transação lida.
+		 */
+		private void ler(long ultimaTransacaoExecutada, Long limite, ConsumidorRegistroJornal consumidor) throws Exception {
+			List<File> segmentos = JornalSegmentado.listarSegmentos(diretorio);
+			for (int indice = 0; indice < segmentos.size(); indice++) {
+				File segmento = segmentos.get(indice);
+				long numeroSegmento = JornalSegmentado.extrairNumero(segmento);
+				if (numeroSegmento < segmentoCorrente) {
+					continue;
+				}
+				boolean segmentoJaExecutado = (indice + 1 < segmentos.size()) && (JornalSegmentado.extrairNumero(segmentos.get(indice + 1)) <= ultimaTransacaoExecutada + 1);
+				if (segmentoJaExecutado && (numeroSegmento != segmentoCorrente)) {
+					continue;//Todas transações do segmento já estão no modelo, normalmente internalizadas pelo acelerador
+				}
+				long posicao = (numeroSegmento == segmentoCorrente) ? posicaoCorrente : JornalSegmentado.TAMANHO_CABECALHO_SEGMENTO;
+				try (FileChannel canal = FileChannel.open(segmento.toPath(), StandardOpenOption.READ)) {
+					long tamanhoSegmento = canal.size();
+					if (tamanhoSegmento < JornalSegmentado.TAMANHO_CABECALHO_SEGMENTO) {
+						continue;
+					}
+					CabecalhoSegmento cabecalho = validarCabecalho(canal, segmento);
+					int tamanhoCabecalhoRegistro = cabecalho.obterTamanhoCabecalhoRegistro();
+					boolean ultimoSegmento = indice == segmentos.size() - 1;
+					ByteBuffer cabecalhoRegistro = ByteBuffer.allocate(JornalSegmentado.TAMANHO_CABECALHO_REGISTRO_V1);
+					DataInputStream entrada = new DataInputStream(new BufferedInputStream(Channels.newInputStream(canal.position(posicao)), 65536));
+					while (posicao + tamanhoCabecalhoRegistro <= tamanhoSegmento) {
+						int tamanho = entrada.readInt();
+						long numeroTransacao = entrada.readLong();
+						int crcGravado = cabecalho.isVerificado() ? entrada.readInt() : 0;
+						if ((tamanho < 0) || (posicao + tamanhoCabecalhoRegistro + tamanho > tamanhoSegmento)) {
+							break;//Registro ainda incompleto
+						}
+						if ((limite != null) && (numeroTransacao > limite)) {
+							segmentoCorrente = numeroSegmento;
+							posicaoCorrente = posicao;
+							return;
+						}
+						byte[] transacaoSerializada = new byte[tamanho];
+						entrada.readFully(transacaoSerializada);
+						if (cabecalho.isVerificado()) {
+							cabecalhoRegistro.clear();
+							cabecalhoRegistro.putInt(tamanho).putLong(numeroTransacao);
+							if (JornalSegmentado.calcularCrcRegistro(cabecalhoRegistro, transacaoSerializada) != crcGravado) {
+								if (ultimoSegmento) {
+									verificarSegmento(segmento);//Registros íntegros após o registro inválido indicam corrupção e não o final do jornal
+									break;//Gravação interrompida ou ainda em andamento
+								}
+								throw new StreamCorruptedException("O registro da transação " + numeroTransacao + " do segmento " + segmento.getName() + " está corrompido (CRC32C inválido).");
+							}
+						}
+						if (numeroTransacao > ultimaTransacaoExecutada) {
+							if (cabecalho.isComprimido()) {
+								transacaoSerializada = descomprimirRegistro(transacaoSerializada);
+							}
+							consumidor.consumir(numeroTransacao, transacaoSerializada);
+							ultimaTransacaoExecutada = numeroTransacao;
+						}
+						posicao += tamanhoCabecalhoRegistro + tamanho;
+					}
+				}
+				segmentoCorrente = numeroSegmento;
+				posicaoCorrente = posicao;
+			}
+		}
+		private static byte[] descomprimirRegistro(byte[] registro) throws IOException {
+			try {
+				return descomprimirDeflate(registro, 0, registro.length);
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+		/**
+		 * Valida o cabeçalho do segmento.
+		 * @return A versão e as opções do segmento.
+		 */
+		private static CabecalhoSegmento validarCabecalho(FileChannel canal, File segmento) throws IOException {
+			ByteBuffer cabecalho = ByteBuffer.allocate(JornalSegmentado.TAMANHO_CABECALHO_SEGMENTO);
+			while (cabecalho.hasRemaining() && (canal.read(cabecalho, cabecalho.position()) > 0)) {
+				//Lendo cabeçalho
+			}
+			cabecalho.flip();
+			if ((cabecalho.remaining() < JornalSegmentado.TAMANHO_CABECALHO_SEGMENTO) || (cabecalho.getInt() != JornalSegmentado.MAGICO)) {
+				throw new IOException("O arquivo " + segmento.getName() + " não é um segmento de jornal válido.");
+			}
+			short versao = cabecalho.getShort();
+			if (versao > JornalSegmentado.VERSAO) {
+				throw new IOException("O segmento " + segmento.getName() + " foi gravado por uma versão mais nova (" + versao + ") desta classe.");
+			}
+			return new CabecalhoSegmento(versao, cabecalho.getShort());
+		}
+		/**
+		 * Percorre o segmento em uma única leitura sequencial, sem desserializar as transações, localizando o final do último registro íntegro: completo e, na versão 2,
+		 * com o CRC32C conferido. Somente um final interrompido pode ser descartado: após um registro com CRC32C inválido a leitura continua para contar os registros íntegros 
+		 * seguintes, que indicam corrupção e não uma gravação interrompida.
+		 * @throws LeituraEmDiscoException Caso registros íntegros sigam um registro com CRC32C inválido, informando o segmento e a posição para a decisão do operador.
+		 */
+		private static RecuperacaoJornal verificarSegmento(File segmento) throws IOException {
+			long inicio = System.nanoTime();
+			try (FileChannel canal = FileChannel.open(segmento.toPath(), StandardOpenOption.READ)) {
+				long tamanhoSegmento = canal.size();
+				if (tamanhoSegmento < JornalSegmentado.TAMANHO_CABECALHO_SEGMENTO) {
+					return new RecuperacaoJornal(segmento.getName(), 0, 0, tamanhoSegmento, 0, MotivoDescarteJornal.CABECALHO_INCOMPLETO, 
+							TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+				}
+				CabecalhoSegmento cabecalho = validarCabecalho(canal, segmento);
+				int tamanhoCabecalhoRegistro = cabecalho.obterTamanhoCabecalhoRegistro();
+				DataInputStream entrada = new DataInputStream(new BufferedInputStream(Channels.newInputStream(canal.position(JornalSegmentado.TAMANHO_CABECALHO_SEGMENTO)), 65536));
+				ByteBuffer cabecalhoRegistro = ByteBuffer.allocate(JornalSegmentado.TAMANHO_CABECALHO_REGISTRO_V1);
+				byte[] bloco = new byte[65536];
+				CRC32C crc = new CRC32C();
+				long posicao = JornalSegmentado.TAMANHO_CABECALHO_SEGMENTO;
+				long fimRegistrosIntegros = -1;
+				long registrosVerificados = 0;
+				long ultimaTransacaoValida = 0;
+				long registrosIntegrosDescartados = 0;
+				MotivoDescarteJornal motivo = MotivoDescarteJornal.NENHUM;
+				while (posicao < tamanhoSegmento) {
+					int tamanho = -1;
+					long numeroTransacao = 0;
+					int crcGravado = 0;
+					if (posicao + tamanhoCabecalhoRegistro <= tamanhoSegmento) {
+						tamanho = entrada.readInt();
+						numeroTransacao = entrada.readLong();
+						crcGravado = cabecalho.isVerificado() ? entrada.readInt() : 0;
+					}
+					if ((tamanho < 0) || (posicao + tamanhoCabecalhoRegistro + tamanho > tamanhoSegmento)) {
+						if (fimRegistrosIntegros < 0) {
+							fimRegistrosIntegros = posicao;
+							motivo = MotivoDescarteJornal.REGISTRO_INCOMPLETO;
+						}
+						break;
+					}
+					crc.reset();
+					cabecalhoRegistro.clear();
+					crc.update(cabecalhoRegistro.putInt(tamanho).putLong(numeroTransacao).array(), 0, JornalSegmentado.TAMANHO_CABECALHO_REGISTRO_V1);
+					for (int restante = tamanho; restante > 0;) {
+						int lido = Math.min(restante, bloco.length);
+						entrada.readFully(bloco, 0, lido);
+						crc.update(bloco, 0, lido);
+						restante -= lido;
+					}
+					boolean integro = !cabecalho.isVerificado() || ((int) crc.getValue() == crcGravado);
+					if (fimRegistrosIntegros >= 0) {
+						if (!integro) {
+							break;
+						}
+						registrosIntegrosDescartados++;
+					} else if (integro) {
+						registrosVerificados++;
+						ultimaTransacaoValida = numeroTransacao;
+					} else {
+						fimRegistrosIntegros = posicao;
+						motivo = MotivoDescarteJornal.CHECKSUM_INVALIDO;
+					}
+					posicao += tamanhoCabecalhoRegistro + tamanho;
+				}
+				if (registrosIntegrosDescartados > 0) {
+					throw new LeituraEmDiscoException("O registro na posição " + fimRegistrosIntegros + " do segmento " + segmento.getName() + " possui CRC32C inválido e é seguido por " 
+							+ registrosIntegrosDescartados + " registros íntegros, o jornal está corrompido e não foi truncado. Verifique ou restaure o segmento antes de reiniciar.");
+				}
+				long bytesDescartados = (fimRegistrosIntegros < 0) ? 0 : tamanhoSegmento - fimRegistrosIntegros;
+				return new RecuperacaoJornal(segmento.getName(), registrosVerificados, ultimaTransacaoValida, bytesDescartados, 0, motivo, 
+						TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+			}
+		}
+	}
+	
+	/**
+	 * Configurador da classe para gerar novas instâncias. 
+	 */
+	private static Configurador configurador;
+	/**
+	 * Mapa das bases inicializadas, vários modelos de dados independentes entre si podem ser mantidos em um diretório e também em memória. 
+	 */
+	private static Map<Class<? extends Serializable>, MiniPrevalencia<?>> mapaPrevalencias = new HashMap<Class<? extends Serializable>, MiniPrevalencia<?>>();
+	/**
+	 * Caso TRUE as instâncias só efetuam consultas.
+	 */
+	private static Boolean replica = null;
+	/**
+	 * Diretório de gravação dos dados, sequencias, transações etc.
+	 */
+	private static String diretorio = null;
+	/**
+	 * Com TRUE os retornos são copiados em novas instâncias para evitar a alteração dos registros internos fora das transações. No entanto, este processo
+	 * consome memória e processamento, como alternativa pode ser desativado para melhorar o desempenho e economizar memória. Caso seu código altere objetos
+	 * fora das transações sua base se tornará inconsistente. Outra alternativa após desabilitar a cópia, é a implementação manual da cópia dentro das consultas
+	 * e transações para os retornos sensíveis (entidades). Para uso performático desative (FALSE) a proteção e não altere entidades fora de transações.
+	 */
+	private static boolean protegerRetornoCopiandoObjetos = false;
+	/**
+	 * Por padrão todos arquivos de transação são mantidos em sistema de arquivos por poucos segundos, no entanto durante a configuração inicial é possível optar por não apagar 
+	 * as transações que já foram internalizadas pelo arquivo acelerador de inicialização.<br>
+	 * TRUE para apagar transações aceleradas.<br>
+	 * FALSE para manter todas transações em sistema de arquivo, mesmo as que já estão internalizadas no arquivo acelerador.
+	 */
+	private static boolean apagarTransacoesAceleradas = true;
+	/**
+	 * Quantidade de milissegundos de inatividade para disparar a gravação do arquivo acelerador e a eliminação de arquivo transacionais internalizados.
+	 */
+	private static Long milisegundosInatividadeTransacionalDispararGravacaoAcelerador;
+	/**
+	 * Bytes anexados ao jornal desde a última gravação para disparar a gravação do arquivo acelerador, NULL desabilita.
+	 */
+	private static Long bytesJornalDispararGravacaoAcelerador;
+	/**
+	 * Transações não aceleradas para disparar a gravação do arquivo acelerador, NULL desabilita.
+	 */
+	private static Long transacoesDispararGravacaoAcelerador;
+	/**
+	 * Idade máxima em milissegundos do arquivo acelerador havendo transações não aceleradas, NULL desabilita.
+	 */
+	private static Long milisegundosMaximosEntreGravacoesAcelerador;
+	/**
+	 * Tamanho máximo em bytes de cada segmento do jornal de transações.
+	 */
+	private static long tamanhoMaximoSegmentoJornal = 64L * 1024L * 1024L;
+	/**
+	 * Política de sincronização do jornal com o disco.
+	 */
+	private static PoliticaSincronizacaoDisco politicaSincronizacaoDisco = PoliticaSincronizacaoDisco.NENHUMA;
+	/**
+	 * Isolamento das consultas das novas instâncias.
+	 */
+	private static IsolamentoConsulta isolamentoConsultas = IsolamentoConsulta.NENHUM;
+	/**
+	 * Execuções otimistas de uma consulta antes do bloqueio de leitura.
+	 */
+	private static int tentativasLeituraOtimista = 3;
+	/**
+	 * Validações fora do bloco sincronizado de uma transação otimista.
+	 */
+	private static int tentativasTransacaoOtimista = 3;
+	/**
+	 * Pool exclusivo das consultas, NULL executa as consultas na thread chamadora.
+	 */
+	private static ForkJoinPool poolConsultas = null;
+	/**
+	 * Executor das consultas assíncronas em threads virtuais, ou uma thread por consulta quando a JVM não as suportar. NULL despacha no pool das consultas.
+	 */
+	private static Executor despachoConsultas = null;
+	/**
+	 * Tempo limite padrão das consultas.
+	 */
+	private static Long milissegundosLimiteConsulta = null;
+	/**
+	 * Tamanho máximo do cache de consultas das novas instâncias, NULL desabilita.
+	 */
+	private static Integer tamanhoCacheConsultas = null;
+	/**
+	 * Política de remoção do cache de consultas.
+	 */
+	private static PoliticaRemocaoCache politicaRemocaoCache = PoliticaRemocaoCache.LRU;
+	/**
+	 * Latência máxima de agrupamento (AGRUPADA) ou intervalo de sincronização (PERIODICA) em milissegundos, NULL utiliza o padrão de cada política.
+	 */
+	private static Integer milissegundosSincronizacaoDisco;
+	/**
+	 * Posições do anel de transações das novas instâncias primárias, NULL desabilita.
+	 */
+	private static Integer tamanhoAnelTransacoes = null;
+	/**
+	 * Transações concorrentes gravadas no jornal com uma única escrita, NULL desabilita o agrupamento.
+	 */
+	private static Integer tamanhoMaximoAgrupamento = null;
+	/**
+	 * Espera da líder do agrupamento por outras transações.
+	 */
+	private static long nanosEsperaAgrupamento = 0;
+	/**
+	 * Codificador das transações e do arquivo acelerador.
+	 */
+	private static Codificador codificador = new CodificadorSerializacaoJava();
+	/**
+	 * Com TRUE o arquivo acelerador é gravado a partir de uma instância sombra, sem bloquear transações.
+	 */
+	private static boolean gravarAceleradorComInstanciaSombra = false;
+	/**
+	 * Ouvinte do progresso do carregamento, NULL registra o progresso no log.
+	 */
+	private static volatile OuvinteCarregamento ouvinteCarregamento;
+	/**
+	 * Quantidade de threads do carregamento inicial, uma aplicadora e as demais decodificadoras.
+	 */
+	private static int threadsCarregamento = Math.max(2, Runtime.getRuntime().availableProcessors());
+	/**
+	 * Gravações incrementais do acelerador particionado entre gravações completas, NULL sempre grava completo.
+	 */
+	private static Integer gravacoesIncrementaisAntesConsolidacao = 10;
+	/**
+	 * Quantidade de gerações do arquivo acelerador mantidas.
+	 */
+	private static int geracoesAceleradorMantidas = 1;
+	/**
+	 * Nível de compressão do arquivo acelerador, NULL sem compressão.
+	 */
+	private static Integer nivelCompressaoAcelerador;
+	/**
+	 * Nível de compressão das transações no jornal, NULL sem compressão.
+	 */
+	private static Integer nivelCompressaoJornal;
+	/**
+	 * Reversões registradas pela transação reversível em execução na thread, NULL quando a thread não está executando uma transação reversível.
+	 */
+	private static final ThreadLocal<List<Runnable>> reversoesTransacao = new ThreadLocal<List<Runnable>>();
+	/**
+	 * Cancelamento da consulta em execução na thread, NULL quando a consulta não tem tempo limite nem foi despachada de forma assíncrona.
+	 */
+	private static final ThreadLocal<CancelamentoConsulta> cancelamentoConsultaCorrente = new ThreadLocal<CancelamentoConsulta>();
+
+	/**
+	 * Seu POJO, objeto de entrada para que será mantido pelo sistema de prevalência.
+	 */
+	private M pojoRegistro;
+	/**
+	 * O tipo de registro que a instância de prevalência está mantendo.
+	 */
+	private Class<M> tipoRegistro;
+	/**
+	 * Índice da partição desta instância em um modelo particionado, NULL quando não particionado.
+	 */
+	private final Integer particao;
+	/**
+	 * Serial da ultima transação executada. 
+	 */
+	private volatile Long ultimaTransacaoExecutada = 0L;
+	/**
+	 * Serial da ultima transação internalizada pelo arquivo acelerador.
+	 */
+	private volatile Long ultimaTransacaoAcelerada = 0L;
+	/**
+	 * Última transação confirmada de cada chave de versão das transações otimistas, acessado somente no bloco sincronizado do modelo.
+	 */
+	private final Map<Object, Long> versoesChaves = new HashMap<Object, Long>();
+	/**
+	 * Última transação confirmada sem chaves de versão (não otimista), conflita com todas as transações otimistas validadas antes dela. Também avança ao descartar
+	 * as chaves de versão.
+	 */
+	private long ultimaTransacaoSemChaves = 0L;
+	/**
+	 * Validações otimistas invalidadas por transações concorrentes.
+	 */
+	private final AtomicLong conflitosTransacoesOtimistas = new AtomicLong();
+	/**
+	 * Quantidade máxima de chaves de versão mantidas, ao ser atingida as chaves são descartadas e as validações otimistas em andamento conflitam.
+	 */
+	private static final int MAXIMO_CHAVES_VERSAO = 65536;
+	/**
+	 * Indica que a transação não foi validada fora do bloco sincronizado.
+	 */
+	private static final long SEM_VALIDACAO_OTIMISTA = -1L;
+	/**
+	 * Lista de observadores registrados.
+	 */
+	private CopyOnWriteArraySet<Observador<M>> observadores = new CopyOnWriteArraySet<Observador<M>>();
+	/**
+	 * Logger para operações executadas por threads, demais exceptions são apenas lançadas.
+	 */
+	private final Logger logger = Logger.getLogger(getClass().getName());
+	/**
+	 * Indicador de solicitação de finalização;
+	 */
+	private volatile boolean finalizar = false;
+	/**
+	 * Indica quando a instância está executando transações para carregar o modelo, com objetivo de impedir operações.
+	 */
+	private volatile boolean inicializando = false;	
+	/**
+	 * Momento de inicialização ou ultima transação.
+	 */
+	private Long momentoInicializacaoOuUltimaTransacao;
+	/**
+	 * Momento de inicialização ou da última gravação do arquivo acelerador.
+	 */
+	private volatile long momentoUltimaGravacaoAcelerador = System.currentTimeMillis();
+	/**
+	 * Impede gravações simultâneas do arquivo acelerador.
+	 */
+	private final Object monitorGravacaoAcelerador = new Object();
+	/**
+	 * Isolamento das consultas desta instância, definido na sua criação.
+	 */
+	private final IsolamentoConsulta isolamentoConsultasInstancia = isolamentoConsultas;
+	/**
+	 * Cache dos resultados das consultas cacheáveis desta instância, NULL quando desabilitado.
+	 */
+	private final CacheConsultas cacheConsultas = (tamanhoCacheConsultas != null) ? new CacheConsultas(tamanhoCacheConsultas, politicaRemocaoCache) : null;
+	/**
+	 * Bloqueio do modelo entre transações (escrita) e consultas com bloqueio de leitura, não utilizado com isolamento NENHUM. No modo não justo um escritor aguardando 
+	 * impede a entrada de novos leitores, assim consultas contínuas não impedem as transações.
+	 */
+	private final ReentrantReadWriteLock bloqueioModelo = new ReentrantReadWriteLock();
+	/**
+	 * Versão do modelo para as leituras otimistas e o cache de consultas (seqlock), ímpar enquanto uma transação altera ou reverte o modelo.
+	 */
+	private volatile long versaoModelo = 0;
+	/**
+	 * Níveis de bloqueio de escrita do modelo mantidos pela thread que o altera, a versão muda somente no primeiro nível. Acessado somente por ela, que já é exclusiva.
+	 */
+	private int niveisEscritaModelo = 0;
+	/**
+	 * Versões publicadas do modelo para as consultas, somente com isolamento MULTIVERSAO.
+	 */
+	private volatile PublicacaoVersoes publicacaoVersoes;
+	/**
+	 * Bytes anexados ao jornal com transações ainda não internalizadas pelo arquivo acelerador.
+	 */
+	private final AtomicLong bytesJornalNaoAcelerados = new AtomicLong();
+	/**
+	 * Acompanhamento do carregamento em andamento, NULL fora do carregamento inicial.
+	 */
+	private volatile AcompanhamentoCarregamento acompanhamentoCarregamento;
+	/**
+	 * Jornal segmentado onde as transações são anexadas, somente instâncias primárias gravam.
+	 */
+	private JornalSegmentado jornal;
+	/**
+	 * Resultado da verificação do final do jornal na última abertura para gravação, NULL em réplicas.
+	 */
+	private volatile RecuperacaoJornal recuperacaoJornal;
+	/**
+	 * Cursor de leitura do jornal, mantém a posição da última transação lida para que réplicas não releiam os segmentos desde o início.
+	 */
+	private LeitorJornal leitorJornal;
+	/**
+	 * Quantidade de transações que entraram em execução e ainda não foram anexadas ao jornal, a sincronização agrupada aguarda por elas para incluí-las no mesmo grupo.
+	 */
+	private final AtomicInteger transacoesAguardandoAnexacao = new AtomicInteger();
+	/**
+	 * Fila de transações assíncronas consumida por uma única thread escritora, criada na primeira transação assíncrona.
+	 */
+	private volatile BlockingQueue<PedidoTransacaoAssincrona<M>> filaTransacoesAssincronas;
+	/**
+	 * Anel das transações síncronas consumido por uma única thread, NULL quando desabilitado ou em réplicas.
+	 */
+	private volatile AnelTransacoes anelTransacoes;
+	/**
+	 * Transações síncronas aguardando a líder do agrupamento.
+	 */
+	private final ConcurrentLinkedQueue<PedidoAgrupamento> filaAgrupamento = new ConcurrentLinkedQueue<PedidoAgrupamento>();
+	private final AtomicInteger pedidosAgrupamento = new AtomicInteger();
+	/**
+	 * Mantido pela chamadora que lidera o agrupamento, as demais aguardam sua transação ser gravada ou o agrupamento ser liberado.
+	 */
+	private final ReentrantLock liderAgrupamento = new ReentrantLock();
+	/**
+	 * Grupos com mais de uma transação gravados no jornal com uma única escrita.
+	 */
+	private final AtomicLong gruposTransacoesGravados = new AtomicLong();
+	/**
+	 * Comparador nome de arquivo como número.
+	 */
+	private Comparator<File> fileNomeNumeroTransacao = new Comparator<File>() {
+		@Override
+		public int compare(File o1, File o2) {
+			Long lo1 = converterNomeArquivo(o1);
+			Long lo2 = converterNomeArquivo(o2);
+			return lo1.compareTo(lo2);
+		}
+	};
+	/**
+	 * Atribui uma implementação de configurador para inicializar novas instâncias da prevalência.
+	 * @param conf Uma implementação de configurador.
+	 * @return TRUE quando o configurado é atribuído, false quando não é, isso significa que um configurador já foi atribuído anteriormente.
 	 */
 	public static boolean setConfigurador(Configurador conf) {
 		if (configurador != null) {
 			return false;
 		}
-		configurador = conf;
-		return true;
+		configurador = conf;
+		return true;
+	}
+	/**
+	 * Atribui o ouvinte que recebe o progresso do carregamento das próximas instâncias, sem ouvinte o progresso é registrado no log (INFO).
+	 * @param ouvinte O ouvinte ou NULL para utilizar o log.
+	 */
+	public static void setOuvinteCarregamento(OuvinteCarregamento ouvinte) {
+		ouvinteCarregamento = ouvinte;
+	}
+	/**
+	 * Informa se ambiente já foi configurado.
+	 * @return TRUE caso positivo.
+	 */
+	public static boolean jaConfigurado() {
+		return (replica != null) || (diretorio != null);
+	}
+	/**
+	 * Configuração padrão para inicialização de prevalências, não protege retorno com cópias, após 10 segundos de inatividade transacional o arquivo acelerador é gravado e as 
+	 * transações internalizadas pelo acelerador são apagadas. Essa é a configuração mais recomendada para qualquer base.
+	 * @param diretorioGravacao Diretório de gravação da base.
+	 */
+	public static void configurar(String diretorioGravacao) {
+		configurar(diretorioGravacao, true, false, 10, true);
+	}
+	/**
+	 * Se por algum motivo precisar alterar os objetos retornados pela base fora de transações, mas sem almejar sua gravação, ultize este método de configuração informando TRUE para
+	 * proteger com cópias o retorno. No entanto o uso de memória sobe circunstancialmente.
+	 * @param diretorioGravacao Diretório de gravação da base. 
+	 * @param protegerRetornosComCopia TRUE para proteger com cópia todos retornos, seja de consultas ou transações com retorno, tudo que sair da base será copiado para evitar que base
+	 * seja corrompida por alterações de estado não transacionais.
+	 */
+	public static void configurar(String diretorioGravacao, boolean protegerRetornosComCopia) {
+		configurar(diretorioGravacao, true, protegerRetornosComCopia, 10, true);
+	}	
+	/**
+	 * Configura o funcionamento da classe para gerar instâncias que efetuam gravação no sistema de arquivo. A configuração pode ser customizada para casos específicos, por exemplo 
+	 * durante cargas em lote é util disparar manualmente a gravação do acelerador, bem como manter arquivos de transação para inspecionar transações. As transações são anexadas em segmentos
+	 * do jornal, assim manter transações aceleradas (apagarTransacoesAceleradas = false) consome apenas espaço em disco, sem criar um arquivo por transação.
+	 * @param diretorioGravacao Diretório de gravação dos dados.
+ 	 * @param protegerRetornosComCopia TRUE para efetuar cópia, assim mudanças de estado nos objetos retornados não afetam os objetos da base, no entanto consome memória e processamento. FALSE para
+	 * retorno dos objetos da base, mais rápido com menos processamento, mas caso o estado dos objetos retornados sejam alterados fora de transações a base será corrompida.
+	 * @param segundosInatividadeParaGravarAcelerador Quantidade de segundos sem execução de transação para ínicio da gravação do arquivo acelerador de inicialização.
+	 * @param apagarTransacoesAceleradas TRUE para apagar os segmentos do jornal que já foram internalizados no arquivo acelerador. FALSE para manter todas transações em sistema arquivo.
+	 */
+	public static void configurar(String diretorioGravacao, boolean protegerRetornosComCopia, Integer segundosInatividadeParaGravarAcelerador, boolean apagarTransacoesAceleradas) {
+		configurar(diretorioGravacao, true, protegerRetornosComCopia, segundosInatividadeParaGravarAcelerador, apagarTransacoesAceleradas);
+	}
+	/**
+	 * Configuração de réplica recomendada, sem proteção por cópia dos retornos.
+	 */
+	public static void configurarReplica(String diretorioLeitura) {
+		configurar(diretorioLeitura, false, false, null, false);
+	}
+	/**
+	 * Configura a classe para gerar instâncias de réplicas somente leitura. Para criação de réplicas, basta que elas tenham acesso ao sistema de arquivos em um compartilhamento de rede.
+	 * @param diretorioLeitura O diretório onde os dados estão sendo gravados pela instância primária.
+	 * @param protegerRetornosComCopia TRUE para efetuar cópia de proteção dos dados retornados, assim mudanças de estado nos objetos retornados não afetam os objetos da base, no entanto consome 
+	 * memória e processamento. FALSE para retorno dos objetos da base, mais rápido e usa menos memória, mas caso o estado dos objetos retornados sejam alterados a instância 
+	 * se torna diferente do sistema de arquivos.
+	 */
+	public static void configurarReplica(String diretorioLeitura, boolean protegerRetornosComCopia) {
+		configurar(diretorioLeitura, false, protegerRetornosComCopia, null, false);
+	}	
+	/**
+	 * Configura o funcionamento de novas instâncias conforme parâmetros informados. Este método da classe deve ser executado apenas um vez, como alternativa a blocos estáticos e 
+	 * para não precisar controlar a quantidade de chamadas deste método, crie uma configurador informe o configurador para classe. 
+	 * @param diretorioGravacao O diretório que você criou e deseja gravar seus dados.
+	 * @param primario TRUE para primário (efetua gravação), FALSE para réplica (somente leitura).
+	 * @param protegerRetornosComCopia TRUE para proteger que retornos atribuam dados o seu modelo, FALSE desabilita a proteção de alteração. No entanto é recomendável desabilitar,
+	 * e ao alterar seu modelo somente dentro das transações, isso reduz o uso de memória e aumenta a velocidade de resposta.
+	 * @param segundosInatividadeParaGravarAcelerador Quantidade de segundos sem execução de transações para disparar a gravação do arquivo acelerador, NULL desativa a gravação automática do acelerador.
+	 * @throws IllegalStateException quando o ambiente foi configurado anteriormente, executar apenas uma vez este métodos!
+	 * @see Configurador
+	 */
+	private static void configurar(String diretorioGravacao, boolean primario, boolean protegerRetornosComCopia, Integer segundosInatividadeParaGravarAcelerador, boolean apagarTransacoesJaAceleradas) {
+		if (jaConfigurado()) {
+			throw new IllegalStateException("Ambiente já configurado!");
+		}
+		if ((segundosInatividadeParaGravarAcelerador != null) && (segundosInatividadeParaGravarAcelerador < 10)) {
+			throw new IllegalArgumentException("O tempo de inatividade deve ser maior ou igual a 10 segundos.");
+		}
+		diretorio = diretorioGravacao;		
+		replica = !primario;
+		protegerRetornoCopiandoObjetos = protegerRetornosComCopia;
+		milisegundosInatividadeTransacionalDispararGravacaoAcelerador = (segundosInatividadeParaGravarAcelerador != null) ? (segundosInatividadeParaGravarAcelerador * 1000L) : null;
+		apagarTransacoesAceleradas = apagarTransacoesJaAceleradas;
+	}
+	private static Integer validarNivelCompressao(Integer nivel) {
+		if ((nivel != null) && ((nivel < Deflater.NO_COMPRESSION) || (nivel > Deflater.BEST_COMPRESSION))) {
+			throw new IllegalArgumentException("O nível de compressão deve estar entre " + Deflater.NO_COMPRESSION + " e " + Deflater.BEST_COMPRESSION + ".");
+		}
+		return nivel;
+	}
+	
+	/**
+	 * Construtor para novos tipos de registro.
+	 * @param tipoRegistro O tipo de registro serializável.
+	 */
+	private MiniPrevalencia(Class<M> tipoRegistro) {
+		this(tipoRegistro, null);
+	}	
+	/**
+	 * Construtor para uma partição de um modelo particionado, gravada no seu próprio diretório.
+	 * @param tipoRegistro O tipo de registro serializável.
+	 * @param particao Índice da partição ou NULL para um modelo não particionado.
+	 */
+	private MiniPrevalencia(Class<M> tipoRegistro, Integer particao) {
+		this.tipoRegistro = tipoRegistro;
+		this.particao = particao;
+	}
+	
+	/**
+	 * Constrói a raiz da prevalência criando uma instância do seu modelo, que é a entrada de acesso para os demais objetos. Seu modelo precisa ser um POJO com um construtor padrão. 	
+	 * @return Uma instância do POJO raiz.
+	 */
+	private M construirNovoPojoUnico() {
+		if (tipoRegistro == null) {
+			throw new IllegalArgumentException("A classe do seu tipo de registro (seu modelo) não não foi informada!");
+		}
+		try {
+			if (tipoRegistro.getDeclaredConstructor() == null) {
+				throw new IllegalArgumentException("A classe " + tipoRegistro.getName() + " não tem um construtor padrão (vazio)!");
+			}
+			return tipoRegistro.getDeclaredConstructor().newInstance();
+		} catch (Exception e) {
+			throw new RuntimeException("Não foi possível obter o construtor da classe " + tipoRegistro.getName() + ", verifique se ele é publico!", e);
+		}		
+	}
+	
+	/**
+	 * Obtém uma instância pronta para manter a prevalência do modelo informado, instânciando apenas uma vez para cada tipo de registro. Aqui os dados gravados do 
+	 * pojoRegistro (seu modelo informado) são desserializados do arquivo acelerador e carregados em memória, na sequencia todas transações que ainda não foram internalizadas pelo 
+	 * arquivo acelerador são carregadas para o modelo, através da re-execução de transações.<br>
+	 * OBS: usualmente apenas um modelo é utilizado por sistema, no entanto é possível utilizar mais de um modelo, mas lembre-se um não se relacionará com outro.
+	 * @param <Z> A classe do seu modelo, deve ser serializável.
+	 * @param tipoRegistro Tipo do registro desejado, deve ser um POJO serializável, o contrutor deve padrão (sem parâmetros), e a raiz de acesso para demais objetos do seu modelo.
+	 * @return Uma instância ACID desta classe que controla a gravação do modelo em memória e em sistema de arquivos, inicializado com todos dados carregados do sistema de arquivos (quando houver).
+	 * @throws LeituraEmDiscoException Caso existam registros em sistema de arquivo e eles não possam ser lidos, caso o principal arquivo acelerador não possa ser lido ou desserializado, caso
+	 * alguma transação não possa ser lida ou desserializada.
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized static <Z extends Serializable> MiniPrevalencia<Z> prevalecer(Class<Z> tipoRegistro) throws LeituraEmDiscoException {
+		aplicarConfiguracao();
+		if (mapaPrevalencias.containsKey(tipoRegistro)) {
+			mapaPrevalencias.get(tipoRegistro).validarFinalizacao();
+			return (MiniPrevalencia<Z>) mapaPrevalencias.get(tipoRegistro);
+		}
+		MiniPrevalencia<Z> memoriaParaArquivo = new MiniPrevalencia<Z>(tipoRegistro);		
+		mapaPrevalencias.put(tipoRegistro, memoriaParaArquivo);		
+		memoriaParaArquivo.iniciar();
+		return (MiniPrevalencia<Z>) mapaPrevalencias.get(tipoRegistro);
+	}
+	/**
+	 * Aplica o configurador na primeira obtenção de uma prevalência e verifica se o ambiente foi configurado.
+	 */
+	private static void aplicarConfiguracao() {
+		if ((configurador != null) && !jaConfigurado()) {
+			configurar(configurador.getDiretorioGravacao(), 
+					   configurador.isPrimario(), 
+					   configurador.isRetornoProjegidoPorCopia(), 
+					   configurador.getSegundosInatividadeParaIniciarGravacaoAcelerador(),
+					   configurador.isApagarTransacoesInternalizadasPeloAcelerador());
+			if (configurador.getTamanhoMaximoSegmentoJornal() != null) {
+				tamanhoMaximoSegmentoJornal = configurador.getTamanhoMaximoSegmentoJornal();
+			}
+			if (configurador.getPoliticaSincronizacaoDisco() != null) {
+				politicaSincronizacaoDisco = configurador.getPoliticaSincronizacaoDisco();
+			}
+			milissegundosSincronizacaoDisco = configurador.getMilissegundosSincronizacaoDisco();
+			if ((configurador.getTamanhoAnelTransacoes() != null) && ((configurador.getTamanhoAnelTransacoes() < 2) || (Integer.bitCount(configurador.getTamanhoAnelTransacoes()) != 1))) {
+				throw new IllegalArgumentException("O tamanho do anel de transações deve ser uma potência de 2 maior que 1.");
+			}
+			tamanhoAnelTransacoes = configurador.getTamanhoAnelTransacoes();
+			if ((configurador.getTamanhoMaximoAgrupamentoTransacoes() != null) && (configurador.getTamanhoMaximoAgrupamentoTransacoes() < 2)) {
+				throw new IllegalArgumentException("O tamanho máximo do agrupamento de transações deve ser maior que 1.");
+			}
+			tamanhoMaximoAgrupamento = configurador.getTamanhoMaximoAgrupamentoTransacoes();
+			if ((configurador.getMicrossegundosEsperaAgrupamento() != null) && (configurador.getMicrossegundosEsperaAgrupamento() < 0)) {
+				throw new IllegalArgumentException("A espera do agrupamento de transações não pode ser negativa.");
+			}
+			nanosEsperaAgrupamento = (configurador.getMicrossegundosEsperaAgrupamento() != null) ? TimeUnit.MICROSECONDS.toNanos(configurador.getMicrossegundosEsperaAgrupamento()) : 0;
+			isolamentoConsultas = (configurador.getIsolamentoConsultas() != null) ? configurador.getIsolamentoConsultas() : IsolamentoConsulta.NENHUM;
+			if (configurador.getTentativasLeituraOtimista() != null) {
+				if (configurador.getTentativasLeituraOtimista() < 0) {
+					throw new IllegalArgumentException("A quantidade de tentativas de leitura otimista não pode ser negativa.");
+				}
+				tentativasLeituraOtimista = configurador.getTentativasLeituraOtimista();
+			}
+			if (configurador.getTentativasTransacaoOtimista() != null) {
+				if (configurador.getTentativasTransacaoOtimista() < 0) {
+					throw new IllegalArgumentException("A quantidade de tentativas de transações otimistas não pode ser negativa.");
+				}
+				tentativasTransacaoOtimista = configurador.getTentativasTransacaoOtimista();
+			}
+			configurarMotorConsultas(configurador.getParalelismoConsultas(), configurador.getMilissegundosLimiteConsulta(), configurador.isConsultasEmThreadsVirtuais());
+			if ((configurador.getTamanhoCacheConsultas() != null) && (configurador.getTamanhoCacheConsultas() < 1)) {
+				throw new IllegalArgumentException("O tamanho do cache de consultas deve ser maior que zero.");
+			}
+			tamanhoCacheConsultas = configurador.getTamanhoCacheConsultas();
+			politicaRemocaoCache = (configurador.getPoliticaRemocaoCache() != null) ? configurador.getPoliticaRemocaoCache() : PoliticaRemocaoCache.LRU;
+			if (configurador.getCodificador() != null) {
+				codificador = configurador.getCodificador();
+			}
+			gravarAceleradorComInstanciaSombra = configurador.isGravarAceleradorComInstanciaSombra();
+			if (configurador.getThreadsCarregamento() != null) {
+				threadsCarregamento = configurador.getThreadsCarregamento();
+			}
+			gravacoesIncrementaisAntesConsolidacao = configurador.getGravacoesIncrementaisAntesConsolidacao();
+			if (configurador.getGeracoesAceleradorMantidas() != null) {
+				if (configurador.getGeracoesAceleradorMantidas() < 1) {
+					throw new IllegalArgumentException("Ao menos uma geração do arquivo acelerador deve ser mantida.");
+				}
+				geracoesAceleradorMantidas = configurador.getGeracoesAceleradorMantidas();
+			}
+			nivelCompressaoAcelerador = validarNivelCompressao(configurador.getNivelCompressaoAcelerador());
+			nivelCompressaoJornal = validarNivelCompressao(configurador.getNivelCompressaoJornal());
+			bytesJornalDispararGravacaoAcelerador = configurador.getBytesJornalParaIniciarGravacaoAcelerador();
+			transacoesDispararGravacaoAcelerador = configurador.getTransacoesParaIniciarGravacaoAcelerador();
+			Integer segundosMaximosEntreGravacoes = configurador.getSegundosMaximosEntreGravacoesAcelerador();
+			milisegundosMaximosEntreGravacoesAcelerador = (segundosMaximosEntreGravacoes != null) ? (segundosMaximosEntreGravacoes * 1000L) : null;
+		}
+		if ((replica == null) || (diretorio == null)) {
+			throw new IllegalStateException("Classe não configurada para o ambiente, é necessário executar o método configurar na classe.");
+		}
+	}
+	/**
+	 * Carrega o modelo do sistema de arquivos e inicia as threads da instância conforme a configuração.
+	 * @throws LeituraEmDiscoException Caso os registros do sistema de arquivos não possam ser lidos.
+	 */
+	private void iniciar() throws LeituraEmDiscoException {
+		try {
+			carregarDadosDoSistemaDeArquivo();			
+		} catch (Exception e) {
+			throw new LeituraEmDiscoException("Erro ao preparar ou carregar os objetos do sistema de arquivos, não foi possível iniciar a prevalência.", e);
+		}
+		if (isolamentoConsultasInstancia == IsolamentoConsulta.MULTIVERSAO) {
+			publicacaoVersoes = new PublicacaoVersoes();//Antes das réplicas começarem a receber transações
+		}
+		if (replica) {
+			criarOuvinteGravacaoParaExecutarTransacoes();
+		} else if ((milisegundosInatividadeTransacionalDispararGravacaoAcelerador != null) || (bytesJornalDispararGravacaoAcelerador != null) 
+				|| (transacoesDispararGravacaoAcelerador != null) || (milisegundosMaximosEntreGravacoesAcelerador != null)) {
+			iniciarMonitorGravacaoAutomaticaArquivoAcelerador();
+		}
+		if (!replica && (tamanhoAnelTransacoes != null)) {
+			anelTransacoes = new AnelTransacoes(tamanhoAnelTransacoes);
+		}
+		if (!replica && (politicaSincronizacaoDisco == PoliticaSincronizacaoDisco.PERIODICA)) {
+			iniciarSincronizacaoPeriodicaJornal();
+		}
+	}
+	
+	/**
+	 * Executa sua transação com retorno, também pode ser utilizado para consultas "limpas" sem alteração do modelo.
+	 * @param transacao Sua transação.
+	 * @throws ExecucaoTransacaoException Caso a execução de sua transação resulte em erro, revise seu código, pois, ele é o único resposável por este erro. Mas não se preocupe, 
+	 * o código da transação só é efetivado se for executado na íntegra sem erro, por ser uma transação atômica.
+	 */
+	@SuppressWarnings("unchecked")
+	public <R, E extends Throwable> R executar(TransacaoComRetorno<R, M, E> transacao) throws E, GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
+		return (R) executarTransacao(transacao);
+	}
+	/**
+	 * Executa sua transação sem retorno.
+	 * @param transacao Sua transação.
+	 * @throws ExecucaoTransacaoException Caso a execução de sua transação resulte em erro, revise seu código, pois, ele é o único resposável por este erro. Mas não se preocupe, 
+	 * o código da transação só é efetivado se for executado na íntegra sem erro, por ser uma transação atômica.
+	 */
+	public <E extends Throwable> void executar(TransacaoSemRetorno<M, E> transacao) throws E, GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
+		executarTransacao(transacao);
+	}
+	/**
+	 * Executa sua transação com retorno de forma assíncrona. A transação é serializada na thread chamadora e entregue a uma fila consumida por uma única thread escritora, 
+	 * assim a thread chamadora não aguarda o bloco sincronizado nem a gravação em disco. As garantias ACID são as mesmas da execução síncrona.
+	 * @param transacao Sua transação.
+	 * @return Futuro concluído com o retorno da transação após sua gravação (e sincronização, conforme política), ou concluído com a mesma exception que a execução síncrona lançaria.
+	 * @throws GravacaoEmDiscoException Caso a transação não possa ser serializada.
+	 */
+	@SuppressWarnings("unchecked")
+	public <R, E extends Throwable> CompletableFuture<R> executarAssincrono(TransacaoComRetorno<R, M, E> transacao) throws GravacaoEmDiscoException {
+		return (CompletableFuture<R>) enfileirarTransacao(transacao);
+	}
+	/**
+	 * Executa sua transação sem retorno de forma assíncrona.
+	 * @param transacao Sua transação.
+	 * @return Futuro concluído após a gravação da transação, ou concluído com a mesma exception que a execução síncrona lançaria.
+	 * @throws GravacaoEmDiscoException Caso a transação não possa ser serializada.
+	 * @see #executarAssincrono(TransacaoComRetorno)
+	 */
+	@SuppressWarnings("unchecked")
+	public <E extends Throwable> CompletableFuture<Void> executarAssincrono(TransacaoSemRetorno<M, E> transacao) throws GravacaoEmDiscoException {
+		return (CompletableFuture<Void>) (CompletableFuture<?>) enfileirarTransacao(transacao);
+	}
+	/**
+	 * Executa as transações em sequência com um único bloco sincronizado, um único registro no jornal e um único número de transação, evitando o custo de gravação de 
+	 * cada transação pequena (ex: cargas com muitas transações "adicionar se não existir"). Cada transação é validada sobre o modelo já alterado pelas anteriores do lote; 
+	 * a transação recusada pela validação não é executada nem gravada e as demais continuam, seu resultado contém a exception. Na reexecução do jornal somente as 
+	 * transações aceitas são executadas, na mesma ordem.<br>
+	 * Um erro na execução de qualquer transação reverte o lote inteiro (em memória somente se todas forem TransacaoReversivel) e lança ExecucaoTransacaoException. 
+	 * As transações do lote são sempre validadas dentro do bloco sincronizado, inclusive as otimistas, e as consultas isoladas não veem o lote pela metade.
+	 * @param transacoes Transações com ou sem retorno do modelo.
+	 * @return Os resultados na ordem das transações.
+	 * @throws GravacaoEmDiscoException Caso ocorra um problema na gravação ou serialização do lote.
+	 * @throws LeituraEmDiscoException Caso ocorra um erro no processo de reversão da base.
+	 * @throws ExecucaoTransacaoException Caso a execução de alguma transação resulte em erro, neste caso nenhuma transação do lote é efetivada.
+	 * @see #executarTransacao(Transacao)
+	 */
+	@SuppressWarnings("unchecked")
+	public List<ResultadoTransacaoLote> executarLote(List<? extends Transacao<M, ? extends Throwable>> transacoes) throws GravacaoEmDiscoException, LeituraEmDiscoException, 
+			ExecucaoTransacaoException {
+		validarReplica();
+		validarInicializacao();
+		validarFinalizacao();
+		List<byte[]> transacoesSerializadas = new ArrayList<byte[]>(transacoes.size());
+		for (Transacao<M, ? extends Throwable> transacao : transacoes) {
+			transacoesSerializadas.add(serializarTransacao(transacao));//Fora do bloco sincronizado, como nas transações individuais
+		}
+		ResultadoTransacaoLote[] resultados = new ResultadoTransacaoLote[transacoes.size()];
+		TransacaoAnexada transacaoAnexada = anexarLote(transacoes, transacoesSerializadas, resultados);
+		if (transacaoAnexada != null) {//NULL quando todas as transações foram recusadas
+			aguardarSincronizacao(transacaoAnexada);
+			momentoInicializacaoOuUltimaTransacao = System.currentTimeMillis();
+			notificarObservadores((Transacao<M, ? extends Throwable>) transacaoAnexada.transacao);
+		}
+		for (int indice = 0; indice < resultados.length; indice++) {
+			if (resultados[indice].isExecutada()) {
+				resultados[indice] = new ResultadoTransacaoLote(copiarObjeto(resultados[indice].retorno, transacoes.get(indice), null), null);
+			}
+		}
+		return Arrays.asList(resultados);
+	}
+	/**
+	 * Executa sua consulta. Com isolamento NENHUM (padrão) podem ocorrer leituras "sujas", que podem passar por reversão, caso precise de leituras consistentes configure 
+	 * o isolamento OTIMISTA ou BLOQUEIO_LEITURA, ou utilize uma transação com retorno. A cópia do retorno (quando configurada) faz parte da leitura isolada, sem a cópia 
+	 * os objetos do modelo retornados podem ser alterados por transações após o retorno.
+	 * Com o pool exclusivo configurado a consulta executa nele e a chamada aguarda seu término, com tempo limite a chamada retorna ao excedê-lo.
+	 * @param <R> Seu tipo de retorno
+	 * @param consulta A consulta desejável.
+	 * @return Seu retorno.
+	 * @throws ConsultaCanceladaException Caso a consulta exceda seu tempo limite.
+	 * @see IsolamentoConsulta
+	 * @see Configurador#getParalelismoConsultas()
+	 */
+	public <R> R executar(Consulta<R, M> consulta) throws ConsultaCanceladaException {		
+		validarInicializacao();
+		validarFinalizacao();
+		Long limite = (consulta.getMilissegundosLimite() != null) ? consulta.getMilissegundosLimite() : milissegundosLimiteConsulta;
+		ForkJoinPool pool = poolConsultas;
+		if ((limite == null) && (pool == null)) {
+			return executarConsultaIsolada(consulta);
+		}
+		CancelamentoConsulta cancelamento = new CancelamentoConsulta(limite);
+		if ((pool == null) || ForkJoinTask.inForkJoinPool() && (ForkJoinTask.getPool() == pool)) {
+			return executarConsultaCancelavel(consulta, cancelamento);//Sem pool ou consulta aninhada, executa na própria thread
+		}
+		ForkJoinTask<R> tarefa = pool.submit(() -> executarConsultaCancelavel(consulta, cancelamento));
+		try {
+			return tarefa.get(cancelamento.obterNanosRestantes(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			cancelamento.cancelar();
+			throw new ConsultaCanceladaException("A consulta " + consulta + " excedeu o tempo limite de " + limite + " ms.");
+		} catch (InterruptedException e) {
+			cancelamento.cancelar();
+			Thread.currentThread().interrupt();
+			throw new ConsultaCanceladaException("Interrompido enquanto aguardava a consulta " + consulta + ".");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IllegalStateException("Erro ao executar a consulta " + consulta + ".", e.getCause());
+		}
+	}
+	/**
+	 * Executa sua consulta de forma assíncrona, em uma thread virtual quando configurado, caso contrário no pool exclusivo ou no pool comum. O cancelamento do futuro 
+	 * cancela a consulta, e ao exceder o tempo limite o futuro é concluído com ConsultaCanceladaException.
+	 * @param <R> Seu tipo de retorno
+	 * @param consulta A consulta desejável.
+	 * @return Futuro concluído com o retorno da consulta.
+	 */
+	public <R> CompletableFuture<R> executarAssincrono(Consulta<R, M> consulta) {
+		validarInicializacao();
+		validarFinalizacao();
+		Long limite = (consulta.getMilissegundosLimite() != null) ? consulta.getMilissegundosLimite() : milissegundosLimiteConsulta;
+		CancelamentoConsulta cancelamento = new CancelamentoConsulta(limite);
+		CompletableFuture<R> futuro = new CompletableFuture<R>() {
+			@Override
+			public boolean cancel(boolean interromper) {
+				cancelamento.cancelar();
+				return super.cancel(interromper);
+			}
+		};
+		ForkJoinPool pool = poolConsultas;
+		Executor despacho = (despachoConsultas != null) ? despachoConsultas : (pool != null) ? pool : ForkJoinPool.commonPool();
+		despacho.execute(() -> {
+			try {
+				if ((pool != null) && (despacho != pool)) {//Thread virtual aguarda, a consulta e seu paralelismo executam no pool exclusivo
+					futuro.complete(pool.submit(() -> executarConsultaCancelavel(consulta, cancelamento)).join());
+				} else {
+					futuro.complete(executarConsultaCancelavel(consulta, cancelamento));
+				}
+			} catch (Throwable e) {
+				futuro.completeExceptionally(e);
+			}
+		});
+		if (limite != null) {
+			CompletableFuture.delayedExecutor(limite, TimeUnit.MILLISECONDS).execute(() -> {
+				if (futuro.completeExceptionally(new ConsultaCanceladaException("A consulta " + consulta + " excedeu o tempo limite de " + limite + " ms."))) {
+					cancelamento.cancelar();
+				}
+			});
+		}
+		return futuro;
+	}
+	/**
+	 * Executa a consulta registrando seu cancelamento na thread.
+	 */
+	private <R> R executarConsultaCancelavel(Consulta<R, M> consulta, CancelamentoConsulta cancelamento) {
+		CancelamentoConsulta anterior = cancelamentoConsultaCorrente.get();
+		cancelamentoConsultaCorrente.set(cancelamento);
+		try {
+			cancelamento.verificar();
+			return executarConsultaIsolada(consulta);
+		} finally {
+			if (anterior != null) {
+				cancelamentoConsultaCorrente.set(anterior);
+			} else {
+				cancelamentoConsultaCorrente.remove();
+			}
+		}
+	}
+	/**
+	 * Obtém o cancelamento da consulta em execução na thread, para ser verificado dentro de parallelStream ou laços da consulta.
+	 * @return O cancelamento, NULL quando a consulta não tem tempo limite nem foi despachada de forma assíncrona.
+	 */
+	public static CancelamentoConsulta obterCancelamentoConsulta() {
+		return cancelamentoConsultaCorrente.get();
+	}
+	/**
+	 * Verificação cooperativa de cancelamento para consultas longas, chame periodicamente em seus laços. Sem cancelamento na thread não faz nada.
+	 * @throws ConsultaCanceladaException Caso a consulta em execução na thread tenha sido cancelada ou excedido seu tempo limite.
+	 */
+	public static void verificarCancelamentoConsulta() throws ConsultaCanceladaException {
+		CancelamentoConsulta cancelamento = cancelamentoConsultaCorrente.get();
+		if (cancelamento != null) {
+			cancelamento.verificar();
+		}
+	}
+	/**
+	 * Executa a consulta conforme o isolamento configurado, utilizando o cache para as consultas cacheáveis.
+	 */
+	@SuppressWarnings("unchecked")
+	private <R> R executarConsultaIsolada(Consulta<R, M> consulta) {
+		CacheConsultas cache = (consulta instanceof ConsultaCacheavel) ? cacheConsultas : null;
+		if (isolamentoConsultasInstancia == IsolamentoConsulta.MULTIVERSAO) {
+			return publicacaoVersoes.executar(consulta, cache);
+		}
+		if (cache == null) {
+			return executarConsultaModelo(consulta);
+		}
+		long versao = versaoModelo;//Carimbo do resultado, ímpar (transação em andamento) nunca é armazenado
+		EntradaCacheConsulta entrada = cache.obter(consulta, versao);
+		if (entrada != null) {
+			return copiarObjeto((R) entrada.valor, null, consulta);
+		}
+		R retorno = executarConsultaModelo(consulta);
+		VarHandle.acquireFence();//Leituras do modelo não podem ser reordenadas após a validação
+		if (((versao & 1) == 0) && (versaoModelo == versao)) {
+			cache.armazenar(consulta, copiarObjeto(retorno, null, consulta), versao);
+		}
+		return retorno;
+	}
+	/**
+	 * Executa a consulta no modelo das transações conforme o isolamento configurado.
+	 */
+	private <R> R executarConsultaModelo(Consulta<R, M> consulta) {
+		IsolamentoConsulta isolamento = (isolamentoConsultasInstancia == IsolamentoConsulta.NENHUM) ? IsolamentoConsulta.NENHUM 
+				: (consulta.getIsolamento() != null) ? consulta.getIsolamento() : isolamentoConsultasInstancia;
+		if (isolamento == IsolamentoConsulta.OTIMISTA) {
+			for (int tentativa = 0; tentativa < tentativasLeituraOtimista; tentativa++) {
+				verificarCancelamentoConsulta();
+				long versao = versaoModelo;
+				if ((versao & 1) != 0) {
+					break;//Transação alterando o modelo, aguarda no bloqueio de leitura
+				}
+				try {
+					R retorno = copiarObjeto(consulta.executar(pojoRegistro), null, consulta);
+					VarHandle.acquireFence();//Leituras do modelo não podem ser reordenadas após a validação
+					if (versaoModelo == versao) {
+						return retorno;
+					}
+				} catch (RuntimeException e) {
+					VarHandle.acquireFence();
+					if (versaoModelo == versao) {
+						throw e;//Erro da própria consulta, não de uma leitura inconsistente
+					}
+				}
+			}
+		}
+		if (isolamento != IsolamentoConsulta.NENHUM) {
+			bloqueioModelo.readLock().lock();
+			try {
+				return copiarObjeto(consulta.executar(pojoRegistro), null, consulta);
+			} finally {
+				bloqueioModelo.readLock().unlock();
+			}
+		}
+		return copiarObjeto(consulta.executar(pojoRegistro), null, consulta);
+	}
+	/**
+	 * Executa sua transação Atômica, Consistente, Isolada e Durável através de um bloco sincronizado pela única instância do seu modelo. Apesar de sicronizado, mais de 2000 transações 
+	 * por segundo foram executadas em um notebook i5 de primeira geração, as transações de teste envolveram consultas para validação e alteração de dados. Como sugestão mantenha suas 
+	 * trasações pequenas e simples para tornar sua execução mais rápida. Com a política de sincronização AGRUPADA o retorno ocorre somente após a sincronização do grupo que contém 
+	 * a transação, realizada fora do bloco sincronizado para que outras transações sejam anexadas e sincronizadas juntas.
+	 * @param <R> Seu tipo de retorno.
+	 * @param <E> Seu tipo de exception que pode ser lançada durante a validação.
+	 * @param transacao Sua transação totalmente serializável consequentemente repetível após desserialização, não pode depender do que não foi serializado!
+	 * @return Seu retorno
+	 * @throws E Caso sua implementação levante uma exception durante o método de validação.
+	 * @throws GravacaoEmDiscoException Caso ocorra um problema na gravação ou serialização da transação. Não precisa ser verificada em blocos try catch.
+	 * @throws LeituraEmDiscoException Caso ocorra um erro no processo de reversão da base, neste caso a base é finalizada e considerada corrompida até que transação com problema seja corrigida.
+	 * Não precisa ser verificada em blocos try catch.
+	 * @throws ExecucaoTransacaoException Caso seu código (método executar da transação) resulte em erro, neste caso a base será revertida para o estado anterior
+	 * a transação, a transação não é executada pela metade, ou é executada totalmente ou a base é revertida e na sequencia esta exception é lançada.
+	 */
+	private <E extends Throwable> Object executarTransacao(Transacao<M, E> transacao) throws E, GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException  {
+		validarReplica();
+		validarInicializacao();
+		validarFinalizacao();		
+		byte[] transacaoSerializada = serializarTransacao(transacao);//Fora do bloco sincronizado, transações grandes não bloqueiam as demais enquanto são serializadas
+		TransacaoAnexada transacaoAnexada = null;
+		if (transacao instanceof TransacaoOtimista) {
+			for (int tentativa = 0; (transacaoAnexada == null) && (tentativa < tentativasTransacaoOtimista); tentativa++) {
+				Long versaoValidada = validarOtimista(transacao);
+				if (versaoValidada != null) {
+					transacaoAnexada = anexarTransacaoAnel(transacao, transacaoSerializada, versaoValidada);//NULL em caso de conflito
+				}
+			}
+		}
+		if (transacaoAnexada == null) {
+			transacaoAnexada = anexarTransacaoAnel(transacao, transacaoSerializada, SEM_VALIDACAO_OTIMISTA);
+		}
+		aguardarSincronizacao(transacaoAnexada);
+		momentoInicializacaoOuUltimaTransacao = System.currentTimeMillis();
+		notificarObservadores(transacao);
+		return copiarObjeto(transacaoAnexada.retorno, transacao, null);
+	}
+	/**
+	 * Anexa a transação pelo anel de transações ou pelo agrupamento de escrita, quando habilitados, ou diretamente na thread chamadora.
+	 */
+	private <E extends Throwable> TransacaoAnexada anexarTransacaoAnel(Transacao<M, E> transacao, byte[] transacaoSerializada, long versaoValidada) throws E, GravacaoEmDiscoException, 
+			LeituraEmDiscoException, ExecucaoTransacaoException {
+		AnelTransacoes anel = anelTransacoes;
+		if (anel != null) {
+			return anel.executar(transacao, transacaoSerializada, versaoValidada);
+		}
+		if (tamanhoMaximoAgrupamento != null) {
+			return anexarAgrupada(transacao, transacaoSerializada, versaoValidada);
+		}
+		return anexarTransacao(transacao, transacaoSerializada, versaoValidada);
+	}
+	/**
+	 * Entrega a transação ao agrupamento de escrita e aguarda sua gravação no jornal. A chamadora que obtiver o agrupamento lidera grupos até sua própria transação
+	 * ser gravada e então acorda a primeira transação da fila para liderar os grupos seguintes.
+	 * @return A transação anexada, a sincronização com o disco ainda deve ser aguardada. NULL caso a validação otimista conflite.
+	 */
+	private <E extends Throwable> TransacaoAnexada anexarAgrupada(Transacao<M, E> transacao, byte[] transacaoSerializada, long versaoValidada) throws E, GravacaoEmDiscoException, 
+			LeituraEmDiscoException, ExecucaoTransacaoException {
+		PedidoAgrupamento pedido = new PedidoAgrupamento(transacao, transacaoSerializada, versaoValidada);
+		transacoesAguardandoAnexacao.incrementAndGet();//Informa a sincronização agrupada das transações ainda na fila
+		filaAgrupamento.add(pedido);
+		pedidosAgrupamento.incrementAndGet();
+		while (!pedido.concluido) {
+			if (liderAgrupamento.tryLock()) {
+				try {
+					while (!pedido.concluido) {
+						liderarAgrupamento();
+					}
+				} finally {
+					liderAgrupamento.unlock();
+				}
+				PedidoAgrupamento proximo = filaAgrupamento.peek();
+				if (proximo != null) {
+					LockSupport.unpark(proximo.chamadora);//Próxima líder
+				}
+			} else {
+				LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));//Acordada pela líder ao concluir, o tempo só cobre a troca de líder
+			}
+		}
+		MiniPrevalencia.<E>lancarErroAnexacao(pedido.erro);
+		return pedido.transacaoAnexada;
+	}
+	/**
+	 * Forma um grupo com as transações da fila, aguardando até a espera configurada enquanto o grupo não estiver completo, grava o grupo e acorda suas chamadoras.
+	 */
+	private void liderarAgrupamento() {
+		long limite = System.nanoTime() + nanosEsperaAgrupamento;
+		while ((pedidosAgrupamento.get() < tamanhoMaximoAgrupamento) && (System.nanoTime() - limite < 0)) {
+			LockSupport.parkNanos(20000);
+		}
+		List<PedidoAgrupamento> grupo = new ArrayList<PedidoAgrupamento>();
+		PedidoAgrupamento pedido;
+		while ((grupo.size() < tamanhoMaximoAgrupamento) && ((pedido = filaAgrupamento.poll()) != null)) {
+			grupo.add(pedido);
+		}
+		pedidosAgrupamento.addAndGet(-grupo.size());
+		anexarGrupo(grupo);
+		for (PedidoAgrupamento concluido : grupo) {
+			transacoesAguardandoAnexacao.decrementAndGet();
+			concluido.concluido = true;
+			LockSupport.unpark(concluido.chamadora);
+		}
+	}
+	/**
+	 * Valida, executa e anexa ao jornal um grupo de transações dentro do bloco sincronizado do modelo, com uma única escrita no jornal e uma única atualização da
+	 * orientação das réplicas. Cada transação mantém sua validação, seu número e seu resultado: a exception de uma transação é atribuída somente ao seu pedido e as 
+	 * demais continuam. O bloqueio de escrita e a versão do modelo cobrem todo o grupo até sua gravação.
+	 * @param grupo Pedidos na ordem de execução, recebem a transação anexada ou o erro.
+	 */
+	@SuppressWarnings("unchecked")
+	private void anexarGrupo(List<PedidoAgrupamento> grupo) {
+		List<PedidoAgrupamento> pendentes = new ArrayList<PedidoAgrupamento>();
+		try {
+			synchronized (pojoRegistro) {
+				bloquearEscritaModelo();//Até a gravação do grupo, as consultas isoladas não veem alterações que ainda podem ser revertidas
+				try {
+					for (PedidoAgrupamento pedido : grupo) {
+						Transacao<M, ? extends Throwable> transacao = (Transacao<M, ? extends Throwable>) pedido.transacao;
+						try {
+							validarInicializacao();
+							validarFinalizacao();
+							if (pedido.versaoValidada == SEM_VALIDACAO_OTIMISTA) {
+								transacao.validar(pojoRegistro);//Exception aqui recusa somente esta transação
+							} else if (isConflitoVersao(transacao, pedido.versaoValidada) || isConflitoGrupo(transacao, pendentes)) {
+								conflitosTransacoesOtimistas.incrementAndGet();
+								continue;
+							}
+						} catch (Throwable e) {
+							pedido.erro = e;
+							continue;
+						}
+						List<Runnable> reversoes = (transacao instanceof TransacaoReversivel) ? new ArrayList<Runnable>() : null;
+						TransacaoAnexada transacaoAnexada = new TransacaoAnexada();
+						try {
+							reversoesTransacao.set(reversoes);
+							transacaoAnexada.retorno = atualizarPojoUnico(transacao);
+						} catch (Exception e) {
+							try {
+								gravarGrupo(pendentes);//A reversão pode recarregar o modelo do sistema de arquivos, que deve conter as transações anteriores do grupo
+								reverterModelo(reversoes);
+								pedido.erro = new ExecucaoTransacaoException("Erro ao executar a transação: " + transacao, e);
+							} catch (Exception erroReversao) {
+								pedido.erro = erroReversao;
+							}
+							continue;
+						} finally {
+							reversoesTransacao.remove();
+						}
+						pedido.transacaoAnexada = transacaoAnexada;
+						pedido.reversoes = reversoes;
+						pendentes.add(pedido);
+					}
+					gravarGrupo(pendentes);
+				} finally {
+					liberarEscritaModelo();
+				}
+			}
+		} catch (Throwable e) {
+			for (PedidoAgrupamento pedido : grupo) {//Erro inesperado, as transações ainda não gravadas não podem ser confirmadas
+				if ((pedido.erro == null) && ((pedido.transacaoAnexada == null) || pendentes.contains(pedido))) {
+					pedido.transacaoAnexada = null;
+					pedido.erro = e;
+				}
+			}
+		}
 	}
 	/**
-	 * Informa se ambiente já foi configurado.
-	 * @return TRUE caso positivo.
+	 * Grava no jornal as transações executadas do grupo com uma única escrita e atualiza uma única vez a orientação das réplicas, esvaziando a lista. Caso a gravação 
+	 * falhe as transações são revertidas e recebem o erro.
 	 */
-	public static boolean jaConfigurado() {
-		return (replica != null) || (diretorio != null);
+	@SuppressWarnings("unchecked")
+	private void gravarGrupo(List<PedidoAgrupamento> pendentes) {
+		if (pendentes.isEmpty()) {
+			return;
+		}
+		List<byte[]> transacoesSerializadas = new ArrayList<byte[]>(pendentes.size());
+		for (PedidoAgrupamento pedido : pendentes) {
+			transacoesSerializadas.add(pedido.transacaoSerializada);
+		}
+		long primeiraTransacao = ultimaTransacaoExecutada + 1;
+		try {
+			try {//Anexa as transações ao jornal
+				long bytesAnexados = jornal.anexar(primeiraTransacao, transacoesSerializadas);//Sistema de arquivos considera executadas
+				if (politicaSincronizacaoDisco == PoliticaSincronizacaoDisco.CADA_TRANSACAO) {
+					jornal.sincronizar();
+				}
+				ultimaTransacaoExecutada += pendentes.size();//agora memória considera como executadas
+				bytesJornalNaoAcelerados.addAndGet(bytesAnexados);
+			} catch (Exception e) {
+				desfazerUltimoRegistroJornal();
+				throw new GravacaoEmDiscoException("Erro ao anexar um grupo de " + pendentes.size() + " transações no jornal.", e);
+			}
+			try {//Renomeia o arquivo de orientação das réplicas uma única vez para o grupo
+				atualizarOrientacaoReplicas();
+			} catch (Exception e) {
+				desfazerUltimoRegistroJornal();
+				ultimaTransacaoExecutada -= pendentes.size();
+				throw new GravacaoEmDiscoException("Erro ao gravar orientação das réplicas de um grupo de " + pendentes.size() + " transações.", e);
+			}
+		} catch (GravacaoEmDiscoException e) {
+			reverterGrupo(pendentes, e);
+			pendentes.clear();
+			return;
+		}
+		for (int indice = 0; indice < pendentes.size(); indice++) {
+			PedidoAgrupamento pedido = pendentes.get(indice);
+			pedido.transacaoAnexada.numeroTransacao = primeiraTransacao + indice;
+			pedido.transacaoAnexada.jornal = jornal;
+			pedido.reversoes = null;
+			registrarVersaoChaves((Transacao<M, ? extends Throwable>) pedido.transacao, primeiraTransacao + indice);//Somente após a gravação, uma falha não deixa versões de números que serão reutilizados
+			if (publicacaoVersoes != null) {
+				publicacaoVersoes.publicar(primeiraTransacao + indice, pedido.transacaoSerializada);
+			}
+		}
+		if (pendentes.size() > 1) {
+			gruposTransacoesGravados.incrementAndGet();
+		}
+		pendentes.clear();
 	}
 	/**
-	 * Configuração padrão para inicialização de prevalências, não protege retorno com cópias, após 10 segundos de inatividade transacional o arquivo acelerador é gravado e as 
-	 * transações internalizadas pelo acelerador são apagadas. Essa é a configuração mais recomendada para qualquer base.
-	 * @param diretorioGravacao Diretório de gravação da base.
+	 * Reverte, em ordem inversa, as transações executadas do grupo que não puderam ser gravadas e lhes atribui o erro. Em memória somente se todas forem reversíveis.
 	 */
-	public static void configurar(String diretorioGravacao) {
-		configurar(diretorioGravacao, true, false, 10, true);
+	private void reverterGrupo(List<PedidoAgrupamento> pendentes, GravacaoEmDiscoException erro) {
+		List<Runnable> reversoes = new ArrayList<Runnable>();
+		for (PedidoAgrupamento pedido : pendentes) {
+			if (pedido.reversoes == null) {
+				reversoes = null;
+				break;
+			}
+			reversoes.addAll(pedido.reversoes);
+		}
+		Throwable erroGrupo = erro;
+		try {
+			reverterModeloBloqueado(reversoes);
+		} catch (Exception e) {
+			erroGrupo = e;
+		}
+		for (PedidoAgrupamento pedido : pendentes) {
+			pedido.transacaoAnexada = null;
+			pedido.reversoes = null;
+			pedido.erro = erroGrupo;
+		}
 	}
 	/**
-	 * Se por algum motivo precisar alterar os objetos retornados pela base fora de transações, mas sem almejar sua gravação, ultize este método de configuração informando TRUE para
-	 * proteger com cópias o retorno. No entanto o uso de memória sobe circunstancialmente.
-	 * @param diretorioGravacao Diretório de gravação da base. 
-	 * @param protegerRetornosComCopia TRUE para proteger com cópia todos retornos, seja de consultas ou transações com retorno, tudo que sair da base será copiado para evitar que base
-	 * seja corrompida por alterações de estado não transacionais.
+	 * Lança na thread chamadora o erro da transação anexada por outra thread (anel ou agrupamento), com o mesmo tipo que a anexação na própria thread lançaria.
 	 */
-	public static void configurar(String diretorioGravacao, boolean protegerRetornosComCopia) {
-		configurar(diretorioGravacao, true, protegerRetornosComCopia, 10, true);
-	}	
+	@SuppressWarnings("unchecked")
+	private static <E extends Throwable> void lancarErroAnexacao(Throwable erro) throws E, ExecucaoTransacaoException {
+		if (erro instanceof RuntimeException) {
+			throw (RuntimeException) erro;
+		} else if (erro instanceof Error) {
+			throw (Error) erro;
+		} else if (erro instanceof ExecucaoTransacaoException) {
+			throw (ExecucaoTransacaoException) erro;
+		} else if (erro != null) {
+			throw (E) erro;//Somente a validação da transação lança exceptions verificadas
+		}
+	}
 	/**
-	 * Configura o funcionamento da classe para gerar instâncias que efetuam gravação no sistema de arquivo. A configuração pode ser customizada para casos específicos, por exemplo 
-	 * durante cargas em lote é util disparar manualmente a gravação do acelerador, bem como manter arquivos de transação para inspecionar transações. No entanto, por não haver balanceamento
-	 * de diretórios para gravação de transações, pouco mais de 500.000 arquivos de transações são o suficiente para degradar o desempenho caso o parâmetro apagarTransacoesAceleradas = false
-	 * seja mantido por muito tempo. 
-	 * @param diretorioGravacao Diretório de gravação dos dados.
- 	 * @param protegerRetornosComCopia TRUE para efetuar cópia, assim mudanças de estado nos objetos retornados não afetam os objetos da base, no entanto consome memória e processamento. FALSE para
-	 * retorno dos objetos da base, mais rápido com menos processamento, mas caso o estado dos objetos retornados sejam alterados fora de transações a base será corrompida.
-	 * @param segundosInatividadeParaGravarAcelerador Quantidade de segundos sem execução de transação para ínicio da gravação do arquivo acelerador de inicialização.
-	 * @param apagarTransacoesAceleradas TRUE para apagar as transacoes que já foram internalizadas no arquivo acelerador. FALSE para manter todas transações individualmente em sistema arquivo, não 
-	 * recomendado para bases com mais de 500.000 transações.
+	 * Valida a transação otimista fora do bloco sincronizado. A validação só é aceita se nenhuma transação alterou o modelo durante sua execução, assim ela nunca lê 
+	 * uma transação pela metade; uma exception da validação também só é repassada nesta condição.
+	 * @return A última transação contida na versão validada do modelo, NULL caso o modelo tenha sido alterado durante a validação.
 	 */
-	public static void configurar(String diretorioGravacao, boolean protegerRetornosComCopia, Integer segundosInatividadeParaGravarAcelerador, boolean apagarTransacoesAceleradas) {
-		configurar(diretorioGravacao, true, protegerRetornosComCopia, segundosInatividadeParaGravarAcelerador, apagarTransacoesAceleradas);
+	private <E extends Throwable> Long validarOtimista(Transacao<M, E> transacao) throws E {
+		long versao = versaoModelo;
+		if ((versao & 1) != 0) {
+			conflitosTransacoesOtimistas.incrementAndGet();
+			return null;//Transação alterando o modelo
+		}
+		long ultimaTransacao = ultimaTransacaoExecutada;//Anexada ao jornal após alterar o modelo, no máximo anterior a versão validada
+		try {
+			transacao.validar(pojoRegistro);
+		} catch (Throwable e) {
+			VarHandle.acquireFence();
+			if (versaoModelo == versao) {
+				throw e;
+			}
+			conflitosTransacoesOtimistas.incrementAndGet();
+			return null;
+		}
+		VarHandle.acquireFence();//Leituras do modelo não podem ser reordenadas após a validação
+		if (versaoModelo != versao) {
+			conflitosTransacoesOtimistas.incrementAndGet();
+			return null;
+		}
+		return ultimaTransacao;
+	}
+	/**
+	 * Verifica, no bloco sincronizado, se alguma transação confirmada após a versão validada alterou dados da transação otimista.
+	 */
+	private boolean isConflitoVersao(Transacao<M, ? extends Throwable> transacao, long versaoValidada) {
+		if (ultimaTransacaoSemChaves > versaoValidada) {
+			return true;
+		}
+		for (Object chave : ((TransacaoOtimista) transacao).getChavesVersao()) {
+			Long versaoChave = versoesChaves.get(chave);
+			if ((versaoChave != null) && (versaoChave > versaoValidada)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	/**
+	 * Verifica se alguma transação executada do grupo e ainda não gravada alterou dados da transação otimista. Todas são posteriores à versão validada, pois receberão
+	 * números após a última transação executada, e suas chaves só são registradas na gravação do grupo.
+	 */
+	private boolean isConflitoGrupo(Transacao<M, ? extends Throwable> transacao, List<PedidoAgrupamento> pendentes) {
+		Collection<?> chaves = ((TransacaoOtimista) transacao).getChavesVersao();
+		for (PedidoAgrupamento pendente : pendentes) {
+			if (!(pendente.transacao instanceof TransacaoOtimista)) {
+				return true;
+			}
+			for (Object chave : ((TransacaoOtimista) pendente.transacao).getChavesVersao()) {
+				if (chaves.contains(chave)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	/**
+	 * Registra, no bloco sincronizado, a versão das chaves alteradas pela transação confirmada.
+	 */
+	private void registrarVersaoChaves(Transacao<M, ? extends Throwable> transacao, long numeroTransacao) {
+		if (!(transacao instanceof TransacaoOtimista)) {
+			ultimaTransacaoSemChaves = numeroTransacao;
+			return;
+		}
+		if (versoesChaves.size() >= MAXIMO_CHAVES_VERSAO) {
+			versoesChaves.clear();
+			ultimaTransacaoSemChaves = numeroTransacao - 1;//As versões descartadas são no máximo a anterior
+		}
+		for (Object chave : ((TransacaoOtimista) transacao).getChavesVersao()) {
+			versoesChaves.put(chave, numeroTransacao);
+		}
+	}
+	/**
+	 * Valida, executa e anexa ao jornal a transação já serializada, tudo dentro do bloco sincronizado do modelo.
+	 * @param transacao Sua transação.
+	 * @param transacaoSerializada Os bytes da transação que serão anexados ao jornal.
+	 * @param versaoValidada Última transação da versão do modelo validada por validarOtimista, ou SEM_VALIDACAO_OTIMISTA para validar no bloco sincronizado.
+	 * @return O retorno da transação e sua posição no jornal, necessária para aguardar a sincronização com o disco. NULL caso a validação otimista conflite.
+	 * @see #executarTransacao(Transacao)
+	 */
+	private <E extends Throwable> TransacaoAnexada anexarTransacao(Transacao<M, E> transacao, byte[] transacaoSerializada, long versaoValidada) throws E, GravacaoEmDiscoException, 
+			LeituraEmDiscoException, ExecucaoTransacaoException {
+		TransacaoAnexada transacaoAnexada = new TransacaoAnexada();
+		List<Runnable> reversoes = (transacao instanceof TransacaoReversivel) ? new ArrayList<Runnable>() : null;
+		transacoesAguardandoAnexacao.incrementAndGet();
+		try {
+			synchronized (pojoRegistro) {			
+				if (versaoValidada == SEM_VALIDACAO_OTIMISTA) {
+					transacao.validar(pojoRegistro);//Exception aqui não reverte a base e ainda não gravou transação.
+				} else if (isConflitoVersao(transacao, versaoValidada)) {
+					conflitosTransacoesOtimistas.incrementAndGet();
+					return null;
+				}
+				bloquearEscritaModelo();//Até a gravação no jornal, as consultas isoladas não veem uma alteração que ainda pode ser revertida
+				try {
+					try  {//Atualiza seu modelo (POJO)
+						reversoesTransacao.set(reversoes);
+						transacaoAnexada.retorno = atualizarPojoUnico(transacao);//Consultas sem isolamento já pegam as alterações em memória				
+					} catch (Exception e) {
+						reverterModelo(reversoes);
+						throw new ExecucaoTransacaoException("Erro ao executar a transação: " + transacao, e);
+					} finally {
+						reversoesTransacao.remove();
+					}
+					anexarJornal(transacao, transacaoSerializada, reversoes, transacaoAnexada);
+				} finally {
+					liberarEscritaModelo();
+				}
+			}
+		} finally {
+			transacoesAguardandoAnexacao.decrementAndGet();
+		}
+		return transacaoAnexada;
+	}
+	/**
+	 * Valida e executa as transações do lote e anexa ao jornal as aceitas, tudo dentro do bloco sincronizado do modelo. Uma única transação aceita é gravada como 
+	 * uma transação individual.
+	 * @param resultados Recebe o retorno ou a exception da validação de cada transação.
+	 * @return O lote anexado ao jornal, NULL caso nenhuma transação tenha sido aceita.
+	 * @see #executarLote(List)
+	 */
+	@SuppressWarnings("unchecked")
+	private TransacaoAnexada anexarLote(List<? extends Transacao<M, ? extends Throwable>> transacoes, List<byte[]> transacoesSerializadas, ResultadoTransacaoLote[] resultados) 
+			throws GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
+		boolean reversivel = transacoes.stream().allMatch(transacao -> transacao instanceof TransacaoReversivel);
+		List<Runnable> reversoes = reversivel ? new ArrayList<Runnable>() : null;
+		List<Transacao<M, ? extends Throwable>> aceitas = new ArrayList<Transacao<M, ? extends Throwable>>();
+		List<byte[]> aceitasSerializadas = new ArrayList<byte[]>();
+		transacoesAguardandoAnexacao.incrementAndGet();
+		try {
+			synchronized (pojoRegistro) {
+				bloquearEscritaModelo();//Durante todo o lote e sua gravação, as consultas isoladas não veem somente parte dele nem um lote que ainda pode ser revertido
+				try {
+					try {
+						for (int indice = 0; indice < transacoes.size(); indice++) {
+							Transacao<M, ? extends Throwable> transacao = transacoes.get(indice);
+							try {
+								transacao.validar(pojoRegistro);//Exception aqui recusa somente esta transação
+							} catch (Throwable e) {
+								if (e instanceof Error) {
+									reverterModelo(reversoes);//Transações anteriores do lote não foram gravadas
+									throw (Error) e;
+								}
+								resultados[indice] = new ResultadoTransacaoLote(null, e);
+								continue;
+							}
+							try {
+								reversoesTransacao.set(reversoes);
+								resultados[indice] = new ResultadoTransacaoLote(atualizarPojoUnico(transacao), null);
+							} catch (Exception e) {
+								reverterModelo(reversoes);
+								throw new ExecucaoTransacaoException("Erro ao executar a transação " + transacao + " do lote, o lote foi revertido.", e);
+							}
+							aceitas.add(transacao);
+							aceitasSerializadas.add(transacoesSerializadas.get(indice));
+						}
+					} finally {
+						reversoesTransacao.remove();
+					}
+					if (aceitas.isEmpty()) {
+						return null;
+					}
+					TransacaoAnexada transacaoAnexada = new TransacaoAnexada();
+					byte[] registro;
+					if (aceitas.size() == 1) {
+						transacaoAnexada.transacao = aceitas.get(0);
+						registro = aceitasSerializadas.get(0);
+					} else {
+						transacaoAnexada.transacao = new LoteTransacoes<M>(aceitasSerializadas.toArray(new byte[aceitasSerializadas.size()][]), aceitas);
+						try {
+							registro = serializarTransacao((Transacao<M, ? extends Throwable>) transacaoAnexada.transacao);//Somente copia os bytes já serializados
+						} catch (GravacaoEmDiscoException e) {
+							reverterModelo(reversoes);
+							throw e;
+						}
+					}
+					anexarJornal((Transacao<M, ? extends Throwable>) transacaoAnexada.transacao, registro, reversoes, transacaoAnexada);
+					return transacaoAnexada;
+				} finally {
+					liberarEscritaModelo();
+				}
+			}
+		} finally {
+			transacoesAguardandoAnexacao.decrementAndGet();
+		}
+	}
+	/**
+	 * Anexa ao jornal a transação que já alterou o modelo e publica sua confirmação, dentro do bloco sincronizado e do bloqueio de escrita do modelo. Em caso de erro o 
+	 * registro e o modelo são revertidos.
+	 * @param transacao A transação executada, ou o lote de transações.
+	 * @param transacaoSerializada Os bytes que serão anexados ao jornal.
+	 * @param reversoes Reversões registradas na execução, NULL para transações não reversíveis.
+	 * @param transacaoAnexada Recebe o número da transação e o jornal onde foi anexada.
+	 */
+	private void anexarJornal(Transacao<M, ? extends Throwable> transacao, byte[] transacaoSerializada, List<Runnable> reversoes, TransacaoAnexada transacaoAnexada) 
+			throws GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
+		try {//Anexa a transação ao jornal
+			long bytesAnexados = jornal.anexar(ultimaTransacaoExecutada + 1, transacaoSerializada);//Sistema de arquivos considera executado
+			if (politicaSincronizacaoDisco == PoliticaSincronizacaoDisco.CADA_TRANSACAO) {
+				jornal.sincronizar();
+			}
+			ultimaTransacaoExecutada++;//agora memória considera como executado
+			bytesJornalNaoAcelerados.addAndGet(bytesAnexados);
+		} catch (Exception e) {
+			desfazerUltimoRegistroJornal();
+			reverterModeloBloqueado(reversoes);
+			throw new GravacaoEmDiscoException("Erro ao anexar a transação no jornal: " + transacao, e);
+		}
+		try {//Renomeia o arquivo de orientação das réplicas
+			atualizarOrientacaoReplicas();
+		} catch (Exception e) {
+			desfazerUltimoRegistroJornal();
+			reverterModeloBloqueado(reversoes);
+			throw new GravacaoEmDiscoException("Erro ao gravar orientação das réplicas: " + transacao, e);
+		}
+		if (publicacaoVersoes != null) {
+			publicacaoVersoes.publicar(ultimaTransacaoExecutada, transacaoSerializada);
+		}
+		transacaoAnexada.numeroTransacao = ultimaTransacaoExecutada;
+		transacaoAnexada.jornal = jornal;
+		registrarVersaoChaves(transacao, ultimaTransacaoExecutada);
+	}
+	/**
+	 * Com a política AGRUPADA aguarda a sincronização com o disco do grupo que contém a transação, fora do bloco sincronizado para que outras transações continuem sendo anexadas.
+	 * @param transacaoAnexada A transação anexada ao jornal.
+	 */
+	private void aguardarSincronizacao(TransacaoAnexada transacaoAnexada) throws GravacaoEmDiscoException {
+		if (politicaSincronizacaoDisco == PoliticaSincronizacaoDisco.AGRUPADA) {
+			aguardarSincronizacaoAgrupada(transacaoAnexada.jornal, transacaoAnexada.numeroTransacao);
+		}
+	}
+	/**
+	 * Serializa a transação e a entrega para fila do escritor assíncrono. Quando a fila está cheia a thread chamadora aguarda, limitando a memória consumida por transações pendentes.
+	 * @param transacao Sua transação.
+	 * @return Futuro da transação.
+	 */
+	private CompletableFuture<Object> enfileirarTransacao(Transacao<M, ? extends Throwable> transacao) throws GravacaoEmDiscoException {
+		validarReplica();
+		validarInicializacao();
+		validarFinalizacao();
+		PedidoTransacaoAssincrona<M> pedido = new PedidoTransacaoAssincrona<M>(transacao, serializarTransacao(transacao));
+		try {
+			iniciarEscritorAssincrono().put(pedido);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			pedido.futuro.completeExceptionally(e);
+		}
+		return pedido.futuro;
+	}
+	/**
+	 * Cria a fila e a thread escritora na primeira transação assíncrona.
+	 * @return A fila de transações assíncronas.
+	 */
+	private synchronized BlockingQueue<PedidoTransacaoAssincrona<M>> iniciarEscritorAssincrono() {
+		if (filaTransacoesAssincronas != null) {
+			return filaTransacoesAssincronas;
+		}
+		filaTransacoesAssincronas = new ArrayBlockingQueue<PedidoTransacaoAssincrona<M>>(65536);//Se desejar pode ajustar a quantidade de transações pendentes
+		new Thread() {
+			public void run() {
+				List<PedidoTransacaoAssincrona<M>> lote = new ArrayList<PedidoTransacaoAssincrona<M>>();
+				while (!finalizar || !filaTransacoesAssincronas.isEmpty()) {
+					try {
+						PedidoTransacaoAssincrona<M> primeiro = filaTransacoesAssincronas.poll(100, TimeUnit.MILLISECONDS);
+						if (primeiro == null) {
+							continue;
+						}
+						lote.add(primeiro);
+						filaTransacoesAssincronas.drainTo(lote, 1023);
+						executarLoteAssincrono(lote);
+					} catch (Throwable e) {
+						logger.log(Level.SEVERE, "Erro no escritor de transações assíncronas.", e);
+					} finally {
+						lote.clear();
+					}
+				}
+			}
+		}.start();
+		return filaTransacoesAssincronas;
+	}
+	/**
+	 * Executa em sequência as transações retiradas da fila e aguarda uma única sincronização com o disco para todo o lote. Os futuros são concluídos fora da thread escritora, 
+	 * assim estágios dependentes registrados pelos chamadores não atrasam as próximas transações.
+	 * @param lote Transações retiradas da fila.
+	 */
+	private void executarLoteAssincrono(List<PedidoTransacaoAssincrona<M>> lote) {
+		TransacaoAnexada ultimaAnexada = null;
+		if (tamanhoMaximoAgrupamento != null) {
+			ultimaAnexada = anexarLoteAssincronoAgrupado(lote);
+		} else {
+			for (PedidoTransacaoAssincrona<M> pedido : lote) {
+				try {
+					validarInicializacao();
+					validarFinalizacao();
+					pedido.transacaoAnexada = anexarTransacao(pedido.transacao, pedido.transacaoSerializada, SEM_VALIDACAO_OTIMISTA);
+					ultimaAnexada = pedido.transacaoAnexada;
+				} catch (Throwable e) {
+					pedido.erro = e;
+				}
+			}
+		}
+		if (ultimaAnexada != null) {
+			try {
+				aguardarSincronizacao(ultimaAnexada);//O grupo contém todas as transações anteriores do lote
+			} catch (Throwable e) {
+				for (PedidoTransacaoAssincrona<M> pedido : lote) {
+					if (pedido.erro == null) {
+						pedido.erro = e;
+					}
+				}
+			}
+			momentoInicializacaoOuUltimaTransacao = System.currentTimeMillis();
+		}
+		List<PedidoTransacaoAssincrona<M>> concluidos = new ArrayList<PedidoTransacaoAssincrona<M>>(lote);
+		ForkJoinPool.commonPool().execute(() -> {
+			for (PedidoTransacaoAssincrona<M> pedido : concluidos) {
+				if (pedido.erro != null) {
+					pedido.futuro.completeExceptionally(pedido.erro);
+					continue;
+				}
+				notificarObservadores(pedido.transacao);
+				try {
+					pedido.futuro.complete(copiarObjeto(pedido.transacaoAnexada.retorno, pedido.transacao, null));
+				} catch (Throwable e) {
+					pedido.futuro.completeExceptionally(e);
+				}
+			}
+		});
+	}
+	/**
+	 * Anexa as transações assíncronas retiradas da fila em grupos do tamanho máximo do agrupamento, uma escrita no jornal por grupo.
+	 * @return A última transação anexada, NULL caso nenhuma tenha sido anexada.
+	 */
+	private TransacaoAnexada anexarLoteAssincronoAgrupado(List<PedidoTransacaoAssincrona<M>> lote) {
+		TransacaoAnexada ultimaAnexada = null;
+		for (int inicio = 0; inicio < lote.size(); inicio += tamanhoMaximoAgrupamento) {
+			List<PedidoTransacaoAssincrona<M>> parte = lote.subList(inicio, Math.min(lote.size(), inicio + tamanhoMaximoAgrupamento));
+			List<PedidoAgrupamento> grupo = new ArrayList<PedidoAgrupamento>(parte.size());
+			for (PedidoTransacaoAssincrona<M> pedido : parte) {
+				grupo.add(new PedidoAgrupamento(pedido.transacao, pedido.transacaoSerializada, SEM_VALIDACAO_OTIMISTA));
+			}
+			transacoesAguardandoAnexacao.addAndGet(grupo.size());
+			anexarGrupo(grupo);
+			transacoesAguardandoAnexacao.addAndGet(-grupo.size());
+			for (int indice = 0; indice < parte.size(); indice++) {
+				PedidoAgrupamento pedido = grupo.get(indice);
+				parte.get(indice).transacaoAnexada = pedido.transacaoAnexada;
+				parte.get(indice).erro = pedido.erro;
+				if (pedido.transacaoAnexada != null) {
+					ultimaAnexada = pedido.transacaoAnexada;
+				}
+			}
+		}
+		return ultimaAnexada;
+	}
+	/**
+	 * Posição do anel de transações, reutilizada a cada volta. A sequência de cada estado identifica a volta: a posição está livre para a sequência S quando liberada 
+	 * valer S - tamanho, publicada quando publicada valer S e concluída quando concluida valer S.
+	 */
+	private static class PosicaoAnel {
+		private volatile long liberada;
+		private volatile long publicada = -1;
+		private volatile long concluida = -1;
+		private Transacao<? extends Serializable, ? extends Throwable> transacao;
+		private byte[] transacaoSerializada;
+		private long versaoValidada;
+		private Thread chamadora;
+		private TransacaoAnexada transacaoAnexada;
+		private Throwable erro;
+	}
+	/**
+	 * Anel de transações pré-alocado: as threads chamadoras reservam uma sequência, publicam a transação serializada na posição correspondente e aguardam estacionadas
+	 * (LockSupport) sua conclusão. Uma única thread de lógica percorre as posições em sequência anexando cada transação, assim o bloco sincronizado do modelo nunca é 
+	 * disputado pelas chamadoras e não há trocas de contexto em cascata entre elas. A sincronização com o disco continua sendo aguardada pela própria chamadora 
+	 * conforme a política configurada (AGRUPADA sincroniza em grupo todas as transações anexadas pela thread de lógica).
+	 */
+	private class AnelTransacoes {
+		/**
+		 * Iterações de espera ativa antes de estacionar a thread, nenhuma com um único processador pois a espera impediria a thread aguardada de executar.
+		 */
+		private final int esperasAtivas = (Runtime.getRuntime().availableProcessors() > 1) ? 256 : 0;
+		private final PosicaoAnel[] posicoes;
+		private final int mascara;
+		private final AtomicLong proximaReserva = new AtomicLong();
+		/**
+		 * Posições livres, as chamadoras com o anel cheio aguardam nele em vez de disputarem as posições.
+		 */
+		private final Semaphore posicoesLivres;
+		private final Thread logica;
+		private volatile boolean logicaEstacionada = false;
+
+		private AnelTransacoes(int tamanho) {
+			posicoes = new PosicaoAnel[tamanho];
+			mascara = tamanho - 1;
+			posicoesLivres = new Semaphore(tamanho);
+			for (int indice = 0; indice < tamanho; indice++) {
+				posicoes[indice] = new PosicaoAnel();
+				posicoes[indice].liberada = indice - tamanho;
+			}
+			logica = new Thread("MiniPrevalencia-anel-transacoes") {
+				public void run() {
+					long sequencia = 0;
+					while (!finalizar || (sequencia < proximaReserva.get())) {
+						PosicaoAnel posicao = posicoes[(int) sequencia & mascara];
+						if (!aguardarPublicacao(posicao, sequencia)) {
+							continue;
+						}
+						if (tamanhoMaximoAgrupamento != null) {
+							sequencia = anexarPublicadas(sequencia);
+							continue;
+						}
+						try {
+							validarInicializacao();
+							validarFinalizacao();
+							posicao.transacaoAnexada = anexarTransacao(obterTransacao(posicao), posicao.transacaoSerializada, posicao.versaoValidada);
+						} catch (Throwable e) {
+							posicao.erro = e;
+						} finally {
+							transacoesAguardandoAnexacao.decrementAndGet();
+						}
+						Thread chamadora = posicao.chamadora;
+						posicao.concluida = sequencia;
+						LockSupport.unpark(chamadora);
+						sequencia++;
+					}
+				}
+			};
+			logica.start();
+		}
+		/**
+		 * Grava em um único grupo as transações já publicadas a partir da sequência, até o tamanho máximo do agrupamento, e acorda suas chamadoras.
+		 * @return A próxima sequência.
+		 */
+		private long anexarPublicadas(long sequencia) {
+			List<PedidoAgrupamento> grupo = new ArrayList<PedidoAgrupamento>();
+			int tamanhoMaximo = Math.min(tamanhoMaximoAgrupamento, posicoes.length);
+			for (long proxima = sequencia; (grupo.size() < tamanhoMaximo) && (posicoes[(int) proxima & mascara].publicada == proxima); proxima++) {
+				PosicaoAnel posicao = posicoes[(int) proxima & mascara];
+				grupo.add(new PedidoAgrupamento(posicao.transacao, posicao.transacaoSerializada, posicao.versaoValidada));
+			}
+			anexarGrupo(grupo);
+			for (PedidoAgrupamento pedido : grupo) {
+				PosicaoAnel posicao = posicoes[(int) sequencia & mascara];
+				posicao.transacaoAnexada = pedido.transacaoAnexada;
+				posicao.erro = pedido.erro;
+				transacoesAguardandoAnexacao.decrementAndGet();
+				Thread chamadora = posicao.chamadora;
+				posicao.concluida = sequencia;
+				LockSupport.unpark(chamadora);
+				sequencia++;
+			}
+			return sequencia;
+		}
+		@SuppressWarnings("unchecked")
+		private Transacao<M, ? extends Throwable> obterTransacao(PosicaoAnel posicao) {
+			return (Transacao<M, ? extends Throwable>) posicao.transacao;
+		}
+		/**
+		 * Aguarda a publicação da sequência pela thread de lógica, ativamente por poucas iterações e depois estacionada até ser acordada por uma chamadora.
+		 * @return FALSE caso o tempo de espera tenha se esgotado, para que a finalização seja verificada.
+		 */
+		private boolean aguardarPublicacao(PosicaoAnel posicao, long sequencia) {
+			for (int espera = 0; espera < esperasAtivas; espera++) {
+				if (posicao.publicada == sequencia) {
+					return true;
+				}
+				Thread.onSpinWait();
+			}
+			logicaEstacionada = true;
+			try {
+				if (posicao.publicada == sequencia) {//Publicada antes da chamadora ver a thread de lógica estacionada
+					return true;
+				}
+				LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+			} finally {
+				logicaEstacionada = false;
+			}
+			return posicao.publicada == sequencia;
+		}
+		/**
+		 * Publica a transação no anel e aguarda sua anexação ao jornal pela thread de lógica.
+		 * @return A transação anexada, a sincronização com o disco ainda deve ser aguardada. NULL caso a validação otimista conflite.
+		 */
+		@SuppressWarnings("unchecked")
+		private <E extends Throwable> TransacaoAnexada executar(Transacao<M, E> transacao, byte[] transacaoSerializada, long versaoValidada) throws E, GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
+			posicoesLivres.acquireUninterruptibly();
+			transacoesAguardandoAnexacao.incrementAndGet();//Informa a sincronização agrupada das transações ainda no anel
+			long sequencia = proximaReserva.getAndIncrement();
+			PosicaoAnel posicao = posicoes[(int) sequencia & mascara];
+			while (posicao.liberada != sequencia - posicoes.length) {//A chamadora da volta anterior ainda lê seu retorno
+				Thread.yield();
+			}
+			posicao.transacao = transacao;
+			posicao.transacaoSerializada = transacaoSerializada;
+			posicao.versaoValidada = versaoValidada;
+			posicao.chamadora = Thread.currentThread();
+			posicao.publicada = sequencia;
+			if (logicaEstacionada) {
+				LockSupport.unpark(logica);
+			}
+			for (int espera = 0; posicao.concluida != sequencia; espera++) {
+				if (espera < esperasAtivas) {
+					Thread.onSpinWait();
+				} else if (!logica.isAlive()) {
+					validarFinalizacao();//Reservada após a thread de lógica encerrar pela finalização
+				} else {
+					LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+				}
+			}
+			TransacaoAnexada transacaoAnexada = posicao.transacaoAnexada;
+			Throwable erro = posicao.erro;
+			posicao.transacao = null;
+			posicao.transacaoSerializada = null;
+			posicao.chamadora = null;
+			posicao.transacaoAnexada = null;
+			posicao.erro = null;
+			posicao.liberada = sequencia;
+			posicoesLivres.release();
+			MiniPrevalencia.<E>lancarErroAnexacao(erro);
+			return transacaoAnexada;
+		}
+	}
+	/**
+	 * Serializa a transação que será anexada ao jornal. Executado antes do bloco sincronizado, assim transações não serializáveis não alteram o modelo e a serialização
+	 * de transações concorrentes ocorre em paralelo.
+	 * @param transacao A transação.
+	 * @return Os bytes da transação serializada.
+	 * @throws GravacaoEmDiscoException Caso a transação não possa ser serializada.
+	 */
+	private byte[] serializarTransacao(Transacao<M, ? extends Throwable> transacao) throws GravacaoEmDiscoException {
+		try {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			codificador.codificar(transacao, baos);
+			return baos.toByteArray();
+		} catch (Exception e) {
+			throw new GravacaoEmDiscoException("Erro ao serializar a transação: " + transacao, e);
+		}
+	}
+	/**
+	 * Copia o objeto informado utilizando Serialização Java. Atenção: caso execute uma cópia da instância raíz, o dobro de memória já consumida será necessária!
+	 * @param <O> Seu objeto.
+	 * @param objeto Objeto que será copiado.
+	 * @param transacao Transação que solicitou a cópia ou NULL caso não seja.
+	 * @param consulta Consulta que solicitou a cópia ou NULL caso não seja.
+	 * @return Cópia do seu objeto.
+	 */
+	@SuppressWarnings("unchecked")
+	private static<O> O copiarObjeto(O objeto, Transacao<? extends Serializable, ? extends Throwable> transacao, Consulta<? extends Object, ? extends Serializable> consulta) {		
+		if ((!protegerRetornoCopiandoObjetos) || (objeto == null)) {
+			return objeto;//Melhor saída!
+		}
+		try {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			ObjectOutputStream oos = new ObjectOutputStream(baos);			
+			oos.writeObject(objeto);
+			ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+			return (O) ois.readObject();
+		} catch (Exception e) {
+			Object resposavelExecucao = (transacao != null) ? transacao : consulta;
+			throw new IllegalArgumentException("Erro ao copiar o objeto " + objeto + " utilizando serialização Java. Verifique se o retorno de sua transação ou consulta " + resposavelExecucao + " é serializável.", e);
+		}
+
+	}
+	/**
+	 * Registra a operação que desfaz uma alteração do modelo, executada somente se a transação reversível em execução falhar. Fora de transações reversíveis não registra nada.
+	 * @param reversao Operação inversa da alteração que será feita.
+	 */
+	public static void registrarReversao(Runnable reversao) {
+		List<Runnable> reversoes = reversoesTransacao.get();
+		if (reversoes != null) {
+			reversoes.add(reversao);
+		}
+	}
+	/**
+	 * Reverte o modelo após falha de uma transação: executa as reversões registradas na ordem inversa ou, para transações não reversíveis e reversões com erro, recarrega 
+	 * o modelo do sistema de arquivos.
+	 * @param reversoes Reversões registradas pela transação, NULL para transações não reversíveis.
+	 */
+	private void reverterModelo(List<Runnable> reversoes) throws GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
+		reversoesTransacao.remove();
+		if (reversoes != null) {
+			try {
+				for (int indice = reversoes.size() - 1; indice >= 0; indice--) {
+					reversoes.get(indice).run();
+				}
+				return;
+			} catch (RuntimeException e) {
+				logger.log(Level.SEVERE, "Erro ao reverter a transação em memória, o modelo será recarregado do sistema de arquivos.", e);
+			}
+		}
+		carregarDadosDoSistemaDeArquivo();
+	}
+	/**
+	 * Cria o pool exclusivo e o despacho das consultas, substituindo os de uma configuração anterior.
+	 */
+	private static void configurarMotorConsultas(Integer paralelismo, Long milissegundosLimite, boolean threadsVirtuais) {
+		if ((paralelismo != null) && (paralelismo < 1)) {
+			throw new IllegalArgumentException("O paralelismo das consultas deve ser maior que zero.");
+		}
+		if ((milissegundosLimite != null) && (milissegundosLimite < 1)) {
+			throw new IllegalArgumentException("O tempo limite das consultas deve ser maior que zero.");
+		}
+		if (poolConsultas != null) {
+			poolConsultas.shutdown();//Consultas em andamento são concluídas
+		}
+		poolConsultas = (paralelismo == null) ? null : new ForkJoinPool(paralelismo, pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("MiniPrevalencia-consulta-" + thread.getPoolIndex());
+			return thread;
+		}, null, false);
+		milissegundosLimiteConsulta = milissegundosLimite;
+		despachoConsultas = threadsVirtuais ? criarDespachoThreadsVirtuais() : null;
+	}
+	/**
+	 * Obtém por reflexão o executor de threads virtuais (Java 21), mantendo a compatibilidade com versões anteriores da JVM, onde cada consulta recebe uma nova thread daemon.
+	 */
+	private static Executor criarDespachoThreadsVirtuais() {
+		try {
+			return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			Logger.getLogger(MiniPrevalencia.class.getName()).log(Level.WARNING, "Threads virtuais não suportadas por esta JVM, as consultas assíncronas utilizarão uma thread por consulta.");
+			return tarefa -> {
+				Thread thread = new Thread(tarefa, "MiniPrevalencia-consulta-assincrona");
+				thread.setDaemon(true);
+				thread.start();
+			};
+		}
 	}
 	/**
-	 * Configuração de réplica recomendada, sem proteção por cópia dos retornos.
+	 * Reverte o modelo com o bloqueio de escrita, para reversões fora da alteração do modelo pela transação.
 	 */
-	public static void configurarReplica(String diretorioLeitura) {
-		configurar(diretorioLeitura, false, false, null, false);
+	private void reverterModeloBloqueado(List<Runnable> reversoes) throws GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
+		bloquearEscritaModelo();
+		try {
+			reverterModelo(reversoes);
+		} finally {
+			liberarEscritaModelo();
+		}
 	}
 	/**
-	 * Configura a classe para gerar instâncias de réplicas somente leitura. Para criação de réplicas, basta que elas tenham acesso ao sistema de arquivos em um compartilhamento de rede.
-	 * @param diretorioLeitura O diretório onde os dados estão sendo gravados pela instância primária.
-	 * @param protegerRetornosComCopia TRUE para efetuar cópia de proteção dos dados retornados, assim mudanças de estado nos objetos retornados não afetam os objetos da base, no entanto consome 
-	 * memória e processamento. FALSE para retorno dos objetos da base, mais rápido e usa menos memória, mas caso o estado dos objetos retornados sejam alterados a instância 
-	 * se torna diferente do sistema de arquivos.
+	 * Inicia uma alteração do modelo tornando ímpar sua versão, e bloqueia o modelo para escrita quando as consultas são isoladas por bloqueio. Reentrante em todos os 
+	 * isolamentos, a versão muda somente no primeiro nível: uma reversão dentro da alteração mantém a versão ímpar. Sem bloqueio as alterações já são exclusivas pelo 
+	 * bloco sincronizado do modelo ou pela thread única das réplicas.
 	 */
-	public static void configurarReplica(String diretorioLeitura, boolean protegerRetornosComCopia) {
-		configurar(diretorioLeitura, false, protegerRetornosComCopia, null, false);
-	}	
+	private void bloquearEscritaModelo() {
+		if (isIsolamentoPorBloqueio()) {
+			bloqueioModelo.writeLock().lock();
+		}
+		if (niveisEscritaModelo++ > 0) {
+			return;
+		}
+		versaoModelo++;
+		VarHandle.storeStoreFence();//A versão ímpar fica visível antes das alterações do modelo
+	}
+	private void liberarEscritaModelo() {
+		if (--niveisEscritaModelo == 0) {
+			versaoModelo++;
+		}
+		if (isIsolamentoPorBloqueio()) {
+			bloqueioModelo.writeLock().unlock();
+		}
+	}
+	private boolean isIsolamentoPorBloqueio() {
+		return (isolamentoConsultasInstancia == IsolamentoConsulta.OTIMISTA) || (isolamentoConsultasInstancia == IsolamentoConsulta.BLOQUEIO_LEITURA);
+	}
 	/**
-	 * Configura o funcionamento de novas instâncias conforme parâmetros informados. Este método da classe deve ser executado apenas um vez, como alternativa a blocos estáticos e 
-	 * para não precisar controlar a quantidade de chamadas deste método, crie uma configurador informe o configurador para classe. 
-	 * @param diretorioGravacao O diretório que você criou e deseja gravar seus dados.
-	 * @param primario TRUE para primário (efetua gravação), FALSE para réplica (somente leitura).
-	 * @param protegerRetornosComCopia TRUE para proteger que retornos atribuam dados o seu modelo, FALSE desabilita a proteção de alteração. No entanto é recomendável desabilitar,
-	 * e ao alterar seu modelo somente dentro das transações, isso reduz o uso de memória e aumenta a velocidade de resposta.
-	 * @param segundosInatividadeParaGravarAcelerador Quantidade de segundos sem execução de transações para disparar a gravação do arquivo acelerador, NULL desativa a gravação automática do acelerador.
-	 * @throws IllegalStateException quando o ambiente foi configurado anteriormente, executar apenas uma vez este métodos!
-	 * @see Configurador
+	 * Em caso de falha após a gravação no jornal, o último registro é removido para que o sistema de arquivos volte ao estado anterior a transação.
 	 */
-	private static void configurar(String diretorioGravacao, boolean primario, boolean protegerRetornosComCopia, Integer segundosInatividadeParaGravarAcelerador, boolean apagarTransacoesJaAceleradas) {
-		if (jaConfigurado()) {
-			throw new IllegalStateException("Ambiente já configurado!");
+	private void desfazerUltimoRegistroJornal() {
+		try {
+			jornal.desfazerUltimoRegistro();
+		} catch (Exception e) {
+			finalizarPrevalencia();
+			throw new GravacaoEmDiscoException("Erro ao desfazer o último registro do jornal " + jornal.obterArquivoSegmento().getName() + ", a instância foi finalizada para evitar inconsistência.", e);
 		}
-		if ((segundosInatividadeParaGravarAcelerador != null) && (segundosInatividadeParaGravarAcelerador < 10)) {
-			throw new IllegalArgumentException("O tempo de inatividade deve ser maior ou igual a 10 segundos.");
+	}
+	/**
+	 * Aguarda que o grupo de sincronização que contém a transação informada esteja gravado em disco.
+	 * @param jornalTransacao Jornal onde a transação foi anexada.
+	 * @param numeroTransacao Número da transação.
+	 * @throws GravacaoEmDiscoException Caso a sincronização falhe, neste caso a instância é finalizada pois não é possível saber o que foi gravado.
+	 */
+	private void aguardarSincronizacaoAgrupada(JornalSegmentado jornalTransacao, long numeroTransacao) throws GravacaoEmDiscoException {
+		long latenciaMaxima = (milissegundosSincronizacaoDisco != null) ? milissegundosSincronizacaoDisco : 2;
+		try {
+			jornalTransacao.aguardarSincronizacao(numeroTransacao, latenciaMaxima * 1000000L, transacoesAguardandoAnexacao);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GravacaoEmDiscoException("Interrompido enquanto aguardava a sincronização da transação " + numeroTransacao + ", a transação foi executada mas sua durabilidade não foi confirmada.", e);
+		} catch (IOException e) {
+			finalizarPrevalencia();
+			throw new GravacaoEmDiscoException("Erro ao sincronizar o jornal com o disco, a durabilidade da transação " + numeroTransacao + " não foi confirmada e a instância foi finalizada.", e);
 		}
-		diretorio = diretorioGravacao;		
-		replica = !primario;
-		protegerRetornoCopiandoObjetos = protegerRetornosComCopia;
-		milisegundosInatividadeTransacionalDispararGravacaoAcelerador = (segundosInatividadeParaGravarAcelerador != null) ? (segundosInatividadeParaGravarAcelerador * 1000L) : null;
-		apagarTransacoesAceleradas = apagarTransacoesJaAceleradas;
 	}
-	
 	/**
-	 * Construtor para novos tipos de registro.
-	 * @param tipoRegistro O tipo de registro serializável.
+	 * Sincroniza o jornal com o disco no intervalo configurado, utilizado pela política PERIODICA.
 	 */
-	private MiniPrevalencia(Class<M> tipoRegistro) {
-		this.tipoRegistro = tipoRegistro;		
-	}	
-	
+	private void iniciarSincronizacaoPeriodicaJornal() {
+		long intervalo = (milissegundosSincronizacaoDisco != null) ? milissegundosSincronizacaoDisco : 1000;
+		new Thread() {
+			public void run() {
+				while (!finalizar) {
+					try {
+						sleep(intervalo);
+						JornalSegmentado jornalCorrente = jornal;
+						if (!finalizar && (jornalCorrente != null)) {
+							jornalCorrente.sincronizar();
+						}
+					} catch (Exception e) {
+						logger.log(Level.SEVERE, "Erro ao sincronizar periodicamente o jornal com o disco.", e);
+					}
+				}
+			}
+		}.start();
+	}
 	/**
-	 * Constrói a raiz da prevalência criando uma instância do seu modelo, que é a entrada de acesso para os demais objetos. Seu modelo precisa ser um POJO com um construtor padrão. 	
-	 * @return Uma instância do POJO raiz.
+	 * Atualiza seu modelo executando sua transação.
+	 * @param transacao A transação que atualizará o modelo.
+	 * @return O seu retorno, caso seja uma transação com retorno, caso contrário null.
 	 */
-	private M construirNovoPojoUnico() {
-		if (tipoRegistro == null) {
-			throw new IllegalArgumentException("A classe do seu tipo de registro (seu modelo) não não foi informada!");
+	private <E extends Throwable> Object atualizarPojoUnico(Transacao<M, E> transacao) {
+		return executarNoModelo(transacao, pojoRegistro);
+	}
+	/**
+	 * Executa a transação sobre o modelo informado.
+	 * @return O seu retorno, caso seja uma transação com retorno, caso contrário null.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static <T extends Serializable, E extends Throwable> Object executarNoModelo(Transacao<T, E> transacao, T modelo) {
+		if (transacao instanceof TransacaoSemRetorno) {
+			((TransacaoSemRetorno) transacao).executar(modelo);
+			return null;
 		}
-		try {
-			if (tipoRegistro.getDeclaredConstructor() == null) {
-				throw new IllegalArgumentException("A classe " + tipoRegistro.getName() + " não tem um construtor padrão (vazio)!");
-			}
-			return tipoRegistro.getDeclaredConstructor().newInstance();
-		} catch (Exception e) {
-			throw new RuntimeException("Não foi possível obter o construtor da classe " + tipoRegistro.getName() + ", verifique se ele é publico!", e);
-		}		
+		return ((TransacaoComRetorno) transacao).executar(modelo);
 	}
-	
 	/**
-	 * Obtém uma instância pronta para manter a prevalência do modelo informado, instânciando apenas uma vez para cada tipo de registro. Aqui os dados gravados do 
-	 * pojoRegistro (seu modelo informado) são desserializados do arquivo acelerador e carregados em memória, na sequencia todas transações que ainda não foram internalizadas pelo 
-	 * arquivo acelerador são carregadas para o modelo, através da re-execução de transações.<br>
-	 * OBS: usualmente apenas um modelo é utilizado por sistema, no entanto é possível utilizar mais de um modelo, mas lembre-se um não se relacionará com outro.
-	 * @param <Z> A classe do seu modelo, deve ser serializável.
-	 * @param tipoRegistro Tipo do registro desejado, deve ser um POJO serializável, o contrutor deve padrão (sem parâmetros), e a raiz de acesso para demais objetos do seu modelo.
-	 * @return Uma instância ACID desta classe que controla a gravação do modelo em memória e em sistema de arquivos, inicializado com todos dados carregados do sistema de arquivos (quando houver).
-	 * @throws LeituraEmDiscoException Caso existam registros em sistema de arquivo e eles não possam ser lidos, caso o principal arquivo acelerador não possa ser lido ou desserializado, caso
-	 * alguma transação não possa ser lida ou desserializada.
+	 * Isolamento MULTIVERSAO: mantém uma cópia publicada do modelo para as consultas e uma reserva. A thread publicadora aguarda o término das consultas que ainda 
+	 * utilizam a reserva, reexecuta nela as transações confirmadas que ela ainda não possui, e a publica; a cópia anteriormente publicada passa a ser a reserva.
 	 */
-	@SuppressWarnings("unchecked")
-	public synchronized static <Z extends Serializable> MiniPrevalencia<Z> prevalecer(Class<Z> tipoRegistro) throws LeituraEmDiscoException {
-		if ((configurador != null) && !jaConfigurado()) {
-			configurar(configurador.getDiretorioGravacao(), 
-					   configurador.isPrimario(), 
-					   configurador.isRetornoProjegidoPorCopia(), 
-					   configurador.getSegundosInatividadeParaIniciarGravacaoAcelerador(),
-					   configurador.isApagarTransacoesInternalizadasPeloAcelerador());
+	private class PublicacaoVersoes {
+		private final BlockingQueue<TransacaoConfirmada> confirmadas = new LinkedBlockingQueue<TransacaoConfirmada>();
+		private final List<TransacaoConfirmada> atrasadasReserva = new ArrayList<TransacaoConfirmada>();
+		private volatile VersaoModelo publicada;
+		private VersaoModelo reserva;
+
+		private PublicacaoVersoes() {
+			byte[] modeloCodificado;
+			long ultimaTransacao;
+			synchronized (pojoRegistro) {
+				ultimaTransacao = ultimaTransacaoExecutada;
+				modeloCodificado = codificarModelo();
+			}
+			publicada = new VersaoModelo(decodificarModelo(modeloCodificado), ultimaTransacao);
+			reserva = new VersaoModelo(decodificarModelo(modeloCodificado), ultimaTransacao);
+			new Thread() {
+				public void run() {
+					List<TransacaoConfirmada> lote = new ArrayList<TransacaoConfirmada>();
+					while (!finalizar) {
+						try {
+							TransacaoConfirmada confirmada = confirmadas.poll(100, TimeUnit.MILLISECONDS);
+							if (confirmada == null) {
+								continue;
+							}
+							lote.add(confirmada);
+							confirmadas.drainTo(lote);
+							publicarLote(lote);
+							lote.clear();
+						} catch (InterruptedException e) {
+							return;
+						} catch (Exception e) {
+							logger.log(Level.SEVERE, "Erro ao publicar uma nova versão do modelo para as consultas.", e);
+						}
+					}
+					publicada = null;
+					reserva = null;
+				}
+			}.start();
 		}
-		if ((replica == null) || (diretorio == null)) {
-			throw new IllegalStateException("Classe não configurada para o ambiente, é necessário executar o método configurar na classe.");
-		}		
-		if (mapaPrevalencias.containsKey(tipoRegistro)) {
-			mapaPrevalencias.get(tipoRegistro).validarFinalizacao();
-			return (MiniPrevalencia<Z>) mapaPrevalencias.get(tipoRegistro);
+		/**
+		 * Entrega uma transação confirmada para publicação, chamado na ordem das transações.
+		 */
+		private void publicar(long numeroTransacao, byte[] transacaoSerializada) {
+			confirmadas.add(new TransacaoConfirmada(numeroTransacao, transacaoSerializada));
 		}
-		MiniPrevalencia<Z> memoriaParaArquivo = new MiniPrevalencia<Z>(tipoRegistro);		
-		mapaPrevalencias.put(tipoRegistro, memoriaParaArquivo);		
-		try {
-			memoriaParaArquivo.carregarDadosDoSistemaDeArquivo();			
-		} catch (Exception e) {
-			throw new LeituraEmDiscoException("Erro ao preparar ou carregar os objetos do sistema de arquivos, não foi possível iniciar a prevalência.", e);
+		private void publicarLote(List<TransacaoConfirmada> lote) throws InterruptedException {
+			while (reserva.leitores.get() > 0) {//Consultas que iniciaram antes da última publicação
+				LockSupport.parkNanos(100000);
+			}
+			try {
+				aplicar(reserva, atrasadasReserva);
+				aplicar(reserva, lote);
+			} catch (Exception e) {
+				logger.log(Level.SEVERE, "Erro ao reexecutar uma transação na cópia do modelo, transações não determinísticas não devem ser utilizadas com isolamento MULTIVERSAO. "
+						+ "A cópia será reconstruída a partir do modelo.", e);
+				reconstruir(reserva);
+				aplicar(reserva, lote);//Somente as transações confirmadas após a reconstrução
+			}
+			VersaoModelo anterior = publicada;
+			publicada = reserva;
+			reserva = anterior;
+			atrasadasReserva.clear();
+			atrasadasReserva.addAll(lote);
+		}
+		private void aplicar(VersaoModelo versao, List<TransacaoConfirmada> transacoes) {
+			for (TransacaoConfirmada confirmada : transacoes) {
+				if (confirmada.numeroTransacao <= versao.ultimaTransacao) {
+					continue;
+				}
+				try {
+					executarNoModelo(decodificarTransacao(confirmada.transacaoSerializada), versao.modelo);//Cada cópia recebe seus próprios objetos
+				} catch (IOException | ClassNotFoundException e) {
+					throw new LeituraEmDiscoException("Erro ao decodificar a transação " + confirmada.numeroTransacao + " para publicação.", e);
+				}
+				versao.ultimaTransacao = confirmada.numeroTransacao;
+			}
+		}
+		private void reconstruir(VersaoModelo versao) {
+			byte[] modeloCodificado;
+			synchronized (pojoRegistro) {
+				versao.ultimaTransacao = ultimaTransacaoExecutada;
+				modeloCodificado = codificarModelo();
+			}
+			versao.modelo = decodificarModelo(modeloCodificado);
+		}
+		/**
+		 * Executa a consulta na versão publicada, registrando-se como leitor para que a versão não seja alterada enquanto estiver em uso. Com cache o resultado é 
+		 * identificado pela última transação da versão utilizada.
+		 */
+		@SuppressWarnings("unchecked")
+		private <R> R executar(Consulta<R, M> consulta, CacheConsultas cache) {
+			VersaoModelo versao;
+			while (true) {
+				versao = publicada;
+				versao.leitores.incrementAndGet();
+				if (versao == publicada) {
+					break;
+				}
+				versao.leitores.decrementAndGet();//Publicação concorrente, utiliza a nova versão
+			}
+			try {
+				if (cache == null) {
+					return copiarObjeto(consulta.executar(versao.modelo), null, consulta);
+				}
+				EntradaCacheConsulta entrada = cache.obter(consulta, versao.ultimaTransacao);
+				if (entrada != null) {
+					return copiarObjeto((R) entrada.valor, null, consulta);
+				}
+				R retorno = copiarObjeto(consulta.executar(versao.modelo), null, consulta);
+				cache.armazenar(consulta, copiarObjeto(retorno, null, consulta), versao.ultimaTransacao);
+				return retorno;
+			} finally {
+				versao.leitores.decrementAndGet();
+			}
 		}
-		if (replica) {
-			memoriaParaArquivo.criarOuvinteGravacaoParaExecutarTransacoes();
-		} else if (milisegundosInatividadeTransacionalDispararGravacaoAcelerador != null) {
-			memoriaParaArquivo.iniciarMonitorGravacaoAutomaticaArquivoAcelerador();
-		}	
-		return (MiniPrevalencia<Z>) mapaPrevalencias.get(tipoRegistro);
 	}
-	
 	/**
-	 * Executa sua transação com retorno, também pode ser utilizado para consultas "limpas" sem alteração do modelo.
-	 * @param transacao Sua transação.
-	 * @throws ExecucaoTransacaoException Caso a execução de sua transação resulte em erro, revise seu código, pois, ele é o único resposável por este erro. Mas não se preocupe, 
-	 * o código da transação só é efetivado se for executado na íntegra sem erro, por ser uma transação atômica.
+	 * Cache limitado dos resultados das consultas cacheáveis. Cada resultado guarda o carimbo da versão do modelo sobre a qual foi calculado e só é reutilizado nesta
+	 * mesma versão, resultados de versões anteriores são substituídos pelo novo resultado da consulta ou removidos pela política quando o cache estiver cheio. Sincronizado, as 
+	 * operações são curtas comparadas à execução das consultas.
 	 */
-	@SuppressWarnings("unchecked")
-	public <R, E extends Throwable> R executar(TransacaoComRetorno<R, M, E> transacao) throws E, GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
-		return (R) executarTransacao(transacao);
+	private static class CacheConsultas {
+		private final int tamanhoMaximo;
+		private final PoliticaRemocaoCache politica;
+		/**
+		 * Com LRU em ordem de acesso, o primeiro é o acessado há mais tempo.
+		 */
+		private final Map<Object, EntradaCacheConsulta> entradas;
+		/**
+		 * Somente LFU: consultas agrupadas por quantidade de acessos, cada grupo em ordem de acesso.
+		 */
+		private final TreeMap<Long, LinkedHashSet<Object>> frequencias = new TreeMap<>();
+		private long acertos = 0;
+		private long faltas = 0;
+		private long remocoes = 0;
+		private long invalidacoes = 0;
+
+		private CacheConsultas(int tamanhoMaximo, PoliticaRemocaoCache politica) {
+			this.tamanhoMaximo = tamanhoMaximo;
+			this.politica = politica;
+			this.entradas = (politica == PoliticaRemocaoCache.LRU) ? new LinkedHashMap<>(16, 0.75f, true) : new HashMap<>();
+		}
+		/**
+		 * Obtém o resultado da consulta calculado na versão informada do modelo.
+		 * @return A entrada do cache ou NULL quando ausente ou calculada em outra versão.
+		 */
+		private synchronized EntradaCacheConsulta obter(Object consulta, long carimbo) {
+			EntradaCacheConsulta entrada = entradas.get(consulta);
+			if ((entrada == null) || (entrada.carimbo != carimbo)) {
+				if ((entrada != null) && (entrada.carimbo < carimbo)) {
+					invalidacoes++;//Mantida até ser substituída, preservando sua frequência
+				}
+				faltas++;
+				return null;
+			}
+			acertos++;
+			if (politica == PoliticaRemocaoCache.LFU) {
+				removerFrequencia(consulta, entrada.frequencia);
+				entrada.frequencia++;
+				adicionarFrequencia(consulta, entrada.frequencia);
+			}
+			return entrada;
+		}
+		/**
+		 * Armazena o resultado da consulta calculado na versão informada, um resultado de versão mais recente já armazenado por outra execução é mantido.
+		 */
+		private synchronized void armazenar(Object consulta, Object valor, long carimbo) {
+			EntradaCacheConsulta anterior = entradas.get(consulta);
+			long frequencia = 1;
+			if (anterior != null) {
+				if (anterior.carimbo >= carimbo) {
+					return;
+				}
+				remover(consulta, anterior);
+				frequencia = anterior.frequencia + 1;//Preserva a popularidade da consulta entre versões
+			} else if (entradas.size() >= tamanhoMaximo) {
+				removerMenosRelevante();
+			}
+			entradas.put(consulta, new EntradaCacheConsulta(valor, carimbo, frequencia));
+			if (politica == PoliticaRemocaoCache.LFU) {
+				adicionarFrequencia(consulta, frequencia);
+			}
+		}
+		private void removerMenosRelevante() {
+			Object consulta;
+			if (politica == PoliticaRemocaoCache.LRU) {
+				consulta = entradas.keySet().iterator().next();
+			} else {
+				consulta = frequencias.firstEntry().getValue().iterator().next();
+			}
+			remover(consulta, entradas.get(consulta));
+			remocoes++;
+		}
+		private void remover(Object consulta, EntradaCacheConsulta entrada) {
+			entradas.remove(consulta);
+			if (politica == PoliticaRemocaoCache.LFU) {
+				removerFrequencia(consulta, entrada.frequencia);
+			}
+		}
+		private void adicionarFrequencia(Object consulta, long frequencia) {
+			frequencias.computeIfAbsent(frequencia, f -> new LinkedHashSet<>()).add(consulta);
+		}
+		private void removerFrequencia(Object consulta, long frequencia) {
+			LinkedHashSet<Object> grupo = frequencias.get(frequencia);
+			grupo.remove(consulta);
+			if (grupo.isEmpty()) {
+				frequencias.remove(frequencia);
+			}
+		}
+		private synchronized MetricasCacheConsultas obterMetricas() {
+			return new MetricasCacheConsultas(acertos, faltas, remocoes, invalidacoes, entradas.size());
+		}
+	}
+	private static class EntradaCacheConsulta {
+		private final Object valor;
+		private final long carimbo;
+		private long frequencia;
+		private EntradaCacheConsulta(Object valor, long carimbo, long frequencia) {
+			this.valor = valor;
+			this.carimbo = carimbo;
+			this.frequencia = frequencia;
+		}
 	}
 	/**
-	 * Executa sua transação sem retorno.
-	 * @param transacao Sua transação.
-	 * @throws ExecucaoTransacaoException Caso a execução de sua transação resulte em erro, revise seu código, pois, ele é o único resposável por este erro. Mas não se preocupe, 
-	 * o código da transação só é efetivado se for executado na íntegra sem erro, por ser uma transação atômica.
+	 * Uma cópia do modelo com a última transação que ela contém e a quantidade de consultas em execução sobre ela.
 	 */
-	public <E extends Throwable> void executar(TransacaoSemRetorno<M, E> transacao) throws E, GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {
-		executarTransacao(transacao);
+	private class VersaoModelo {
+		private M modelo;
+		private volatile long ultimaTransacao;
+		private final AtomicInteger leitores = new AtomicInteger();
+		private VersaoModelo(M modelo, long ultimaTransacao) {
+			this.modelo = modelo;
+			this.ultimaTransacao = ultimaTransacao;
+		}
+	}
+	private static class TransacaoConfirmada {
+		private final long numeroTransacao;
+		private final byte[] transacaoSerializada;
+		private TransacaoConfirmada(long numeroTransacao, byte[] transacaoSerializada) {
+			this.numeroTransacao = numeroTransacao;
+			this.transacaoSerializada = transacaoSerializada;
+		}
 	}
 	/**
-	 * Executa sua consulta, aqui podem ocorrer leituras "sujas", que podem passar por reversão. Caso precise de leituras "limpas" utilize uma transação com retorno.
-	 * @param <R> Seu tipo de retorno
-	 * @param consulta A consulta desejável.
-	 * @return Seu retorno.
+	 * Codifica o modelo completo em memória, utilizado para criar as cópias do isolamento MULTIVERSAO.
 	 */
-	public <R> R executar(Consulta<R, M> consulta) {		
-		validarInicializacao();
-		validarFinalizacao();
-		return copiarObjeto(consulta.executar(pojoRegistro), null, consulta);
+	private byte[] codificarModelo() {
+		try {
+			ByteArrayOutputStream saida = new ByteArrayOutputStream();
+			codificador.codificar(pojoRegistro, saida);
+			return saida.toByteArray();
+		} catch (IOException e) {
+			throw new GravacaoEmDiscoException("Erro ao codificar o modelo para a criação de uma cópia.", e);
+		}
+	}
+	@SuppressWarnings("unchecked")
+	private M decodificarModelo(byte[] modeloCodificado) {
+		try {
+			return (M) decodificar(new ByteArrayInputStream(modeloCodificado));
+		} catch (IOException | ClassNotFoundException e) {
+			throw new LeituraEmDiscoException("Erro ao decodificar a cópia do modelo.", e);
+		}
 	}
+	
 	/**
-	 * Executa sua transação Atômica, Consistente, Isolada e Durável através de um bloco sincronizado pela única instância do seu modelo. Apesar de sicronizado, mais de 2000 transações 
-	 * por segundo foram executadas em um notebook i5 de primeira geração, as transações de teste envolveram consultas para validação e alteração de dados. Como sugestão mantenha suas 
-	 * trasações pequenas e simples para tornar sua execução mais rápida.
-	 * @param <R> Seu tipo de retorno.
-	 * @param <E> Seu tipo de exception que pode ser lançada durante a validação.
-	 * @param transacao Sua transação totalmente serializável consequentemente repetível após desserialização, não pode depender do que não foi serializado!
-	 * @return Seu retorno
-	 * @throws E Caso sua implementação levante uma exception durante o método de validação.
-	 * @throws GravacaoEmDiscoException Caso ocorra um problema na gravação ou serialização da transação. Não precisa ser verificada em blocos try catch.
-	 * @throws LeituraEmDiscoException Caso ocorra um erro no processo de reversão da base, neste caso a base é finalizada e considerada corrompida até que transação com problema seja corrigida.
-	 * Não precisa ser verificada em blocos try catch.
-	 * @throws ExecucaoTransacaoException Caso seu código (método executar da transação) resulte em erro, neste caso a base será revertida para o estado anterior
-	 * a transação, a transação não é executada pela metade, ou é executada totalmente ou a base é revertida e na sequencia esta exception é lançada.
+	 * Durante a inicialização e reversão, para evitar que todas transações sejam re-executadas, é possível contornar este processo criando um arquivo que é uma foto (idem snapshot Prevayler) do 
+	 * seu modelo (pojoRegistro), desta forma somente as transações subsequentes a atualização deste arquivo precisam ser reexecutadas para inicialização de sua prevalência.
+	 * Só é necessária a execução manual deste método quando a classe foi configurada com NULL para quantidade de segundos de inatividade para gravação do acelerador, caso tenha 
+	 * informado uma quantidade de segundos, a gravação se torna automática e periódica assim que houver inatividade transacional.
+	 * É interessante atualizar este arquivo quando seu sistema não estiver em uso, pois, o bloco sincronizado impede que transações sejam executadas até o término da gravação, exceto
+	 * quando configurado para gravar com instância sombra.
+	 * OBS: o funcionamento da prevalência sem o arquivo acelerador implica em inicializações reversões mais lentas em ordens de grandeza, conforme quantidade de transações.
+	 * @throws GravacaoEmDiscoException Caso não seja possível gravar o arquivo acelerador.
 	 */
-	private <E extends Throwable> Object executarTransacao(Transacao<M, E> transacao) throws E, GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException  {
-		validarReplica();
-		validarInicializacao();
-		validarFinalizacao();		
-		Object retorno = null;
-		File arquivoTransacaoTemporaria = null;
-		File arquivoTransacao = null;
-		synchronized (pojoRegistro) {			
-			transacao.validar(pojoRegistro);//Exception aqui não reverte a base e ainda não gravou transação.
-			try {//Escreve uma transação temporária em disco
-				ByteArrayOutputStream baos = new ByteArrayOutputStream();
-				new ObjectOutputStream(baos).writeObject(transacao);
-				arquivoTransacaoTemporaria = new File(obterDiretorioTransacoes(), (ultimaTransacaoExecutada + 1) + ".tmp");
-				Files.write(arquivoTransacaoTemporaria.toPath(), baos.toByteArray(), StandardOpenOption.CREATE);
-			} catch (Exception e) {
-				excluirArquivosTransacao(arquivoTransacaoTemporaria, arquivoTransacao);
-				throw new GravacaoEmDiscoException("Erro ao gravar arquivo temporário da transação: " + transacao, e);
+	public void atualizarArquivoAceleradorInicializacao() throws GravacaoEmDiscoException {		
+		synchronized (monitorGravacaoAcelerador) {
+			if (ultimaTransacaoExecutada.equals(ultimaTransacaoAcelerada)) {
+				return;
 			}
-			try  {//Atualiza seu modelo (POJO)
-				retorno = atualizarPojoUnico(transacao);//Consultas não transacionais já pegam as alterações em memória				
-				ultimaTransacaoExecutada++;//agora memória considera como executado
-			} catch (Exception e) {
-				excluirArquivosTransacao(arquivoTransacaoTemporaria, arquivoTransacao);
-				carregarDadosDoSistemaDeArquivo();//Reversão da base
-				throw new ExecucaoTransacaoException("Erro ao executar a transação: " + transacao, e);
-			}
-			try {//Renomeia a transação temporária para definitiva
-				arquivoTransacao = new File(obterDiretorioTransacoes(), ultimaTransacaoExecutada + ".bin");
-				boolean ok = arquivoTransacaoTemporaria.renameTo(arquivoTransacao);//Sistema de arquivos considera executado
-				if (!ok) {
-					excluirArquivosTransacao(arquivoTransacaoTemporaria, arquivoTransacao);
-					carregarDadosDoSistemaDeArquivo();//Reversão da base
-					throw new GravacaoEmDiscoException("Erro ao renomear o temporário da transação: " + transacao);
-				}
-			}	catch (Exception e) {
-				excluirArquivosTransacao(arquivoTransacaoTemporaria, arquivoTransacao);
-				carregarDadosDoSistemaDeArquivo();//Reversão da base
-				throw new GravacaoEmDiscoException("Erro ao renomear o temporário da transação: " + transacao, e);
-			}
-			try {//Renomeia o arquivo de orientação das réplicas
-				atualizarOrientacaoReplicas();
-			} catch (Exception e) {
-				excluirArquivosTransacao(arquivoTransacaoTemporaria, arquivoTransacao);
-				carregarDadosDoSistemaDeArquivo();//Reversão da base
-				throw new GravacaoEmDiscoException("Erro ao gravar orientação das réplicas: " + transacao, e);
+			validarReplica();
+			validarInicializacao();
+			validarFinalizacao();
+			long bytesJornalAcelerados = bytesJornalNaoAcelerados.get();//Na instância sombra as transações anexadas durante a gravação continuam contando para a próxima
+			if (gravarAceleradorComInstanciaSombra) {
+				ultimaTransacaoAcelerada = gravarArquivoAceleradorComInstanciaSombra();
+			} else {
+				synchronized (pojoRegistro) {
+					bytesJornalAcelerados = bytesJornalNaoAcelerados.get();
+					gravarArquivoAcelerador(pojoRegistro, ultimaTransacaoExecutada);
+					ultimaTransacaoAcelerada = ultimaTransacaoExecutada;
+				}
+			}
+			bytesJornalNaoAcelerados.addAndGet(-bytesJornalAcelerados);
+			momentoUltimaGravacaoAcelerador = System.currentTimeMillis();
+			apagarArquivosAceleradoresSubstituidos();
+			if (apagarTransacoesAceleradas) {
+				apagarTransacoesInternalizadasNoArquivoAcelerador();
 			}
 		}
-		momentoInicializacaoOuUltimaTransacao = System.currentTimeMillis();
-		notificarObservadores(transacao);
-		return copiarObjeto(retorno, transacao, null);
 	}
 	/**
-	 * Copia o objeto informado utilizando Serialização Java. Atenção: caso execute uma cópia da instância raíz, o dobro de memória já consumida será necessária!
-	 * @param <O> Seu objeto.
-	 * @param objeto Objeto que será copiado.
-	 * @param transacao Transação que solicitou a cópia ou NULL caso não seja.
-	 * @param consulta Consulta que solicitou a cópia ou NULL caso não seja.
-	 * @return Cópia do seu objeto.
+	 * Grava o modelo informado como arquivo acelerador.
+	 * @param modelo O modelo que será gravado.
+	 * @param numeroTransacao Número da última transação internalizada pelo modelo, nome do arquivo.
+	 * @throws GravacaoEmDiscoException Caso não seja possível gravar o arquivo acelerador.
 	 */
-	@SuppressWarnings("unchecked")
-	private static<O> O copiarObjeto(O objeto, Transacao<? extends Serializable, ? extends Throwable> transacao, Consulta<? extends Object, ? extends Serializable> consulta) {		
-		if ((!protegerRetornoCopiandoObjetos) || (objeto == null)) {
-			return objeto;//Melhor saída!
+	private void gravarArquivoAcelerador(M modelo, long numeroTransacao) throws GravacaoEmDiscoException {
+		if (modelo instanceof ModeloParticionado) {
+			gravarArquivoAceleradorParticionado((ModeloParticionado) modelo, numeroTransacao);
+			return;
+		}
+		File temporario = null;
+		try {
+			registrarGeracaoInicialRodape(numeroTransacao);
+			File arquivoNovo = new File(obterDiretorioAcelerador(), numeroTransacao + ".bin");
+			temporario = new File(arquivoNovo.getParentFile(), arquivoNovo.getName() + ".tmp");
+			try (OutputStream saida = new BufferedOutputStream(abrirSaidaAcelerador(temporario), 8192000)) {//Se desejar pode ajustar o tamanho do buffer para suas gravações
+				codificador.codificar(modelo, saida);
+			}
+			forcarGravacao(temporario);
+			Files.move(temporario.toPath(), arquivoNovo.toPath(), StandardCopyOption.ATOMIC_MOVE);//Uma gravação interrompida nunca é vista como geração
+		} catch (Exception e) {
+			String textoExclusaoArquivo = ".";
+			if (temporario != null) {
+				textoExclusaoArquivo = (temporario.delete() || !temporario.exists()) ? "." : ", excluir o arquivo acelerador '" + temporario.getName() + "' manualmente.";
+			}
+			throw new GravacaoEmDiscoException("Erro ao gravar o arquivo de acelerador de inicialização" + textoExclusaoArquivo, e);
+		}
+	}
+	/**
+	 * Grava cada parte do modelo particionado em paralelo e por último o manifesto que as associa ao número da transação. Na gravação incremental somente as partes cujo resumo 
+	 * difere da gravação anterior são gravadas, as demais são referenciadas na geração anterior. A cada quantidade configurada de gravações incrementais todas partes são regravadas, 
+	 * consolidando o acelerador em um único diretório.
+	 * @param modelo O modelo que será gravado.
+	 * @param numeroTransacao Número da última transação internalizada pelo modelo, nome do diretório.
+	 * @throws GravacaoEmDiscoException Caso não seja possível gravar alguma parte ou o manifesto.
+	 */
+	private void gravarArquivoAceleradorParticionado(ModeloParticionado modelo, long numeroTransacao) throws GravacaoEmDiscoException {
+		File diretorioAcelerador = obterDiretorioAcelerador();
+		File diretorioNovo = new File(diretorioAcelerador, String.valueOf(numeroTransacao));
+		ManifestoAcelerador anterior = null;
+		File arquivoAnterior = obterArquivoAcelerador();
+		if ((arquivoAnterior != null) && arquivoAnterior.isDirectory() && (gravacoesIncrementaisAntesConsolidacao != null)) {
+			try {
+				anterior = ManifestoAcelerador.ler(arquivoAnterior);
+			} catch (IOException e) {
+				logger.log(Level.WARNING, "Manifesto do arquivo acelerador " + arquivoAnterior.getName() + " ilegível, todas partes serão gravadas.", e);
+			}
 		}
+		boolean incremental = (anterior != null) && (anterior.gravacoesIncrementais < gravacoesIncrementaisAntesConsolidacao);
+		List<Object> partes = modelo.particionar();
+		ExecutorService codificadores = Executors.newFixedThreadPool(Math.max(1, Math.min(partes.size(), threadsCarregamento)));
 		try {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			ObjectOutputStream oos = new ObjectOutputStream(baos);			
-			oos.writeObject(objeto);
-			ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
-			return (O) ois.readObject();
+			registrarGeracaoInicialRodape(numeroTransacao);
+			apagarArquivoAcelerador(diretorioNovo);//Resto de uma gravação interrompida
+			if (!diretorioNovo.mkdir()) {
+				throw new IOException("Não foi possível criar o diretório " + diretorioNovo.getName());
+			}
+			List<Future<ParteAcelerador>> partesGravadas = new ArrayList<Future<ParteAcelerador>>();
+			for (int indice = 0; indice < partes.size(); indice++) {
+				Object parte = partes.get(indice);
+				String nome = indice + ManifestoAcelerador.EXTENSAO_PARTE;
+				ParteAcelerador parteAnterior = (incremental && (indice < anterior.partes.size())) ? anterior.partes.get(indice) : null;
+				partesGravadas.add(codificadores.submit(() -> gravarParteAcelerador(parte, numeroTransacao, nome, parteAnterior, diretorioAcelerador)));
+			}
+			ManifestoAcelerador manifesto = new ManifestoAcelerador(numeroTransacao, incremental ? anterior.gravacoesIncrementais + 1 : 0);
+			for (Future<ParteAcelerador> parteGravada : partesGravadas) {
+				manifesto.partes.add(parteGravada.get());
+			}
+			manifesto.gravar(diretorioNovo);
 		} catch (Exception e) {
-			Object resposavelExecucao = (transacao != null) ? transacao : consulta;
-			throw new IllegalArgumentException("Erro ao copiar o objeto " + objeto + " utilizando serialização Java. Verifique se o retorno de sua transação ou consulta " + resposavelExecucao + " é serializável.", e);
+			String textoExclusaoArquivo = (apagarArquivoAcelerador(diretorioNovo)) ? "." : ", excluir o diretório acelerador '" + diretorioNovo.getName() + "' manualmente.";
+			throw new GravacaoEmDiscoException("Erro ao gravar o arquivo de acelerador de inicialização particionado" + textoExclusaoArquivo, e);
+		} finally {
+			codificadores.shutdownNow();
 		}
-
 	}
 	/**
-	 * Em caso de falha na execução da transação os arquivos .tmp e .bin são excluídos do sistema de arquivos.
-	 * @param arquivoTransacaoTemporaria Arquivo temporário
-	 * @param arquivoTransacao Arquivo definitivo.
+	 * Grava uma parte do acelerador particionado em um arquivo temporário calculando o resumo dos bytes codificados, a parte é codificada uma única vez.
+	 * @param parteAnterior A parte de mesma posição na gravação anterior, NULL grava sem comparar. Quando o resumo é igual a parte anterior é reaproveitada e o arquivo temporário 
+	 * excluído, caso contrário o temporário é renomeado para o arquivo da parte.
+	 * @return A parte registrada no manifesto.
 	 */
-	private void excluirArquivosTransacao(File arquivoTransacaoTemporaria, File arquivoTransacao) {
-		if ((arquivoTransacaoTemporaria != null) && arquivoTransacaoTemporaria.exists()) {
-			boolean ok = arquivoTransacaoTemporaria.delete();
-			if (!ok) {
-				logger.log(Level.SEVERE, "Erro ao excluir o arquivo temporário de transação" + arquivoTransacaoTemporaria.getName() + ", exclua manualmente este arquivo.");
-			}
+	private ParteAcelerador gravarParteAcelerador(Object parte, long geracao, String nome, ParteAcelerador parteAnterior, File diretorioAcelerador) throws Exception {
+		File arquivoParte = new File(new File(diretorioAcelerador, String.valueOf(geracao)), nome);
+		File temporario = new File(arquivoParte.getParentFile(), nome + ".tmp");
+		MessageDigest resumo = MessageDigest.getInstance("SHA-256");
+		try (OutputStream saida = new BufferedOutputStream(new DigestOutputStream(abrirSaidaAcelerador(temporario), resumo), 8192000)) {//Se desejar pode ajustar o tamanho do buffer para suas gravações
+			codificador.codificar(parte, saida);
 		}
-		if ((arquivoTransacao != null) && arquivoTransacao.exists()) {
-			boolean ok = arquivoTransacao.delete();			
-			if (!ok) {
-				finalizarPrevalencia();
-				throw new GravacaoEmDiscoException("Erro ao excluir o arquivo " + arquivoTransacao.getName() + ", exclua manualmente este arquivo.");
+		forcarGravacao(temporario);
+		byte[] resumoParte = resumo.digest();
+		if ((parteAnterior != null) && Arrays.equals(resumoParte, parteAnterior.resumo) && (parteAnterior.obterArquivo(diretorioAcelerador).length() == parteAnterior.tamanho)) {
+			if (!temporario.delete()) {
+				throw new IOException("Não foi possível excluir o arquivo temporário " + temporario.getName());
 			}
+			return parteAnterior;
 		}
+		Files.move(temporario.toPath(), arquivoParte.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		return new ParteAcelerador(geracao, nome, arquivoParte.length(), resumoParte);
 	}
 	/**
-	 * Atualiza seu modelo executando sua transação.
-	 * @param transacao A transação que atualizará o modelo.
-	 * @return O seu retorno, caso seja uma transação com retorno, caso contrário null.
+	 * Sincroniza com o disco o conteúdo do arquivo já gravado e fechado, antes de torná-lo visível pela renomeação.
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private <E extends Throwable> Object atualizarPojoUnico(Transacao<M, E> transacao) {
-		if (transacao instanceof TransacaoSemRetorno) {
-			((TransacaoSemRetorno) transacao).executar(pojoRegistro);
-			return null;
+	private static void forcarGravacao(File arquivo) throws IOException {
+		try (FileChannel canal = FileChannel.open(arquivo.toPath(), StandardOpenOption.WRITE)) {
+			canal.force(true);
 		}
-		return ((TransacaoComRetorno) transacao).executar(pojoRegistro);
 	}
-	
 	/**
-	 * Durante a inicialização e reversão, para evitar que todas transações sejam re-executadas, é possível contornar este processo criando um arquivo que é uma foto (idem snapshot Prevayler) do 
-	 * seu modelo (pojoRegistro), desta forma somente as transações subsequentes a atualização deste arquivo precisam ser reexecutadas para inicialização de sua prevalência.
-	 * Só é necessária a execução manual deste método quando a classe foi configurada com NULL para quantidade de segundos de inatividade para gravação do acelerador, caso tenha 
-	 * informado uma quantidade de segundos, a gravação se torna automática e periódica assim que houver inatividade transacional.
-	 * É interessante atualizar este arquivo quando seu sistema não estiver em uso, pois, o bloco sincronizado impede que transações sejam executadas até o término da gravação.
-	 * OBS: o funcionamento da prevalência sem o arquivo acelerador implica em inicializações reversões mais lentas em ordens de grandeza, conforme quantidade de transações.
-	 * @throws GravacaoEmDiscoException Caso não seja possível gravar o arquivo acelerador.
+	 * Registra no diretório do registro, antes da primeira gravação com rodapé de verificação, o número da primeira geração do arquivo acelerador gravada com rodapé. 
+	 * Somente arquivos de gerações anteriores a ela podem ser lidos sem rodapé.
 	 */
-	public void atualizarArquivoAceleradorInicializacao() throws GravacaoEmDiscoException {		
-		if (ultimaTransacaoExecutada == ultimaTransacaoAcelerada) {
+	private void registrarGeracaoInicialRodape(long geracao) throws IOException {
+		File marcador = new File(obterDiretorioRegistro(), SaidaVerificada.MARCADOR_ACELERADOR);
+		if (marcador.exists()) {
 			return;
 		}
-		validarReplica();
-		validarInicializacao();
-		validarFinalizacao();
-		File arquivoAceleradorAntigo = null;
-		if (obterDiretorioAcelerador().list().length > 0) {
-			arquivoAceleradorAntigo = obterDiretorioAcelerador().listFiles()[0];
+		File temporario = new File(marcador.getParentFile(), SaidaVerificada.MARCADOR_ACELERADOR + ".tmp");
+		try (FileChannel canal = FileChannel.open(temporario.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			canal.write(ByteBuffer.wrap(String.valueOf(geracao).getBytes(StandardCharsets.UTF_8)));
+			canal.force(true);
 		}
-		synchronized (pojoRegistro) {
-			File arquivoNovo = null;
-			try {
-				arquivoNovo = new File(obterDiretorioAcelerador(), ultimaTransacaoExecutada + ".bin");
-				arquivoNovo.createNewFile();
-				ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(arquivoNovo), 8192000));//Se desejar pode ajustar o tamanho do buffer para suas gravações
-				oos.writeObject(pojoRegistro);
-				oos.flush();
-				oos.close();
-				ultimaTransacaoAcelerada = ultimaTransacaoExecutada;
-			} catch (Exception e) {
-				String textoExclusaoArquivo = ".";
-				if (arquivoNovo != null) {
-					textoExclusaoArquivo = (arquivoNovo.delete()) ? "." : ", excluir o arquivo acelerador '" + arquivoNovo.getName() + "' manualmente.";
+		Files.move(temporario.toPath(), marcador.toPath(), StandardCopyOption.ATOMIC_MOVE);
+	}
+	/**
+	 * Verifica se o arquivo do acelerador, da geração do nome do arquivo ou do diretório da parte, foi gravado antes do rodapé de verificação. Sem o marcador nenhuma geração 
+	 * foi gravada com rodapé.
+	 */
+	private boolean isAceleradorAnteriorAoRodape(File arquivo) throws IOException {
+		File marcador = new File(obterDiretorioRegistro(), SaidaVerificada.MARCADOR_ACELERADOR);
+		if (!marcador.exists()) {
+			return true;
+		}
+		long geracaoInicialRodape = Long.parseLong(new String(Files.readAllBytes(marcador.toPath()), StandardCharsets.UTF_8).trim());
+		long geracao = arquivo.getName().endsWith(ManifestoAcelerador.EXTENSAO_PARTE) ? Long.parseLong(arquivo.getParentFile().getName()) : converterNomeArquivo(arquivo);
+		return geracao < geracaoInicialRodape;
+	}
+	/**
+	 * Abre um arquivo do acelerador para gravação, com rodapé de verificação e comprimido em blocos quando configurado.
+	 */
+	private static OutputStream abrirSaidaAcelerador(File arquivo) throws IOException {
+		OutputStream saida = new SaidaVerificada(new BufferedOutputStream(new FileOutputStream(arquivo), 65536));
+		if (nivelCompressaoAcelerador != null) {
+			saida = new SaidaBlocosComprimidos(saida, nivelCompressaoAcelerador);
+		}
+		return saida;
+	}
+	/**
+	 * Obtém o arquivo acelerador mais recente, um arquivo do modelo inteiro ou um diretório particionado com manifesto.
+	 * @return O arquivo ou diretório, NULL quando não existe arquivo acelerador.
+	 */
+	private File obterArquivoAcelerador() throws GravacaoEmDiscoException {
+		List<File> geracoes = obterGeracoesAcelerador();
+		return geracoes.isEmpty() ? null : geracoes.get(0);
+	}
+	/**
+	 * Obtém as gerações completas do arquivo acelerador, da mais recente para a mais antiga.
+	 */
+	private List<File> obterGeracoesAcelerador() throws GravacaoEmDiscoException {
+		return Stream.of(obterDiretorioAcelerador().listFiles())
+				.filter(arquivo -> arquivo.isDirectory() ? ManifestoAcelerador.existe(arquivo) : arquivo.getName().endsWith(".bin"))
+				.sorted(Comparator.comparing(this::converterNomeArquivo).reversed()).collect(Collectors.toList());
+	}
+	/**
+	 * Obtém as gerações do arquivo acelerador mantidas conforme configuração, da mais recente para a mais antiga.
+	 */
+	private List<File> obterGeracoesAceleradorMantidas() throws GravacaoEmDiscoException {
+		List<File> geracoes = obterGeracoesAcelerador();
+		return geracoes.subList(0, Math.min(geracoesAceleradorMantidas, geracoes.size()));
+	}
+	/**
+	 * Exclui os arquivos aceleradores além das gerações mantidas, preservando nos diretórios de gerações excluídas somente as partes ainda referenciadas pelos manifestos mantidos.
+	 * @throws GravacaoEmDiscoException Caso algum arquivo não possa ser excluído.
+	 */
+	private void apagarArquivosAceleradoresSubstituidos() throws GravacaoEmDiscoException {
+		File diretorioAcelerador = obterDiretorioAcelerador();
+		List<File> mantidas = obterGeracoesAceleradorMantidas();
+		Set<File> partesReferenciadas = new HashSet<File>();
+		Set<Long> geracoesReferenciadas = new HashSet<Long>();
+		for (File mantida : mantidas) {
+			if (mantida.isDirectory()) {
+				try {
+					ManifestoAcelerador manifesto = ManifestoAcelerador.ler(mantida);
+					manifesto.partes.forEach(parte -> partesReferenciadas.add(parte.obterArquivo(diretorioAcelerador)));
+					geracoesReferenciadas.addAll(manifesto.obterGeracoes());
+				} catch (IOException e) {
+					throw new GravacaoEmDiscoException("Erro ao ler o manifesto do arquivo acelerador " + mantida.getName() + ", nenhum arquivo acelerador antigo foi excluído.", e);
+				}
+			}
+		}
+		for (File arquivo : diretorioAcelerador.listFiles()) {
+			if (mantidas.contains(arquivo)) {
+				continue;
+			}
+			boolean excluido;
+			if (arquivo.isDirectory() && geracoesReferenciadas.contains(converterNomeArquivo(arquivo))) {
+				excluido = new File(arquivo, ManifestoAcelerador.NOME).delete() || !new File(arquivo, ManifestoAcelerador.NOME).exists();
+				for (File parte : arquivo.listFiles()) {
+					if (!partesReferenciadas.contains(parte)) {
+						excluido &= parte.delete();
+					}
 				}
-				throw new GravacaoEmDiscoException("Erro ao gravar o arquivo de acelerador de inicialização" + textoExclusaoArquivo, e);
+			} else {
+				excluido = apagarArquivoAcelerador(arquivo);
+			}
+			if (!excluido) {
+				throw new GravacaoEmDiscoException("Erro ao excluir o arquivo acelerador antigo, é necessário excluir manualmente o arquivo acelerador " + arquivo.getName());
 			}
 		}
-		if (arquivoAceleradorAntigo != null) {			
-			if (!arquivoAceleradorAntigo.delete()) {
-				throw new GravacaoEmDiscoException("Erro ao excluir o arquivo acelerador antigo, é necessário excluir manualmente o arquivo acelerador " + arquivoAceleradorAntigo.getName());
+	}
+	/**
+	 * Exclui um arquivo acelerador, no caso do diretório particionado exclui o manifesto primeiro para que uma exclusão parcial não seja lida como completa.
+	 * @return TRUE se não restou nada do arquivo acelerador.
+	 */
+	private boolean apagarArquivoAcelerador(File arquivo) {
+		if (arquivo.isDirectory()) {
+			new File(arquivo, ManifestoAcelerador.NOME).delete();
+			for (File parte : arquivo.listFiles()) {
+				parte.delete();
 			}
 		}
-		if (apagarTransacoesAceleradas) {
-			apagarTransacoesInternalizadasNoArquivoAcelerador();
+		return arquivo.delete() || !arquivo.exists();
+	}
+	/**
+	 * Constrói uma instância sombra, fora do mapa de prevalências, com o arquivo acelerador atual e as transações do jornal até a última transação executada, e grava o novo 
+	 * arquivo acelerador a partir dela. As transações anexadas durante o processo não são bloqueadas, elas serão internalizadas na próxima gravação.
+	 * @return Número da última transação internalizada pelo novo arquivo acelerador.
+	 * @throws GravacaoEmDiscoException Caso a instância sombra não possa ser carregada ou o arquivo não possa ser gravado.
+	 */
+	private long gravarArquivoAceleradorComInstanciaSombra() throws GravacaoEmDiscoException {
+		long limite = ultimaTransacaoExecutada;//Transações até este número já estão completas no jornal
+		MiniPrevalencia<M> sombra = new MiniPrevalencia<M>(tipoRegistro, particao);
+		try {
+			sombra.inicializando = true;
+			sombra.pojoRegistro = sombra.construirNovoPojoUnico();
+			sombra.leitorJornal = new LeitorJornal(obterDiretorioTransacoes());
+			sombra.lerArquivoAceleradorInicializacao();
+			sombra.executarTransacoesPendentesCarregamento(limite);
+		} catch (Exception e) {
+			throw new GravacaoEmDiscoException("Erro ao carregar a instância sombra para gravar o arquivo acelerador.", e);
+		}
+		if (sombra.ultimaTransacaoExecutada != limite) {
+			throw new GravacaoEmDiscoException("A instância sombra carregou até a transação " + sombra.ultimaTransacaoExecutada + ", esperado " + limite + ".");
 		}
+		gravarArquivoAcelerador(sombra.pojoRegistro, limite);
+		return limite;
 	}
 	/**
 	 * Apaga todas transações que ja foram internalizadas no arquivo acelerador. A configucação padrão executa este método logo após a gravação do arquivo acelerador.
@@ -621,23 +5492,34 @@ public class MiniPrevalencia <M extends Serializable> {
 		validarReplica();
 		validarInicializacao();
 		validarFinalizacao();
+		List<File> geracoesMantidas = obterGeracoesAceleradorMantidas();//A geração mais antiga mantida precisa das transações seguintes para substituir as mais recentes
+		long limiteTransacoes = geracoesMantidas.isEmpty() ? 0 : Math.min(ultimaTransacaoAcelerada, converterNomeArquivo(geracoesMantidas.get(geracoesMantidas.size() - 1)));
 		FileFilter filtroArquivoPorNumero = new FileFilter() {
 			@Override
 			public boolean accept(File file) {
 				if (!file.getName().contains(".bin")) {					
 					return false;
 				}
-				return converterNomeArquivo(file) <= ultimaTransacaoAcelerada;
+				return converterNomeArquivo(file) <= limiteTransacoes;
 			}
 		};		
-		for (File transacaoApagarLoop : obterDiretorioTransacoes().listFiles(filtroArquivoPorNumero)) {
+		for (File transacaoApagarLoop : obterDiretorioTransacoes().listFiles(filtroArquivoPorNumero)) {//Arquivos individuais de versões anteriores ao jornal
 			if (!transacaoApagarLoop.delete()) {
 				throw new GravacaoEmDiscoException("Não foi possível apagar o arquivo de transação " + transacaoApagarLoop.getName() + ". Verififique as pemissões do arquivo e tente nomamente.");
 			}
 		}
+		List<File> segmentos = JornalSegmentado.listarSegmentos(obterDiretorioTransacoes());
+		for (int indice = 0; indice < segmentos.size() - 1; indice++) {//O último segmento nunca é apagado, ele recebe as novas transações
+			if (converterNomeArquivo(segmentos.get(indice + 1)) > limiteTransacoes + 1) {
+				break;//Segmento contém transações ainda não aceleradas ou necessárias para a geração mais antiga
+			}
+			if (!segmentos.get(indice).delete()) {
+				throw new GravacaoEmDiscoException("Não foi possível apagar o segmento do jornal " + segmentos.get(indice).getName() + ". Verififique as pemissões do arquivo e tente nomamente.");
+			}
+		}
 	}
 	/**
-	 * Monitor para disparar a gravação automática do arquivo acelerador.
+	 * Monitor para disparar a gravação automática do arquivo acelerador por inatividade ou pelos gatilhos de tamanho do jornal, quantidade de transações e idade do arquivo acelerador.
 	 */
 	private void iniciarMonitorGravacaoAutomaticaArquivoAcelerador() {
 		new Thread() {
@@ -648,8 +5530,7 @@ public class MiniPrevalencia <M extends Serializable> {
 						if (finalizar) {
 							return;
 						}
-						Long tempoDecorridoDesdeUltimaTransacao = System.currentTimeMillis() - momentoInicializacaoOuUltimaTransacao;
-						if (tempoDecorridoDesdeUltimaTransacao >= milisegundosInatividadeTransacionalDispararGravacaoAcelerador) {
+						if (isGravacaoAceleradorNecessaria()) {
 							atualizarArquivoAceleradorInicializacao();
 						}
 					} catch (Exception e) {
@@ -659,6 +5540,33 @@ public class MiniPrevalencia <M extends Serializable> {
 			}
 		}.start();
 	}
+	/**
+	 * Avalia os gatilhos configurados para gravação automática do arquivo acelerador.
+	 * @return TRUE quando algum gatilho foi atingido e existem transações não aceleradas.
+	 */
+	private boolean isGravacaoAceleradorNecessaria() {
+		long transacoesNaoAceleradas = ultimaTransacaoExecutada - ultimaTransacaoAcelerada;
+		if (transacoesNaoAceleradas <= 0) {
+			return false;
+		}
+		long agora = System.currentTimeMillis();
+		if (milisegundosInatividadeTransacionalDispararGravacaoAcelerador != null) {
+			long tempoDecorridoDesdeUltimaTransacao = agora - momentoInicializacaoOuUltimaTransacao;
+			if (gravarAceleradorComInstanciaSombra) {
+				tempoDecorridoDesdeUltimaTransacao = agora - momentoUltimaGravacaoAcelerador;//A gravação não bloqueia transações, pode ocorrer a qualquer momento
+			}
+			if (tempoDecorridoDesdeUltimaTransacao >= milisegundosInatividadeTransacionalDispararGravacaoAcelerador) {
+				return true;
+			}
+		}
+		if ((bytesJornalDispararGravacaoAcelerador != null) && (bytesJornalNaoAcelerados.get() >= bytesJornalDispararGravacaoAcelerador)) {
+			return true;
+		}
+		if ((transacoesDispararGravacaoAcelerador != null) && (transacoesNaoAceleradas >= transacoesDispararGravacaoAcelerador)) {
+			return true;
+		}
+		return (milisegundosMaximosEntreGravacoesAcelerador != null) && (agora - momentoUltimaGravacaoAcelerador >= milisegundosMaximosEntreGravacoesAcelerador);
+	}
 	/**
 	 * Atualiza o contador de transações executadas em sistema de arquivos para orientar as réplicas a executarem novas transações.
 	 * @throws GravacaoEmDiscoException Quando não for possível criar ou renomear o arquivo de orientação das réplicas. 
@@ -693,18 +5601,18 @@ public class MiniPrevalencia <M extends Serializable> {
 			public void run() {
 				try {
 					File dirReplica = obterDiretorioReplica();
-					File dirAcelerador = obterDiretorioAcelerador();
 					while (!finalizar) {						
 						sleep(100);
-						Long contadorArquivoAcelerador = (dirAcelerador.list().length > 0) ? converterNomeArquivo(dirAcelerador.listFiles()[0]) : 0L;
+						File arquivoAcelerador = obterArquivoAcelerador();
+						Long contadorArquivoAcelerador = (arquivoAcelerador != null) ? converterNomeArquivo(arquivoAcelerador) : 0L;
 						if (contadorArquivoAcelerador > ultimaTransacaoExecutada) {
 							//Quando ocorre a gravação do arquivo acelerador os arquivos de transações podem ter sido excluídos. Observadores de escravos não recebem aviso...
 							carregarDadosDoSistemaDeArquivo();
 						}
 						Long contadorTransacoesArquivo = (dirReplica.list().length > 0) ? converterNomeArquivo(dirReplica.listFiles()[0]) : 0L;
 						if (!contadorTransacoesArquivo.equals(ultimaTransacaoExecutada)) {
-							//Os escravos precisam ler as transações antes de serem excluídas, por isso o tempo mínimo é 10 segundos para apagar arquivos de transação
-							executarTransacoesPendentesCarregamento();
+							//Os escravos precisam ler as transações antes de serem excluídas, por isso o tempo mínimo é 10 segundos para apagar segmentos do jornal
+							executarTransacoesPendentesCarregamento(contadorTransacoesArquivo);
 						}
 					}
 				} catch (Exception e) {
@@ -730,18 +5638,144 @@ public class MiniPrevalencia <M extends Serializable> {
 	 * @throws ExecucaoTransacaoException Caso a execução do método executar de uma transação resulte em erro.
 	 */
 	private synchronized void carregarDadosDoSistemaDeArquivo() throws GravacaoEmDiscoException, LeituraEmDiscoException, ExecucaoTransacaoException {		
-		System.out.println("Iniciando carregamento...");
 		inicializando = true;
+		acompanhamentoCarregamento = new AcompanhamentoCarregamento();
 		momentoInicializacaoOuUltimaTransacao = System.currentTimeMillis();
 		ultimaTransacaoExecutada = 0L;
 		pojoRegistro = construirNovoPojoUnico();
-		lerArquivoAceleradorInicializacao();		
-		executarTransacoesPendentesCarregamento();
+		leitorJornal = new LeitorJornal(obterDiretorioTransacoes());
+		lerArquivoAceleradorInicializacao();
+		bytesJornalNaoAcelerados.set(calcularBytesTransacoesPendentes());
+		acompanhamentoCarregamento.iniciarFase(FaseCarregamento.TRANSACOES, bytesJornalNaoAcelerados.get());
+		executarTransacoesPendentesCarregamento(null);
+		if (!replica) {
+			abrirJornal();
+		}
 		inicializando = false;
-		System.out.println("Carregamento OK!");
+		acompanhamentoCarregamento.iniciarFase(FaseCarregamento.CONCLUIDO, 0);
+		acompanhamentoCarregamento = null;
 	}
-	@SuppressWarnings("unchecked")
-	private void executarTransacoesPendentesCarregamento() {		
+	/**
+	 * Abre o jornal para anexar novas transações a partir do último segmento gravado.
+	 * @throws GravacaoEmDiscoException Caso o último segmento não possa ser aberto para gravação.
+	 * @throws LeituraEmDiscoException Caso o último segmento esteja corrompido e não somente interrompido durante a gravação.
+	 */
+	private void abrirJornal() throws GravacaoEmDiscoException, LeituraEmDiscoException {
+		if (jornal != null) {
+			jornal.fechar();
+		}
+		jornal = new JornalSegmentado(obterDiretorioTransacoes(), tamanhoMaximoSegmentoJornal, politicaSincronizacaoDisco != PoliticaSincronizacaoDisco.NENHUMA, nivelCompressaoJornal);
+		try {
+			recuperacaoJornal = jornal.abrir(ultimaTransacaoExecutada);
+			if ((recuperacaoJornal.getBytesDescartados() > 0) || (recuperacaoJornal.getArquivosTemporariosDescartados() > 0)) {
+				logger.log(Level.WARNING, "Final do jornal descartado após interrupção da gravação, " + recuperacaoJornal + ".");
+			}
+		} catch (LeituraEmDiscoException e) {
+			finalizarPrevalencia();
+			throw e;
+		} catch (IOException e) {
+			finalizarPrevalencia();
+			throw new GravacaoEmDiscoException("Erro ao abrir o jornal de transações para gravação.", e);
+		}
+	}
+	/**
+	 * Acompanha o carregamento contando transações e bytes lidos, o relatório ao ouvinte é limitado por tempo para não pesar no laço de reexecução.
+	 */
+	private class AcompanhamentoCarregamento {
+		private final long inicio = System.nanoTime();
+		private volatile FaseCarregamento fase;
+		private volatile long inicioFase;
+		private volatile long proximoRelatorio;
+		private final AtomicLong bytesLidos = new AtomicLong();
+		private volatile long bytesTotais;
+		private volatile long transacoesExecutadas;
+		private volatile long transacoesInicioFase;
+
+		private synchronized void iniciarFase(FaseCarregamento novaFase, long bytesFase) {
+			if (fase != null) {
+				relatar();
+			}
+			fase = novaFase;
+			inicioFase = System.nanoTime();
+			proximoRelatorio = inicioFase + TimeUnit.MILLISECONDS.toNanos(1000);//Se desejar pode ajustar o intervalo dos relatórios
+			bytesLidos.set(0);
+			bytesTotais = bytesFase;
+			transacoesInicioFase = transacoesExecutadas;
+			if (novaFase == FaseCarregamento.CONCLUIDO) {
+				relatar();
+			}
+		}
+		/**
+		 * Executado pela thread de leitura do jornal ou pelas threads que leem as partes do arquivo acelerador.
+		 */
+		private void adicionarBytes(long quantidade) {
+			bytesLidos.addAndGet(quantidade);
+			relatarSeNecessario();
+		}
+		/**
+		 * Executado somente pela thread que aplica as transações.
+		 */
+		private void registrarTransacao() {
+			transacoesExecutadas++;
+			if ((transacoesExecutadas & 0xFF) == 0) {
+				relatarSeNecessario();
+			}
+		}
+		private void relatarSeNecessario() {
+			if (System.nanoTime() >= proximoRelatorio) {
+				synchronized (this) {
+					if (System.nanoTime() >= proximoRelatorio) {
+						relatar();
+						proximoRelatorio = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1000);
+					}
+				}
+			}
+		}
+		private synchronized void relatar() {
+			long agora = System.nanoTime();
+			long nanosFase = Math.max(1, agora - inicioFase);
+			long transacoesFase = transacoesExecutadas - transacoesInicioFase;
+			long bytesLidos = this.bytesLidos.get();
+			Long restantes = null;
+			if ((fase != FaseCarregamento.CONCLUIDO) && (bytesLidos > 0) && (bytesTotais >= bytesLidos)) {
+				restantes = TimeUnit.NANOSECONDS.toMillis((long) (nanosFase * ((double) (bytesTotais - bytesLidos) / bytesLidos)));
+			}
+			ProgressoCarregamento progresso = new ProgressoCarregamento(fase, transacoesExecutadas, transacoesFase / (nanosFase / 1e9), bytesLidos, bytesTotais, restantes, 
+					TimeUnit.NANOSECONDS.toMillis(agora - inicio));
+			try {
+				if (ouvinteCarregamento != null) {
+					ouvinteCarregamento.receberProgresso(progresso);
+				} else {
+					logger.log(Level.INFO, tipoRegistro.getName() + " - " + progresso);
+				}
+			} catch (RuntimeException e) {
+				logger.log(Level.SEVERE, "Erro no ouvinte de carregamento.", e);
+			}
+		}
+	}
+	/**
+	 * Soma o tamanho dos arquivos e segmentos que contém transações posteriores a última transação executada, estimativa de bytes para a fase de transações.
+	 */
+	private long calcularBytesTransacoesPendentes() {
+		long bytes = 0;
+		for (File arquivoTransacao : obterDiretorioTransacoes().listFiles()) {
+			if (arquivoTransacao.getName().contains(".bin") && (converterNomeArquivo(arquivoTransacao) > ultimaTransacaoExecutada)) {
+				bytes += arquivoTransacao.length();
+			}
+		}
+		List<File> segmentos = JornalSegmentado.listarSegmentos(obterDiretorioTransacoes());
+		for (int indice = 0; indice < segmentos.size(); indice++) {
+			if ((indice == segmentos.size() - 1) || (JornalSegmentado.extrairNumero(segmentos.get(indice + 1)) > ultimaTransacaoExecutada + 1)) {
+				bytes += segmentos.get(indice).length();
+			}
+		}
+		return bytes;
+	}
+	/**
+	 * Executa as transações gravadas após a última transação executada, primeiro os arquivos individuais de versões anteriores ao jornal e na sequência os segmentos do jornal.
+	 * @param limiteTransacoes Número da última transação a ser executada, NULL executa até o final do jornal.
+	 */
+	private void executarTransacoesPendentesCarregamento(Long limiteTransacoes) {		
 		FileFilter filtroArquivoPorNumero = new FileFilter() {
 			@Override
 			public boolean accept(File file) {
@@ -752,49 +5786,305 @@ public class MiniPrevalencia <M extends Serializable> {
 			}
 		};
 		List<File> arquivosTransacao = Stream.of(obterDiretorioTransacoes().listFiles(filtroArquivoPorNumero)).parallel().sorted(fileNomeNumeroTransacao).collect(Collectors.toList());		
-		for (File arquivoTransacao : arquivosTransacao) {
-			Long numeroTransacao = converterNomeArquivo(arquivoTransacao);						
+		CarregamentoParalelo carregamentoParalelo = (inicializando && (threadsCarregamento > 1)) ? new CarregamentoParalelo() : null;
+		ConsumidorRegistroJornal consumidorTransacoes = (carregamentoParalelo != null) ? carregamentoParalelo : this::executarTransacaoCarregada;
+		AcompanhamentoCarregamento acompanhamento = acompanhamentoCarregamento;
+		ConsumidorRegistroJornal consumidor = (acompanhamento == null) ? consumidorTransacoes : (numeroTransacao, transacaoSerializada) -> {
+			consumidorTransacoes.consumir(numeroTransacao, transacaoSerializada);
+			acompanhamento.adicionarBytes(JornalSegmentado.TAMANHO_CABECALHO_REGISTRO + transacaoSerializada.length);
+		};
+		long ultimaTransacaoLida = ultimaTransacaoExecutada;
+		try {
+			for (File arquivoTransacao : arquivosTransacao) {
+				try {
+					consumidor.consumir(converterNomeArquivo(arquivoTransacao), Files.readAllBytes(arquivoTransacao.toPath()));
+					ultimaTransacaoLida = converterNomeArquivo(arquivoTransacao);
+				} catch (Exception e) {
+					finalizarPrevalencia();
+					throw new LeituraEmDiscoException("Erro ao ler arquivo de transação " + arquivoTransacao.getName() + ", verifique se o arquivo está acessível ou se alguma transação se tornou incompatível com a desserialização após sua modificação.", e);
+				}
+			}
 			try {
-				Transacao<M, Throwable> transacao = (Transacao<M, Throwable>) new ObjectInputStream(new ByteArrayInputStream(Files.readAllBytes(arquivoTransacao.toPath()))).readObject(); 
-				atualizarPojoUnico(transacao);
-				ultimaTransacaoExecutada = numeroTransacao;
-				if (replica && !inicializando) {
-					notificarObservadores(transacao);
+				leitorJornal.ler(ultimaTransacaoLida, limiteTransacoes, consumidor);
+				if (carregamentoParalelo != null) {
+					carregamentoParalelo.concluir();
 				}
-				System.out.println("Arquivo transacao executado = " + numeroTransacao);
 			} catch (Exception e) {
 				finalizarPrevalencia();
-				throw new LeituraEmDiscoException("Erro ao ler arquivo de transação " + arquivoTransacao.getName() + ", verifique se o arquivo está acessível ou se alguma transação se tornou incompatível com a desserialização após sua modificação.", e);
+				throw new LeituraEmDiscoException("Erro ao ler o jornal de transações após a transação " + ultimaTransacaoExecutada + ", verifique se os segmentos estão acessíveis ou se alguma transação se tornou incompatível com a desserialização após sua modificação.", e);
 			}
-		}		
+		} finally {
+			if (carregamentoParalelo != null) {
+				carregamentoParalelo.encerrar();
+			}
+		}
+	}
+	/**
+	 * Carregamento em pipeline: a thread que lê o sistema de arquivos entrega os bytes a um conjunto de threads que decodificam as próximas transações, enquanto uma única thread
+	 * aplicadora executa as transações decodificadas estritamente na ordem de leitura. A fila limita quantas transações são decodificadas antecipadamente.
+	 */
+	private class CarregamentoParalelo implements ConsumidorRegistroJornal {
+		private final ExecutorService decodificadores = Executors.newFixedThreadPool(threadsCarregamento - 1);
+		private final BlockingQueue<TransacaoDecodificada> fila = new ArrayBlockingQueue<TransacaoDecodificada>(4096);//Se desejar pode ajustar a quantidade de transações decodificadas antecipadamente
+		private final Thread aplicador;
+		private volatile Throwable erro;
+
+		private CarregamentoParalelo() {
+			aplicador = new Thread() {
+				public void run() {
+					try {
+						while (true) {
+							TransacaoDecodificada transacaoDecodificada = fila.take();
+							if (transacaoDecodificada.transacao == null) {
+								return;//Fim do carregamento
+							}
+							aplicarTransacaoCarregada(transacaoDecodificada.numeroTransacao, transacaoDecodificada.transacao.get());
+						}
+					} catch (Throwable e) {
+						erro = e;
+					}
+				}
+			};
+			aplicador.start();
+		}
+		@Override
+		public void consumir(long numeroTransacao, byte[] transacaoSerializada) throws Exception {
+			TransacaoDecodificada transacaoDecodificada = new TransacaoDecodificada(numeroTransacao, decodificadores.submit(() -> decodificarTransacao(transacaoSerializada)));
+			while (!fila.offer(transacaoDecodificada, 100, TimeUnit.MILLISECONDS)) {
+				verificarErro();
+			}
+			verificarErro();
+		}
+		/**
+		 * Aguarda a aplicação de todas as transações entregues.
+		 */
+		private void concluir() throws Exception {
+			while (!fila.offer(new TransacaoDecodificada(0, null), 100, TimeUnit.MILLISECONDS)) {
+				verificarErro();
+			}
+			aplicador.join();
+			verificarErro();
+		}
+		private void encerrar() {
+			decodificadores.shutdownNow();
+			aplicador.interrupt();
+		}
+		private void verificarErro() throws ExecutionException {
+			if (erro != null) {
+				throw new ExecutionException("Erro ao decodificar ou executar transação carregada após a transação " + ultimaTransacaoExecutada + ".", erro);
+			}
+		}
+	}
+	/**
+	 * Transação em decodificação aguardando a thread aplicadora.
+	 */
+	private class TransacaoDecodificada {
+		private final long numeroTransacao;
+		private final Future<Transacao<M, Throwable>> transacao;
+		private TransacaoDecodificada(long numeroTransacao, Future<Transacao<M, Throwable>> transacao) {
+			this.numeroTransacao = numeroTransacao;
+			this.transacao = transacao;
+		}
+	}
+	/**
+	 * Desserializa e executa uma transação lida do sistema de arquivos.
+	 * @param numeroTransacao Número sequencial da transação.
+	 * @param transacaoSerializada Bytes da transação.
+	 */
+	private void executarTransacaoCarregada(long numeroTransacao, byte[] transacaoSerializada) throws Exception {
+		PublicacaoVersoes publicacao = publicacaoVersoes;
+		if (inicializando || (publicacao == null)) {
+			aplicarTransacaoCarregada(numeroTransacao, decodificarTransacao(transacaoSerializada));
+			return;
+		}
+		synchronized (pojoRegistro) {//Réplica com isolamento MULTIVERSAO, a ordem de publicação deve ser consistente com a reconstrução das cópias
+			aplicarTransacaoCarregada(numeroTransacao, decodificarTransacao(transacaoSerializada));
+			publicacao.publicar(numeroTransacao, transacaoSerializada);
+		}
+	}
+	@SuppressWarnings("unchecked")
+	private Transacao<M, Throwable> decodificarTransacao(byte[] transacaoSerializada) throws IOException, ClassNotFoundException {
+		return (Transacao<M, Throwable>) decodificar(new ByteArrayInputStream(transacaoSerializada));
+	}
+	/**
+	 * Executa uma transação carregada do sistema de arquivos.
+	 * @param numeroTransacao Número sequencial da transação.
+	 * @param transacao A transação decodificada.
+	 */
+	private void aplicarTransacaoCarregada(long numeroTransacao, Transacao<M, Throwable> transacao) {
+		if (inicializando) {//Consultas são recusadas durante a inicialização, inclusive na recarga de uma reversão
+			atualizarPojoUnico(transacao);
+			ultimaTransacaoExecutada = numeroTransacao;
+		} else {
+			bloquearEscritaModelo();
+			try {
+				atualizarPojoUnico(transacao);
+				ultimaTransacaoExecutada = numeroTransacao;
+			} finally {
+				liberarEscritaModelo();
+			}
+		}
+		if (replica && !inicializando) {
+			notificarObservadores(transacao);
+		}
+		AcompanhamentoCarregamento acompanhamento = acompanhamentoCarregamento;
+		if (acompanhamento != null) {
+			acompanhamento.registrarTransacao();
+		}
 	}
+	/**
+	 * Lê a geração mais recente do arquivo acelerador, caso ela esteja corrompida ou ilegível as gerações anteriores mantidas são tentadas, desde que o jornal ainda 
+	 * contenha as transações seguintes a elas.
+	 */
 	@SuppressWarnings("unchecked")
 	private void lerArquivoAceleradorInicializacao() throws LeituraEmDiscoException {
-		if (obterDiretorioAcelerador().list().length == 0) {
-			return;
-		}		
-		try {
-			File arquivoAcelerador = obterDiretorioAcelerador().listFiles()[0];
+		List<File> geracoes = obterGeracoesAcelerador();
+		Exception erro = null;
+		for (File arquivoAcelerador : geracoes) {
 			Long ultimaTransacaoAceleradaArquivo = converterNomeArquivo(arquivoAcelerador);
-			ObjectInputStream oins = new ObjectInputStream(new BufferedInputStream(new FileInputStream(arquivoAcelerador), 8192000));
-			pojoRegistro = (M) oins.readObject();		
-			ultimaTransacaoExecutada = ultimaTransacaoAceleradaArquivo;
-			ultimaTransacaoAcelerada = ultimaTransacaoAceleradaArquivo;
-			System.out.println("Ultima transacao acelerada = " + ultimaTransacaoExecutada);
-			oins.close();			
-		} catch (Exception e) {
+			if ((erro != null) && !isJornalContinuoApos(ultimaTransacaoAceleradaArquivo)) {
+				logger.log(Level.SEVERE, "A geração " + arquivoAcelerador.getName() + " do arquivo acelerador não pode substituir a geração corrompida, o jornal não contém as transações seguintes a ela.");
+				break;
+			}
+			try {
+				if (arquivoAcelerador.isDirectory()) {
+					pojoRegistro = lerArquivoAceleradorParticionado(arquivoAcelerador);
+				} else {
+					AcompanhamentoCarregamento acompanhamento = acompanhamentoCarregamento;
+					if (acompanhamento != null) {
+						acompanhamento.iniciarFase(FaseCarregamento.ACELERADOR, arquivoAcelerador.length());
+					}
+					try (InputStream entrada = abrirArquivoAcelerador(arquivoAcelerador)) {
+						pojoRegistro = (M) decodificar(entrada);
+					}
+				}
+				ultimaTransacaoExecutada = ultimaTransacaoAceleradaArquivo;
+				ultimaTransacaoAcelerada = ultimaTransacaoAceleradaArquivo;
+				if (erro != null) {
+					logger.log(Level.WARNING, "Modelo carregado da geração anterior " + arquivoAcelerador.getName() + " do arquivo acelerador, as transações seguintes serão reexecutadas a partir do jornal.");
+				}
+				return;
+			} catch (Exception e) {
+				logger.log(Level.SEVERE, "Erro ao ler a geração " + arquivoAcelerador.getName() + " do arquivo acelerador.", e);
+				pojoRegistro = construirNovoPojoUnico();
+				if (erro == null) {
+					erro = e;
+				}
+			}
+		}
+		if (erro != null) {
 			finalizarPrevalencia();
-			throw new LeituraEmDiscoException("Erro ao ler arquivo acelerador, verifique se o arquivo está acessível ou se alguma entidade se tornou incompatível com a desserialização após sua alteração, ele também pode ser excluído ou atualizado.", e);
+			throw new LeituraEmDiscoException("Erro ao ler arquivo acelerador, verifique se o arquivo está acessível ou se alguma entidade se tornou incompatível com a desserialização após sua alteração, ele também pode ser excluído ou atualizado.", erro);
 		}		
 	}
+	/**
+	 * Verifica se o jornal contém todas as transações posteriores ao número informado.
+	 */
+	private boolean isJornalContinuoApos(long numeroTransacao) {
+		List<File> segmentos = JornalSegmentado.listarSegmentos(obterDiretorioTransacoes());
+		if (!segmentos.isEmpty() && (JornalSegmentado.extrairNumero(segmentos.get(0)) <= numeroTransacao + 1)) {
+			return true;
+		}
+		return new File(obterDiretorioTransacoes(), (numeroTransacao + 1) + ".bin").exists();//Arquivos individuais de versões anteriores ao jornal
+	}
+	/**
+	 * Lê e decodifica as partes do arquivo acelerador em paralelo e reconstitui o modelo particionado.
+	 * @param diretorio Diretório do arquivo acelerador particionado.
+	 * @return O modelo reconstituído.
+	 */
+	private M lerArquivoAceleradorParticionado(File diretorio) throws Exception {
+		ManifestoAcelerador manifesto = ManifestoAcelerador.ler(diretorio);
+		AcompanhamentoCarregamento acompanhamento = acompanhamentoCarregamento;
+		if (acompanhamento != null) {
+			acompanhamento.iniciarFase(FaseCarregamento.ACELERADOR, manifesto.calcularTamanhoTotal());
+		}
+		ExecutorService decodificadores = Executors.newFixedThreadPool(Math.max(1, Math.min(manifesto.partes.size(), threadsCarregamento)));
+		try {
+			List<Future<Object>> partesDecodificadas = new ArrayList<Future<Object>>();
+			for (ParteAcelerador parte : manifesto.partes) {
+				File arquivoParte = parte.obterArquivo(diretorio.getParentFile());
+				if (arquivoParte.length() != parte.tamanho) {
+					throw new StreamCorruptedException("A parte " + arquivoParte.getName() + " do arquivo acelerador " + diretorio.getName() + " não tem o tamanho registrado no manifesto.");
+				}
+				partesDecodificadas.add(decodificadores.submit(() -> {
+					try (InputStream entrada = abrirArquivoAcelerador(arquivoParte)) {
+						return decodificar(entrada);
+					}
+				}));
+			}
+			List<Object> partes = new ArrayList<Object>();
+			for (Future<Object> parte : partesDecodificadas) {
+				partes.add(parte.get());
+			}
+			M modelo = construirNovoPojoUnico();
+			if (!(modelo instanceof ModeloParticionado)) {
+				throw new InvalidClassException(tipoRegistro.getName(), "O arquivo acelerador é particionado mas o modelo não implementa ModeloParticionado.");
+			}
+			((ModeloParticionado) modelo).reconstituir(partes);
+			return modelo;
+		} finally {
+			decodificadores.shutdownNow();
+		}
+	}
+	/**
+	 * Abre um arquivo do acelerador para leitura, contando os bytes lidos quando há carregamento em andamento. Arquivos comprimidos são reconhecidos pelo número mágico, 
+	 * independente da configuração atual. O CRC32C do rodapé é conferido ao final da leitura ou no fechamento.
+	 */
+	private InputStream abrirArquivoAcelerador(File arquivo) throws IOException {
+		InputStream entrada = EntradaVerificada.abrir(arquivo, isAceleradorAnteriorAoRodape(arquivo));
+		AcompanhamentoCarregamento acompanhamento = acompanhamentoCarregamento;
+		if (acompanhamento != null) {
+			if (entrada instanceof EntradaVerificada) {
+				acompanhamento.adicionarBytes(SaidaVerificada.TAMANHO_RODAPE);//Rodapé lido na abertura
+			}
+			entrada = new FilterInputStream(entrada) {
+				@Override
+				public int read() throws IOException {
+					int lido = super.read();
+					if (lido >= 0) {
+						acompanhamento.adicionarBytes(1);
+					}
+					return lido;
+				}
+				@Override
+				public int read(byte[] destino, int inicio, int quantidade) throws IOException {
+					int lidos = super.read(destino, inicio, quantidade);
+					if (lidos > 0) {
+						acompanhamento.adicionarBytes(lidos);
+					}
+					return lidos;
+				}
+			};
+		}
+		entrada = new BufferedInputStream(entrada, 8192000);
+		if (EntradaBlocosComprimidos.isComprimido(entrada)) {
+			entrada.readNBytes(4);
+			entrada = new BufferedInputStream(new EntradaBlocosComprimidos(entrada), 65536);
+		}
+		return entrada;
+	}
 	
+	/**
+	 * Decodifica uma transação ou o modelo com o codificador configurado, dados gravados com serialização Java antes da troca do codificador são reconhecidos pela assinatura.
+	 * @param entrada Entrada com suporte a marcação.
+	 * @return O objeto decodificado.
+	 */
+	private static Object decodificar(InputStream entrada) throws IOException, ClassNotFoundException {
+		entrada.mark(2);
+		boolean serializacaoJava = (short) ((entrada.read() << 8) | entrada.read()) == ObjectStreamConstants.STREAM_MAGIC;
+		entrada.reset();
+		if (serializacaoJava && !(codificador instanceof CodificadorSerializacaoJava)) {
+			return new ObjectInputStream(entrada).readObject();
+		}
+		return codificador.decodificar(entrada);
+	}
 	/**
 	 * Converte para um número o nome do arquivo.
 	 * @param arquivo O arquivo com nome numérico sequencial.
 	 * @return o valor do número contido no nome do arquivo.
 	 */
 	private Long converterNomeArquivo(File arquivo) {
-		return Long.parseLong(arquivo.getName().replace(".bin", ""));
+		return Long.parseLong(arquivo.getName().replace(".bin", "").replace(JornalSegmentado.EXTENSAO, ""));
 	}
 	
 	/**
@@ -809,7 +6099,11 @@ public class MiniPrevalencia <M extends Serializable> {
 		return diretorioBase;
 	}
 	private File obterDiretorioRegistro() throws GravacaoEmDiscoException {
-		return obterSubDiretorio(obterDiretorioBase(), pojoRegistro.getClass().getCanonicalName());
+		File diretorioRegistro = obterSubDiretorio(obterDiretorioBase(), pojoRegistro.getClass().getCanonicalName());
+		if (particao == null) {
+			return diretorioRegistro;
+		}
+		return obterSubDiretorio(obterSubDiretorio(diretorioRegistro, PrevalenciaParticionada.DIRETORIO_PARTICOES), String.valueOf(particao));
 	}
 	/**
 	 * Obtém o subdiretório, criando caso ainda não exista.
@@ -855,15 +6149,20 @@ public class MiniPrevalencia <M extends Serializable> {
 	 * Avisa os observadores que uma transação foi executada.
 	 * @param transacao A transação que foi executada.
 	 */
+	@SuppressWarnings("unchecked")
 	private void notificarObservadores(Transacao<M, ? extends Throwable> transacao) {
+		List<Transacao<M, ? extends Throwable>> transacoes = (transacao instanceof LoteTransacoes) ? ((LoteTransacoes<M>) transacao).obterTransacoes() 
+				: Collections.singletonList(transacao);//Observadores recebem cada transação do lote
 		new Thread() {
 			 public void run() {
 				 for (Observador<M> observadorLoop : observadores) {
-					 try {
-						 observadorLoop.receberAvisoExecucao(transacao);
-					 } catch (Exception e) {
-						 logger.log(Level.WARNING, "Erro ao notificar transação " + transacao + " para o observador " + observadorLoop, e);
-					}
+					 for (Transacao<M, ? extends Throwable> transacaoLoop : transacoes) {
+						 try {
+							 observadorLoop.receberAvisoExecucao(transacaoLoop);
+						 } catch (Exception e) {
+							 logger.log(Level.WARNING, "Erro ao notificar transação " + transacaoLoop + " para o observador " + observadorLoop, e);
+						}
+					 }
 				 }
 			 }	
 		}.start();		
@@ -907,9 +6206,12 @@ public class MiniPrevalencia <M extends Serializable> {
 	 */
 	public void finalizarPrevalencia() {
 		finalizar = true;//Impede a execução de novas transações e operações, não interferindo na gravação corrente (se houver).
-		mapaPrevalencias.remove(tipoRegistro);
+		mapaPrevalencias.remove(tipoRegistro, this);//Instâncias sombra não estão no mapa
 		synchronized (pojoRegistro) {
-			pojoRegistro = null;			
+			pojoRegistro = null;
+			if (jornal != null) {
+				jornal.fechar();
+			}
 		}
 		System.gc();
 	}
@@ -945,6 +6247,41 @@ public class MiniPrevalencia <M extends Serializable> {
 		validarFinalizacao();
 		return ultimaTransacaoExecutada;
 	}
+	/**
+	 * Obtém o identificador sequencial da última transação contida na versão do modelo publicada para as consultas.
+	 * @return O identificador da versão publicada, NULL quando o isolamento não for MULTIVERSAO.
+	 */
+	public Long getIdentificadorVersaoPublicada() {
+		validarFinalizacao();
+		PublicacaoVersoes publicacao = publicacaoVersoes;
+		VersaoModelo versao = (publicacao != null) ? publicacao.publicada : null;
+		return (versao != null) ? versao.ultimaTransacao : null;
+	}
+	/**
+	 * Obtém a quantidade de validações de transações otimistas repetidas por conflitos com transações concorrentes.
+	 * @see TransacaoOtimista
+	 */
+	public long getConflitosTransacoesOtimistas() {
+		validarFinalizacao();
+		return conflitosTransacoesOtimistas.get();
+	}
+	/**
+	 * Obtém a quantidade de grupos de transações concorrentes gravados no jornal com uma única escrita, somente grupos com mais de uma transação.
+	 * @see Configurador#getTamanhoMaximoAgrupamentoTransacoes()
+	 */
+	public long getGruposTransacoesGravados() {
+		validarFinalizacao();
+		return gruposTransacoesGravados.get();
+	}
+	/**
+	 * Obtém as métricas do cache de consultas desta instância.
+	 * @return As métricas ou NULL quando o cache estiver desabilitado.
+	 * @see Configurador#getTamanhoCacheConsultas()
+	 */
+	public MetricasCacheConsultas getMetricasCacheConsultas() {
+		validarFinalizacao();
+		return (cacheConsultas != null) ? cacheConsultas.obterMetricas() : null;
+	}
 	/**
 	 * Obtém o identificador sequencial da última transação internalizada pelo arquivo acelerador.
 	 * @return O identificador sequencial da última transação internalizada.
@@ -953,5 +6290,14 @@ public class MiniPrevalencia <M extends Serializable> {
 		validarFinalizacao();		
 		return ultimaTransacaoAcelerada;
 	}
+	/**
+	 * Obtém o resultado da verificação do final do jornal efetuada quando ele foi aberto para gravação: registros verificados e o que foi descartado por uma interrupção
+	 * durante a gravação.
+	 * @return A recuperação do jornal, NULL em réplicas.
+	 */
+	public RecuperacaoJornal getRecuperacaoJornal() {
+		validarFinalizacao();
+		return recuperacaoJornal;
+	}
 	
 }
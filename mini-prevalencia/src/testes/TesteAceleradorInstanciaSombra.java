@@ -0,0 +1,95 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AtribuirEstoque;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteAceleradorInstanciaSombra {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final String DIRETORIO_ACELERADOR = DIRETORIO + "/" + ExemploModelo.class.getCanonicalName() + "/ACELERADOR";
+	private static final int QTD_TRANSACOES = 2000;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+			public Long getTamanhoMaximoSegmentoJornal() {return 4096L;}
+			public boolean isGravarAceleradorComInstanciaSombra() {return true;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeGravacaoDuranteTransacoes() throws ValidacaoCampoException, ExecucaoTransacaoException, InterruptedException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(0));
+		Thread escritor = new Thread() {
+			public void run() {
+				try {
+					for (int indice = 0; indice < QTD_TRANSACOES; indice++) {
+						prevalencia.executar(new AdicionarEstoque(1));
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+		};
+		escritor.start();
+		while (prevalencia.getIdentificadorUltimaTransacaoExecutada() < (QTD_TRANSACOES / 4)) {
+			Thread.sleep(1);
+		}
+		prevalencia.atualizarArquivoAceleradorInicializacao();
+		long acelerada = prevalencia.getIdentificadorUltimaTransacaoAcelerada();
+		escritor.join();
+
+		assertTrue(acelerada >= (QTD_TRANSACOES / 4), "O arquivo acelerador deveria internalizar as transações executadas antes da gravação");
+		assertEquals(1, new File(DIRETORIO_ACELERADOR).list().length);
+		assertEquals(acelerada + ".bin", new File(DIRETORIO_ACELERADOR).list()[0]);
+		assertEquals(QTD_TRANSACOES, prevalencia.executar(new ObterEstoque()));
+
+		prevalencia.atualizarArquivoAceleradorInicializacao();
+		assertEquals(QTD_TRANSACOES + 1L, prevalencia.getIdentificadorUltimaTransacaoAcelerada());
+		prevalencia.executar(new AdicionarEstoque(1));
+	}
+
+	@Test
+	@Order(2)
+	void testeRecarregarAposGravacaoSombra() {
+		MiniPrevalencia.prevalecer(ExemploModelo.class).finalizarPrevalencia();
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(QTD_TRANSACOES + 1, prevalencia.executar(new ObterEstoque()));
+		assertEquals(QTD_TRANSACOES + 2L, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+	}
+
+}
@@ -0,0 +1,136 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.Consulta;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import testes.entidades.auxbrasil.AuxilioBrasil;
+import testes.entidades.auxbrasil.Beneficio;
+import testes.transacoes.auxbrasil.AdicionarBeneficiosEmLote;
+import testes.transacoes.auxbrasil.AdicionarCidadeSeNaoExistir;
+import testes.transacoes.auxbrasil.AdicionarUfSeNaoExistir;
+import testes.transacoes.auxbrasil.BeneficioVO;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteAceleradorParticionado {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final String DIRETORIO_ACELERADOR = DIRETORIO + "/" + AuxilioBrasil.class.getCanonicalName() + "/ACELERADOR";
+	private static final String[] CIDADES = {"CAMPO GRANDE", "DOURADOS", "CORUMBA"};
+	private static final int QTD_BENEFICIOS = 3000;
+
+	private static class ObterModelo implements Consulta<AuxilioBrasil, AuxilioBrasil> {
+		@Override
+		public AuxilioBrasil executar(AuxilioBrasil pojoUnico) {
+			return pojoUnico;
+		}
+	}
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + AuxilioBrasil.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + AuxilioBrasil.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeGravarParticionado() throws Exception {
+		MiniPrevalencia<AuxilioBrasil> prevalencia = MiniPrevalencia.prevalecer(AuxilioBrasil.class);
+		prevalencia.executar(new AdicionarUfSeNaoExistir("MS"));
+		for (String cidade : CIDADES) {
+			prevalencia.executar(new AdicionarCidadeSeNaoExistir("MS", cidade));
+		}
+		List<BeneficioVO> lote = new ArrayList<BeneficioVO>();
+		for (int indice = 0; indice < QTD_BENEFICIOS; indice++) {
+			String cidade = CIDADES[indice % CIDADES.length];
+			lote.add(new BeneficioVO("MS", cidade, AdicionarCidadeSeNaoExistir.padronizarChaveCidade(cidade, "MS"), "Beneficiado " + indice, "B" + indice, 600, (short) 2023, (short) 1));
+		}
+		prevalencia.executar(new AdicionarBeneficiosEmLote(lote));
+		prevalencia.atualizarArquivoAceleradorInicializacao();
+
+		File diretorioParticionado = new File(DIRETORIO_ACELERADOR, String.valueOf(prevalencia.getIdentificadorUltimaTransacaoAcelerada()));
+		assertTrue(diretorioParticionado.isDirectory(), "O modelo particionado deveria ser gravado em um diretório");
+		assertTrue(new File(diretorioParticionado, "MANIFESTO").isFile());
+		assertTrue(new File(diretorioParticionado, "1.parte").isFile());
+
+		prevalencia.executar(new AdicionarBeneficiosEmLote(new ArrayList<BeneficioVO>(lote.subList(0, 1))));
+		prevalencia.finalizarPrevalencia();
+	}
+
+	@Test
+	@Order(2)
+	void testeCarregarParticionado() throws ExecucaoTransacaoException {
+		MiniPrevalencia<AuxilioBrasil> prevalencia = MiniPrevalencia.prevalecer(AuxilioBrasil.class);
+		AuxilioBrasil modelo = prevalencia.executar(new ObterModelo());
+		assertEquals(QTD_BENEFICIOS + 1, modelo.getBeneficios().size());
+		assertEquals(CIDADES.length, modelo.getCidades().size());
+		for (int indice = 0; indice < QTD_BENEFICIOS; indice++) {
+			Beneficio beneficio = modelo.getBeneficios().get(indice);
+			assertEquals("Beneficiado " + indice, beneficio.getNomeBeneficiado());
+			assertSame(modelo.getCidades().get(AdicionarCidadeSeNaoExistir.padronizarChaveCidade(CIDADES[indice % CIDADES.length], "MS")), beneficio.getCidade(), "As referências entre partes deveriam ser restabelecidas");
+			assertSame(modelo.getEstados().get("MS"), beneficio.getCidade().getEstado());
+		}
+	}
+
+	@Test
+	@Order(3)
+	void testeGravacaoIncrementalEConsolidacao() throws Exception {
+		MiniPrevalencia<AuxilioBrasil> prevalencia = MiniPrevalencia.prevalecer(AuxilioBrasil.class);
+		List<BeneficioVO> lote = new ArrayList<BeneficioVO>();
+		lote.add(new BeneficioVO("MS", CIDADES[0], AdicionarCidadeSeNaoExistir.padronizarChaveCidade(CIDADES[0], "MS"), "Incremental", "I", 600, (short) 2023, (short) 2));
+		prevalencia.atualizarArquivoAceleradorInicializacao();//Primeira gravação após o carregamento pode regravar todas as partes
+		for (int gravacao = 2; gravacao <= 10; gravacao++) {
+			prevalencia.executar(new AdicionarBeneficiosEmLote(lote));
+			prevalencia.atualizarArquivoAceleradorInicializacao();
+			File diretorioParticionado = new File(DIRETORIO_ACELERADOR, String.valueOf(prevalencia.getIdentificadorUltimaTransacaoAcelerada()));
+			assertFalse(new File(diretorioParticionado, "0.parte").exists(), "Os cadastros não foram alterados e deveriam ser referenciados na geração anterior");
+			assertFalse(new File(diretorioParticionado, "0.parte.tmp").exists(), "A parte codificada sem alteração deveria ser descartada");
+			assertTrue(new File(diretorioParticionado, "1.parte").exists());
+			assertEquals(2, new File(DIRETORIO_ACELERADOR).list().length, "Somente a geração atual e a geração com os cadastros deveriam ser mantidas");
+		}
+		prevalencia.executar(new AdicionarBeneficiosEmLote(lote));
+		prevalencia.atualizarArquivoAceleradorInicializacao();
+		File diretorioConsolidado = new File(DIRETORIO_ACELERADOR, String.valueOf(prevalencia.getIdentificadorUltimaTransacaoAcelerada()));
+		assertTrue(new File(diretorioConsolidado, "0.parte").exists(), "A consolidação deveria regravar todas as partes");
+		assertEquals(1, new File(DIRETORIO_ACELERADOR).list().length, "As gerações anteriores deveriam ser excluídas após a consolidação");
+
+		prevalencia.executar(new AdicionarBeneficiosEmLote(lote));
+		prevalencia.atualizarArquivoAceleradorInicializacao();
+		prevalencia.finalizarPrevalencia();
+		prevalencia = MiniPrevalencia.prevalecer(AuxilioBrasil.class);
+		AuxilioBrasil modelo = prevalencia.executar(new ObterModelo());
+		assertEquals(QTD_BENEFICIOS + 12, modelo.getBeneficios().size());
+		assertEquals("Incremental", modelo.getBeneficios().get(QTD_BENEFICIOS + 11).getNomeBeneficiado());
+		assertSame(modelo.getCidades().get(AdicionarCidadeSeNaoExistir.padronizarChaveCidade(CIDADES[0], "MS")), modelo.getBeneficios().get(QTD_BENEFICIOS + 11).getCidade());
+	}
+
+}
@@ -0,0 +1,241 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.PoliticaSincronizacaoDisco;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.consultas.exemplo.ObterPessoaPorId;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.entidades.exemplo.Pessoa;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AdicionarPessoa;
+import testes.transacoes.exemplo.AlterarNomePessoaAdicionandoApelidoErro;
+import testes.transacoes.exemplo.AtribuirEstoque;
+import testes.transacoes.exemplo.BaixarEstoque;
+import testes.transacoes.exemplo.PessoaVO;
+import testes.transacoes.exemplo.ReservarEstoqueOtimista;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteAgrupamentoTransacoes {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_THREADS = 200;
+	private static final int QTD_TRANSACOES_THREAD = 10;
+	private static final int QTD_BAIXAS = 50;
+	private static final int QTD_ERROS = 5;
+	private static final int QTD_RESERVAS = 60;
+
+	private static Long idPessoa;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public PoliticaSincronizacaoDisco getPoliticaSincronizacaoDisco() {return PoliticaSincronizacaoDisco.CADA_TRANSACAO;}
+			public Integer getTamanhoMaximoAgrupamentoTransacoes() {return 64;}
+			public Integer getMicrossegundosEsperaAgrupamento() {return 200;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeTransacoesConcorrentesAgrupadas() throws InterruptedException, ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(0));
+		long transacaoInicial = prevalencia.getIdentificadorUltimaTransacaoExecutada();
+		AtomicInteger erros = new AtomicInteger();
+		Thread[] threads = new Thread[QTD_THREADS];
+		for (int indice = 0; indice < QTD_THREADS; indice++) {
+			threads[indice] = new Thread() {
+				public void run() {
+					try {
+						for (int transacao = 0; transacao < QTD_TRANSACOES_THREAD; transacao++) {
+							prevalencia.executar(new AdicionarEstoque(1));
+						}
+					} catch (Exception e) {
+						erros.incrementAndGet();
+						e.printStackTrace();
+					}
+				}
+			};
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, erros.get());
+		assertEquals(QTD_THREADS * QTD_TRANSACOES_THREAD, (int) prevalencia.executar(new ObterEstoque()));
+		assertEquals(transacaoInicial + QTD_THREADS * QTD_TRANSACOES_THREAD, (long) prevalencia.getIdentificadorUltimaTransacaoExecutada(), "Cada transação agrupada mantém seu número");
+		assertTrue(prevalencia.getGruposTransacoesGravados() > 0, "Transações concorrentes deveriam ser gravadas em grupos");
+	}
+
+	@Test
+	@Order(2)
+	void testeErrosIsoladosNoGrupo() throws InterruptedException, ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		PessoaVO pessoaVO = new PessoaVO();
+		idPessoa = prevalencia.obterProximoIdSequencial(Pessoa.class);//Pela sequência, o diretório do modelo é compartilhado com outros testes
+		pessoaVO.setId(idPessoa);
+		pessoaVO.setNome("Fulano");
+		pessoaVO.setEmail("fulano@agrupamento.com");
+		pessoaVO.setDataNascimento(new Date());
+		prevalencia.executar(new AdicionarPessoa(pessoaVO));
+		int baixa = QTD_THREADS * QTD_TRANSACOES_THREAD / (QTD_BAIXAS - 10);//Somente as primeiras 40 baixas possuem estoque
+		AtomicInteger baixasExecutadas = new AtomicInteger();
+		AtomicInteger baixasRecusadas = new AtomicInteger();
+		AtomicInteger errosExecucao = new AtomicInteger();
+		AtomicInteger errosInesperados = new AtomicInteger();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int indice = 0; indice < QTD_BAIXAS; indice++) {
+			threads.add(new Thread() {
+				public void run() {
+					try {
+						executarAposReinicializacao(() -> prevalencia.executar(new BaixarEstoque(baixa)));
+						baixasExecutadas.incrementAndGet();
+					} catch (ValidacaoCampoException e) {
+						baixasRecusadas.incrementAndGet();
+					} catch (Exception e) {
+						errosInesperados.incrementAndGet();
+						e.printStackTrace();
+					}
+				}
+			});
+		}
+		for (int indice = 0; indice < QTD_ERROS; indice++) {
+			threads.add(indice * 10, new Thread() {
+				public void run() {
+					try {
+						executarAposReinicializacao(() -> {
+							prevalencia.executar(new AlterarNomePessoaAdicionandoApelidoErro(idPessoa, "Ciclano", "Cic"));
+							return null;
+						});
+					} catch (ExecucaoTransacaoException e) {
+						errosExecucao.incrementAndGet();
+					} catch (Exception e) {
+						errosInesperados.incrementAndGet();
+						e.printStackTrace();
+					}
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, errosInesperados.get());
+		assertEquals(QTD_ERROS, errosExecucao.get());
+		assertEquals(QTD_BAIXAS - 10, baixasExecutadas.get());
+		assertEquals(10, baixasRecusadas.get());
+		assertEquals(0, (int) prevalencia.executar(new ObterEstoque()));
+		assertEquals("Fulano", prevalencia.executar(new ObterPessoaPorId(idPessoa)).getNome(), "Transações com erro de execução devem ser revertidas");
+	}
+
+	/**
+	 * Erros de execução sem reversão em memória recarregam o modelo, as transações concorrentes recebidas durante a recarga devem ser reenviadas.
+	 */
+	private static void executarAposReinicializacao(Callable<?> execucao) throws Exception {
+		while (true) {
+			try {
+				execucao.call();
+				return;
+			} catch (IllegalStateException e) {
+				Thread.sleep(10);
+			}
+		}
+	}
+
+	@Test
+	@Order(3)
+	void testeTransacoesAssincronasAgrupadas() {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		List<CompletableFuture<Void>> futuros = new ArrayList<CompletableFuture<Void>>();
+		for (int indice = 0; indice < QTD_THREADS; indice++) {
+			futuros.add(prevalencia.executarAssincrono(new AdicionarEstoque(1)));
+		}
+		futuros.forEach(CompletableFuture::join);
+		assertEquals(QTD_THREADS, (int) prevalencia.executar(new ObterEstoque()));
+	}
+
+	@Test
+	@Order(4)
+	void testeReservasOtimistasAgrupadas() throws InterruptedException, ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(QTD_RESERVAS / 2));
+		AtomicInteger reservas = new AtomicInteger();
+		AtomicInteger recusas = new AtomicInteger();
+		AtomicInteger erros = new AtomicInteger();
+		Thread[] threads = new Thread[QTD_RESERVAS];
+		for (int indice = 0; indice < QTD_RESERVAS; indice++) {
+			threads[indice] = new Thread() {
+				public void run() {
+					try {
+						prevalencia.executar(new ReservarEstoqueOtimista(1));
+						reservas.incrementAndGet();
+					} catch (ValidacaoCampoException e) {
+						recusas.incrementAndGet();
+					} catch (Exception e) {
+						erros.incrementAndGet();
+						e.printStackTrace();
+					}
+				}
+			};
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, erros.get());
+		assertEquals(QTD_RESERVAS / 2, reservas.get(), "Reservas validadas na mesma versão e gravadas no mesmo grupo devem conflitar");
+		assertEquals(QTD_RESERVAS / 2, recusas.get());
+		assertEquals(0, (int) prevalencia.executar(new ObterEstoque()));
+	}
+
+	@Test
+	@Order(5)
+	void testeRecarregarTransacoesAgrupadas() {
+		MiniPrevalencia.prevalecer(ExemploModelo.class).finalizarPrevalencia();
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(0, (int) prevalencia.executar(new ObterEstoque()));
+		assertEquals("Fulano", prevalencia.executar(new ObterPessoaPorId(idPessoa)).getNome());
+		prevalencia.finalizarPrevalencia();
+	}
+
+}
@@ -0,0 +1,126 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.PoliticaSincronizacaoDisco;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.consultas.exemplo.ObterPessoaPorId;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.entidades.exemplo.Pessoa;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AdicionarPessoa;
+import testes.transacoes.exemplo.AlterarNomePessoaAdicionandoApelidoErro;
+import testes.transacoes.exemplo.AtribuirEstoque;
+import testes.transacoes.exemplo.PessoaVO;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteAnelTransacoes {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_THREADS = 2000;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public PoliticaSincronizacaoDisco getPoliticaSincronizacaoDisco() {return PoliticaSincronizacaoDisco.AGRUPADA;}
+			public Integer getTamanhoAnelTransacoes() {return 16;}//Menor que a quantidade de threads, as chamadoras aguardam posições livres
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeTransacoesConcorrentesNoAnel() throws ValidacaoCampoException, ExecucaoTransacaoException, InterruptedException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(0));
+		long transacaoInicial = prevalencia.getIdentificadorUltimaTransacaoExecutada();
+		AtomicInteger erros = new AtomicInteger();
+		Thread[] threads = new Thread[QTD_THREADS];
+		for (int i = 0; i < QTD_THREADS; i++) {
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						prevalencia.executar(new AdicionarEstoque(1));
+					} catch (Exception e) {
+						erros.incrementAndGet();
+						e.printStackTrace();
+					}
+				}
+			};
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, erros.get());
+		assertEquals(QTD_THREADS, (int) prevalencia.executar(new ObterEstoque()));
+		assertEquals(transacaoInicial + QTD_THREADS, (long) prevalencia.getIdentificadorUltimaTransacaoExecutada());
+	}
+
+	@Test
+	@Order(2)
+	void testeErrosEntreguesAChamadora() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertThrows(ValidacaoCampoException.class, () -> {
+			prevalencia.executar(new AdicionarEstoque(AdicionarEstoque.QTD_MAXIMA));
+		});
+		Long id = prevalencia.obterProximoIdSequencial(Pessoa.class);
+		PessoaVO pessoaVO = new PessoaVO();
+		pessoaVO.setDataNascimento(new Date());
+		pessoaVO.setEmail("anel@teste.br");
+		pessoaVO.setNome("Ricardo");
+		pessoaVO.setId(id);
+		prevalencia.executar(new AdicionarPessoa(pessoaVO));
+		assertThrows(ExecucaoTransacaoException.class, () -> {
+			prevalencia.executar(new AlterarNomePessoaAdicionandoApelidoErro(id, "Vasselai", "Mestre"));
+		});
+		Pessoa pessoa = prevalencia.executar(new ObterPessoaPorId(id));
+		assertEquals("Ricardo", pessoa.getNome());
+		assertNull(pessoa.getApelidos());
+		prevalencia.executar(new AdicionarEstoque(1));
+		assertEquals(QTD_THREADS + 1, (int) prevalencia.executar(new ObterEstoque()), "O anel deveria continuar após os erros");
+	}
+
+	@Test
+	@Order(3)
+	void testeRecarregarTransacoesDoAnel() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia.prevalecer(ExemploModelo.class).finalizarPrevalencia();
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(QTD_THREADS + 1, (int) prevalencia.executar(new ObterEstoque()));
+		prevalencia.executar(new AdicionarEstoque(1));
+		assertEquals(QTD_THREADS + 2, (int) prevalencia.executar(new ObterEstoque()));
+		prevalencia.finalizarPrevalencia();
+	}
+
+}
@@ -0,0 +1,160 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.IsolamentoConsulta;
+import br.tec.mboi.api.MiniPrevalencia.MetricasCacheConsultas;
+import br.tec.mboi.api.MiniPrevalencia.PoliticaRemocaoCache;
+import testes.consultas.exemplo.ContarFragmentosComPrefixo;
+import testes.consultas.exemplo.ObterPessoaPorIdCacheavel;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.entidades.exemplo.Pessoa;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarPessoa;
+import testes.transacoes.exemplo.AdicionarTextoFragmentado;
+import testes.transacoes.exemplo.AlterarNomePessoaAdicionandoApelidoErro;
+import testes.transacoes.exemplo.PessoaVO;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteCacheConsultas {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_FRAGMENTOS_CONCORRENTES = 2000;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return true;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public Integer getTamanhoCacheConsultas() {return 3;}
+			public PoliticaRemocaoCache getPoliticaRemocaoCache() {return PoliticaRemocaoCache.LFU;}
+			public IsolamentoConsulta getIsolamentoConsultas() {return IsolamentoConsulta.OTIMISTA;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeAcertosEInvalidacaoPorTransacao() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AdicionarTextoFragmentado("a1"));
+		prevalencia.executar(new AdicionarTextoFragmentado("a2"));
+		prevalencia.executar(new AdicionarTextoFragmentado("b1"));
+		ContarFragmentosComPrefixo consulta = new ContarFragmentosComPrefixo("a");
+		assertEquals(2L, (long) prevalencia.executar(consulta));
+		assertEquals(2L, (long) prevalencia.executar(consulta));
+		assertEquals(2L, (long) prevalencia.executar(new ContarFragmentosComPrefixo("a")), "Consultas iguais deveriam compartilhar o resultado");
+		MetricasCacheConsultas metricas = prevalencia.getMetricasCacheConsultas();
+		assertEquals(1, metricas.getFaltas());
+		assertEquals(2, metricas.getAcertos());
+		assertEquals(0, metricas.getInvalidacoes());
+		prevalencia.executar(new AdicionarTextoFragmentado("a3"));
+		assertEquals(3L, (long) prevalencia.executar(consulta), "A transação deveria invalidar o resultado");
+		metricas = prevalencia.getMetricasCacheConsultas();
+		assertEquals(2, metricas.getFaltas());
+		assertEquals(1, metricas.getInvalidacoes());
+		assertEquals(1, metricas.getTamanho());
+	}
+
+	@Test
+	@Order(2)
+	void testeRemocaoMenosFrequente() {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new ContarFragmentosComPrefixo("b"));
+		prevalencia.executar(new ContarFragmentosComPrefixo("b"));
+		prevalencia.executar(new ContarFragmentosComPrefixo("c"));
+		MetricasCacheConsultas antes = prevalencia.getMetricasCacheConsultas();
+		assertEquals(3, antes.getTamanho());
+		prevalencia.executar(new ContarFragmentosComPrefixo("d"));//Remove "c", o menos acessado
+		prevalencia.executar(new ContarFragmentosComPrefixo("a"));
+		prevalencia.executar(new ContarFragmentosComPrefixo("b"));
+		prevalencia.executar(new ContarFragmentosComPrefixo("c"));//Remove "d"
+		MetricasCacheConsultas depois = prevalencia.getMetricasCacheConsultas();
+		assertEquals(3, depois.getTamanho());
+		assertEquals(2, depois.getAcertos() - antes.getAcertos(), "As consultas mais frequentes deveriam permanecer no cache");
+		assertEquals(2, depois.getFaltas() - antes.getFaltas());
+		assertEquals(2, depois.getRemocoes() - antes.getRemocoes());
+	}
+
+	@Test
+	@Order(3)
+	void testeReversaoECopiaProtegida() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		Long id = prevalencia.obterProximoIdSequencial(Pessoa.class);
+		PessoaVO pessoaVO = new PessoaVO();
+		pessoaVO.setDataNascimento(new Date());
+		pessoaVO.setEmail("cache@teste.br");
+		pessoaVO.setNome("Ricardo");
+		pessoaVO.setId(id);
+		prevalencia.executar(new AdicionarPessoa(pessoaVO));
+		ObterPessoaPorIdCacheavel consulta = new ObterPessoaPorIdCacheavel(id);
+		prevalencia.executar(consulta).setNome("Alterado fora de uma transação");
+		assertEquals("Ricardo", prevalencia.executar(consulta).getNome(), "O resultado do cache deveria ser uma cópia");
+		long invalidacoes = prevalencia.getMetricasCacheConsultas().getInvalidacoes();
+		assertThrows(ExecucaoTransacaoException.class, () -> {
+			prevalencia.executar(new AlterarNomePessoaAdicionandoApelidoErro(id, "Vasselai", "Mestre"));
+		});
+		Pessoa pessoa = prevalencia.executar(consulta);
+		assertEquals("Ricardo", pessoa.getNome());
+		assertNull(pessoa.getApelidos());
+		assertEquals(invalidacoes + 1, prevalencia.getMetricasCacheConsultas().getInvalidacoes(), "A reversão também altera a versão do modelo");
+	}
+
+	@Test
+	@Order(4)
+	void testeConsultasDuranteTransacoes() throws InterruptedException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		long inicial = prevalencia.executar(new ContarFragmentosComPrefixo("x"));
+		AtomicReference<Throwable> erro = new AtomicReference<>();
+		Thread escritora = new Thread() {
+			public void run() {
+				try {
+					for (int indice = 0; indice < QTD_FRAGMENTOS_CONCORRENTES; indice++) {
+						prevalencia.executar(new AdicionarTextoFragmentado("x" + indice));
+					}
+				} catch (Throwable e) {
+					erro.set(e);
+				}
+			}
+		};
+		escritora.start();
+		long anterior = inicial;
+		while (escritora.isAlive()) {
+			long atual = prevalencia.executar(new ContarFragmentosComPrefixo("x"));
+			assertTrue(atual >= anterior, "O cache não deveria retornar um resultado anterior ao já observado");
+			anterior = atual;
+		}
+		escritora.join();
+		assertNull(erro.get());
+		assertEquals(inicial + QTD_FRAGMENTOS_CONCORRENTES, (long) prevalencia.executar(new ContarFragmentosComPrefixo("x")));
+		prevalencia.finalizarPrevalencia();
+	}
+
+}
@@ -11,6 +11,7 @@ import java.util.Map;
 
 import br.tec.mboi.api.MiniPrevalencia;
 import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.Transacao;
 import testes.consultas.auxbrasil.ConsultarBeneficiadosPorNomeFonetico;
 import testes.consultas.auxbrasil.ContarBeneficiados;
 import testes.consultas.auxbrasil.ListarBeneficiosPorCidade;
@@ -141,6 +142,7 @@ class TesteCargaAuxilioBrasil {
 		MiniPrevalencia<AuxilioBrasil> prevalencia = MiniPrevalencia.prevalecer(AuxilioBrasil.class);		
 		
 		List<BeneficioVO> bufferBeneficios = new ArrayList<BeneficioVO>();
+		List<Transacao<AuxilioBrasil, JaCadastradoException>> loteUfsCidades = new ArrayList<Transacao<AuxilioBrasil, JaCadastradoException>>();
 		File arquivoDados = new File(new File(CSV_DIR), "202301_AuxilioBrasil.csv");//Arquivo de 2.4 GB e 21626680 linhas
 		BufferedReader leitor = new BufferedReader(new FileReader(arquivoDados), 8192000);
 		String linha = null;
@@ -155,18 +157,15 @@ class TesteCargaAuxilioBrasil {
 			contador++;
 			
 			BeneficioVO beneficioVO = converterLinha(linha);
-			try {
-				prevalencia.executar(new AdicionarUfSeNaoExistir(beneficioVO.getSiglaUf() ));
-			} catch (JaCadastradoException e) {
-				// Se ja for cadastrado ignorar...
-			}
-			try {
-				prevalencia.executar(new AdicionarCidadeSeNaoExistir(beneficioVO.getSiglaUf(), beneficioVO.getNomeCidade()));
-			} catch (JaCadastradoException e) {
-				// Se ja for cadastrado ignorar...
-			}
+			loteUfsCidades.add(new AdicionarUfSeNaoExistir(beneficioVO.getSiglaUf() ));
+			loteUfsCidades.add(new AdicionarCidadeSeNaoExistir(beneficioVO.getSiglaUf(), beneficioVO.getNomeCidade()));
 			
 			bufferBeneficios.add(beneficioVO);
+			
+			if ((contador % 1000 == 0)) {
+				prevalencia.executarLote(loteUfsCidades);//Um único registro no jornal, as já cadastradas (JaCadastradoException) são apenas recusadas no resultado
+				loteUfsCidades.clear();
+			}
 				
 			if ((contador % 1000000 == 0)) {
 				prevalencia.executar(new AdicionarBeneficiosEmLote(bufferBeneficios));//Cadastro em lote de 43.000 objetos de benefício por segundo				
@@ -184,6 +183,7 @@ class TesteCargaAuxilioBrasil {
 		}
 		
 		if (!bufferBeneficios.isEmpty()) {
+			prevalencia.executarLote(loteUfsCidades);
 			prevalencia.executar(new AdicionarBeneficiosEmLote(bufferBeneficios));
 			prevalencia.atualizarArquivoAceleradorInicializacao();
 		}
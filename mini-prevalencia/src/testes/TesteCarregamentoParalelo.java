@@ -0,0 +1,67 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import testes.consultas.exemplo.ListarPalavrasTextoFragmentado;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarTextoFragmentado;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteCarregamentoParalelo {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_PALAVRAS = 5000;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public Integer getThreadsCarregamento() {return 4;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeCarregamentoMantemOrdem() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		for (int indice = 0; indice < QTD_PALAVRAS; indice++) {
+			prevalencia.executar(new AdicionarTextoFragmentado("palavra" + indice));
+		}
+		prevalencia.finalizarPrevalencia();
+
+		prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals((long) QTD_PALAVRAS, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+		List<String> palavras = prevalencia.executar(new ListarPalavrasTextoFragmentado());
+		assertEquals(QTD_PALAVRAS, palavras.size());
+		for (int indice = 0; indice < QTD_PALAVRAS; indice++) {
+			assertEquals("palavra" + indice, palavras.get(indice));
+		}
+	}
+
+}
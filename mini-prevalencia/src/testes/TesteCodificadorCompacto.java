@@ -0,0 +1,190 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.CodificadorCompacto;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import testes.consultas.exemplo.ObterPessoaPorId;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.entidades.exemplo.Pessoa;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarPessoa;
+import testes.transacoes.exemplo.PessoaVO;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteCodificadorCompacto {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+
+	private static final int QTD_PESSOAS = 1000;
+
+	private static final CodificadorCompacto CODIFICADOR = new CodificadorCompacto()
+			.registrar(1, ExemploModelo.class)
+			.registrar(2, Pessoa.class)
+			.registrar(3, AdicionarPessoa.class)
+			.registrar(4, PessoaVO.class);
+
+	private static class SemConstrutorPadrao implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private final String nome;
+		private final int valor;
+		private SemConstrutorPadrao(String nome, int valor) {
+			this.nome = nome;
+			this.valor = valor;
+		}
+	}
+
+	private static class ComInicializadores implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private String nome = "Inicializado";
+		private int valor = 7;
+		private transient String transitorio = "Inicializado";
+		private ComInicializadores() {
+		}
+	}
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+			public MiniPrevalencia.Codificador getCodificador() {return CODIFICADOR;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	private static ExemploModelo criarModelo() {
+		ExemploModelo modelo = new ExemploModelo();
+		modelo.setNome("Modelo");
+		modelo.setEstoque(-15);
+		for (long id = 0; id < QTD_PESSOAS; id++) {
+			Pessoa pessoa = new Pessoa();
+			pessoa.setId(id);
+			pessoa.setNome("Nome " + id);
+			pessoa.setEmail("email" + id + "@teste.br");
+			pessoa.setDataNascimento(new Date(id * 86400000L));
+			pessoa.setApelidos(new HashSet<String>());
+			pessoa.getApelidos().add("Apelido " + id);
+			modelo.getMapaPessoasId().put(id, pessoa);
+			modelo.getMapaPessoasEmail().put(pessoa.getEmail(), pessoa);
+			modelo.getTextoFragmentado().add(pessoa.getNome());
+		}
+		return modelo;
+	}
+
+	@Test
+	@Order(1)
+	void testeCodificarDecodificarGrafo() throws IOException, ClassNotFoundException {
+		ExemploModelo modelo = criarModelo();
+		ByteArrayOutputStream compacto = new ByteArrayOutputStream();
+		CODIFICADOR.codificar(modelo, compacto);
+		ByteArrayOutputStream serializado = new ByteArrayOutputStream();
+		new ObjectOutputStream(serializado).writeObject(modelo);
+		assertTrue(compacto.size() < serializado.size(), "O codificador compacto deveria gerar menos bytes que a serialização Java");
+
+		ExemploModelo copia = (ExemploModelo) CODIFICADOR.decodificar(new ByteArrayInputStream(compacto.toByteArray()));
+		assertEquals("Modelo", copia.getNome());
+		assertEquals(-15, copia.getEstoque());
+		assertEquals(QTD_PESSOAS, copia.getMapaPessoasId().size());
+		assertEquals(QTD_PESSOAS, copia.getTextoFragmentado().size());
+		for (long id = 0; id < QTD_PESSOAS; id++) {
+			Pessoa pessoa = copia.getMapaPessoasId().get(id);
+			assertEquals("Nome " + id, pessoa.getNome());
+			assertEquals(new Date(id * 86400000L), pessoa.getDataNascimento());
+			assertTrue(pessoa.getApelidos().contains("Apelido " + id));
+			assertSame(pessoa, copia.getMapaPessoasEmail().get(pessoa.getEmail()));//Referências compartilhadas preservadas
+			assertSame(pessoa.getNome(), copia.getTextoFragmentado().get((int) id));
+		}
+	}
+
+	@Test
+	@Order(2)
+	void testePrevalenciaComCodificadorCompacto() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		for (long id = 0; id < QTD_PESSOAS; id++) {
+			PessoaVO pessoaVO = new PessoaVO();
+			pessoaVO.setId(id);
+			pessoaVO.setNome("Nome " + id);
+			pessoaVO.setEmail("email" + id + "@teste.br");
+			pessoaVO.setDataNascimento(new Date(id * 86400000L));
+			prevalencia.executar(new AdicionarPessoa(pessoaVO));
+			if (id == (QTD_PESSOAS / 2)) {
+				prevalencia.atualizarArquivoAceleradorInicializacao();
+			}
+		}
+		prevalencia.finalizarPrevalencia();
+
+		prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals((long) QTD_PESSOAS, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+		for (long id = 0; id < QTD_PESSOAS; id++) {
+			Pessoa pessoa = prevalencia.executar(new ObterPessoaPorId(id));
+			assertEquals("email" + id + "@teste.br", pessoa.getEmail());
+			assertEquals(new Date(id * 86400000L), pessoa.getDataNascimento());
+		}
+	}
+
+	@Test
+	@Order(3)
+	void testeClasseSemConstrutorPadrao() throws IOException, ClassNotFoundException {
+		SemConstrutorPadrao objeto = new SemConstrutorPadrao("Sem construtor", 42);
+		List<Object> grafo = new ArrayList<Object>();
+		grafo.add(objeto);
+		grafo.add(objeto);
+		ByteArrayOutputStream compacto = new ByteArrayOutputStream();
+		CODIFICADOR.codificar(grafo, compacto);
+		@SuppressWarnings("unchecked")
+		List<Object> copia = (List<Object>) CODIFICADOR.decodificar(new ByteArrayInputStream(compacto.toByteArray()));
+		SemConstrutorPadrao decodificado = (SemConstrutorPadrao) copia.get(0);
+		assertEquals("Sem construtor", decodificado.nome, "Classes sem construtor sem parâmetros são gravadas com serialização Java");
+		assertEquals(42, decodificado.valor);
+		assertSame(decodificado, copia.get(1));
+	}
+
+	@Test
+	@Order(4)
+	void testeCamposDecodificadosSobrescrevemInicializadores() throws IOException, ClassNotFoundException {
+		ComInicializadores objeto = new ComInicializadores();
+		objeto.nome = null;
+		objeto.valor = 0;
+		objeto.transitorio = "Alterado";
+		ByteArrayOutputStream compacto = new ByteArrayOutputStream();
+		CODIFICADOR.codificar(objeto, compacto);
+		ComInicializadores decodificado = (ComInicializadores) CODIFICADOR.decodificar(new ByteArrayInputStream(compacto.toByteArray()));
+		assertNull(decodificado.nome, "Os campos gravados sobrescrevem os inicializadores executados pelo construtor");
+		assertEquals(0, decodificado.valor);
+		assertEquals("Inicializado", decodificado.transitorio, "Campos transient mantêm o valor do inicializador");
+	}
+
+}
@@ -0,0 +1,137 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.Consulta;
+import testes.entidades.auxbrasil.AuxilioBrasil;
+import testes.transacoes.auxbrasil.AdicionarBeneficiosEmLote;
+import testes.transacoes.auxbrasil.AdicionarCidadeSeNaoExistir;
+import testes.transacoes.auxbrasil.AdicionarUfSeNaoExistir;
+import testes.transacoes.auxbrasil.BeneficioVO;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteCompressao {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final String DIRETORIO_REGISTRO = DIRETORIO + "/" + AuxilioBrasil.class.getCanonicalName();
+	private static final String[] CIDADES = {"CAMPO GRANDE", "DOURADOS", "CORUMBA", "TRES LAGOAS"};
+	private static final int QTD_LOTES = 30;
+	private static final int BENEFICIOS_POR_LOTE = 1000;
+
+	private static class ObterModelo implements Consulta<AuxilioBrasil, AuxilioBrasil> {
+		@Override
+		public AuxilioBrasil executar(AuxilioBrasil pojoUnico) {
+			return pojoUnico;
+		}
+	}
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO_REGISTRO).exists()) {
+			Files.walk(Paths.get(DIRETORIO_REGISTRO)).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+			public Integer getNivelCompressaoAcelerador() {return 1;}
+			public Integer getNivelCompressaoJornal() {return 1;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	private static int lerInteiroInicial(File arquivo) throws IOException {
+		try (DataInputStream entrada = new DataInputStream(new FileInputStream(arquivo))) {
+			return entrada.readInt();
+		}
+	}
+
+	@Test
+	@Order(1)
+	void testeGravarComprimido() throws Exception {
+		MiniPrevalencia<AuxilioBrasil> prevalencia = MiniPrevalencia.prevalecer(AuxilioBrasil.class);
+		prevalencia.executar(new AdicionarUfSeNaoExistir("MS"));
+		for (String cidade : CIDADES) {
+			prevalencia.executar(new AdicionarCidadeSeNaoExistir("MS", cidade));
+		}
+		for (int lote = 0; lote < QTD_LOTES; lote++) {
+			List<BeneficioVO> beneficios = new ArrayList<BeneficioVO>();
+			for (int indice = 0; indice < BENEFICIOS_POR_LOTE; indice++) {
+				String cidade = CIDADES[indice % CIDADES.length];
+				beneficios.add(new BeneficioVO("MS", cidade, AdicionarCidadeSeNaoExistir.padronizarChaveCidade(cidade, "MS"), "BENEFICIADO " + lote + "-" + indice, "BNFCD" + indice, 600, (short) 2023, (short) 1));
+			}
+			prevalencia.executar(new AdicionarBeneficiosEmLote(beneficios));
+			if (lote == (QTD_LOTES / 2)) {
+				prevalencia.atualizarArquivoAceleradorInicializacao();
+			}
+		}
+		File segmento = new File(DIRETORIO_REGISTRO + "/TRANSACOES").listFiles((dir, nome) -> nome.endsWith(".seg"))[0];
+		try (DataInputStream entrada = new DataInputStream(new FileInputStream(segmento))) {
+			entrada.readInt();
+			entrada.readShort();
+			assertEquals(1, entrada.readShort(), "O segmento deveria indicar a compressão no cabeçalho");
+		}
+		prevalencia.atualizarArquivoAceleradorInicializacao();
+		File parte = new File(DIRETORIO_REGISTRO + "/ACELERADOR/" + prevalencia.getIdentificadorUltimaTransacaoAcelerada(), "1.parte");
+		assertEquals(0x4D505A31, lerInteiroInicial(parte), "A parte deveria ser gravada em blocos comprimidos");
+
+		ByteArrayOutputStream serializado = new ByteArrayOutputStream();
+		new ObjectOutputStream(serializado).writeObject(prevalencia.executar(new ObterModelo()).getBeneficios());
+		assertTrue(parte.length() * 3 < serializado.size(), "A compressão deveria reduzir os nomes e códigos repetitivos");
+		prevalencia.finalizarPrevalencia();
+	}
+
+	@Test
+	@Order(2)
+	void testeCarregarComprimido() {
+		MiniPrevalencia<AuxilioBrasil> prevalencia = MiniPrevalencia.prevalecer(AuxilioBrasil.class);
+		AuxilioBrasil modelo = prevalencia.executar(new ObterModelo());
+		assertEquals(QTD_LOTES * BENEFICIOS_POR_LOTE, modelo.getBeneficios().size());
+		for (int lote = 0; lote < QTD_LOTES; lote++) {
+			for (int indice = 0; indice < BENEFICIOS_POR_LOTE; indice += 97) {
+				assertEquals("BENEFICIADO " + lote + "-" + indice, modelo.getBeneficios().get(lote * BENEFICIOS_POR_LOTE + indice).getNomeBeneficiado());
+			}
+		}
+		assertSame(modelo.getCidades().get(AdicionarCidadeSeNaoExistir.padronizarChaveCidade(CIDADES[1], "MS")), modelo.getBeneficios().get(1).getCidade());
+	}
+
+	@Test
+	@Order(3)
+	void testeCarregarJornalComprimido() throws Exception {
+		MiniPrevalencia<AuxilioBrasil> prevalencia = MiniPrevalencia.prevalecer(AuxilioBrasil.class);
+		List<BeneficioVO> beneficios = new ArrayList<BeneficioVO>();
+		beneficios.add(new BeneficioVO("MS", CIDADES[0], AdicionarCidadeSeNaoExistir.padronizarChaveCidade(CIDADES[0], "MS"), "JORNAL", "JRNL", 600, (short) 2023, (short) 2));
+		prevalencia.executar(new AdicionarBeneficiosEmLote(beneficios));
+		prevalencia.finalizarPrevalencia();
+		prevalencia = MiniPrevalencia.prevalecer(AuxilioBrasil.class);
+		AuxilioBrasil modelo = prevalencia.executar(new ObterModelo());
+		assertEquals(QTD_LOTES * BENEFICIOS_POR_LOTE + 1, modelo.getBeneficios().size());
+		assertEquals("JORNAL", modelo.getBeneficios().get(QTD_LOTES * BENEFICIOS_POR_LOTE).getNomeBeneficiado());
+	}
+
+}
@@ -0,0 +1,145 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.IsolamentoConsulta;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarTextoContandoEstoque;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteConsultasMultiversao {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_TRANSACOES = 1000;
+	private static final int QTD_LEITORES = 4;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public IsolamentoConsulta getIsolamentoConsultas() {return IsolamentoConsulta.MULTIVERSAO;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	private static int obterDiferencaTextoEstoque(ExemploModelo pojoUnico) {
+		int fragmentos = 0;
+		for (String fragmento : pojoUnico.getTextoFragmentado()) {
+			if (fragmento != null) {
+				fragmentos++;
+			}
+		}
+		return fragmentos - pojoUnico.getEstoque();
+	}
+
+	private static void aguardarPublicacao(MiniPrevalencia<ExemploModelo> prevalencia) throws InterruptedException {
+		long limite = System.currentTimeMillis() + 5000;
+		while (!prevalencia.getIdentificadorVersaoPublicada().equals(prevalencia.getIdentificadorUltimaTransacaoExecutada()) && (System.currentTimeMillis() < limite)) {
+			Thread.sleep(5);
+		}
+		assertEquals(prevalencia.getIdentificadorUltimaTransacaoExecutada(), prevalencia.getIdentificadorVersaoPublicada(), "A última transação deveria ter sido publicada");
+	}
+
+	@Test
+	@Order(1)
+	void testeConsultasConsistentes() throws Exception {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		AtomicBoolean leitoresAtivos = new AtomicBoolean(true);
+		AtomicLong inconsistencias = new AtomicLong();
+		List<Thread> leitores = new ArrayList<Thread>();
+		for (int indice = 0; indice < QTD_LEITORES; indice++) {
+			Thread leitor = new Thread() {
+				public void run() {
+					while (leitoresAtivos.get()) {
+						try {
+							if (prevalencia.executar(TesteConsultasMultiversao::obterDiferencaTextoEstoque) != 0) {
+								inconsistencias.incrementAndGet();
+							}
+						} catch (RuntimeException e) {
+							inconsistencias.incrementAndGet();
+						}
+					}
+				}
+			};
+			leitores.add(leitor);
+			leitor.start();
+		}
+		for (int indice = 0; indice < QTD_TRANSACOES; indice++) {
+			prevalencia.executar(new AdicionarTextoContandoEstoque("fragmento" + indice));
+		}
+		leitoresAtivos.set(false);
+		for (Thread leitor : leitores) {
+			leitor.join();
+		}
+		assertEquals(0, inconsistencias.get(), "Nenhuma consulta deveria ver uma transação pela metade");
+		aguardarPublicacao(prevalencia);
+		assertEquals(QTD_TRANSACOES, (int) prevalencia.executar(pojoUnico -> pojoUnico.getEstoque()));
+	}
+
+	@Test
+	@Order(2)
+	void testeConsultaLongaNaoBloqueiaTransacoes() throws ValidacaoCampoException, ExecucaoTransacaoException, InterruptedException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		AtomicBoolean consultaIniciada = new AtomicBoolean();
+		AtomicBoolean consultaConcluida = new AtomicBoolean();
+		AtomicLong estoqueConsulta = new AtomicLong();
+		Thread consultaLonga = new Thread() {
+			public void run() {
+				estoqueConsulta.set(prevalencia.executar(pojoUnico -> {
+					int estoqueInicial = pojoUnico.getEstoque();
+					consultaIniciada.set(true);
+					try {
+						Thread.sleep(1000);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return (estoqueInicial == pojoUnico.getEstoque()) ? estoqueInicial : -1;//A versão não pode mudar durante a consulta
+				}));
+				consultaConcluida.set(true);
+			}
+		};
+		consultaLonga.start();
+		while (!consultaIniciada.get()) {
+			Thread.sleep(1);
+		}
+		for (int indice = 0; indice < 100; indice++) {
+			prevalencia.executar(new AdicionarTextoContandoEstoque("durante consulta longa " + indice));
+		}
+		assertFalse(consultaConcluida.get(), "As transações deveriam terminar antes da consulta longa");
+		consultaLonga.join();
+		assertEquals(QTD_TRANSACOES, estoqueConsulta.get());
+		aguardarPublicacao(prevalencia);
+		assertEquals(QTD_TRANSACOES + 100, (int) prevalencia.executar(pojoUnico -> pojoUnico.getEstoque()));
+		prevalencia.finalizarPrevalencia();
+	}
+
+}
@@ -0,0 +1,135 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AdicionarTextoFragmentado;
+import testes.transacoes.exemplo.AtribuirEstoque;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteGatilhosGravacaoAcelerador {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final String DIRETORIO_ACELERADOR = DIRETORIO + "/" + ExemploModelo.class.getCanonicalName() + "/ACELERADOR";
+	private static final long TRANSACOES_GATILHO = 200;
+	private static final long BYTES_GATILHO = 256 * 1024;
+	private static final int SEGUNDOS_GATILHO = 4;
+	private static final int TAMANHO_TEXTO = 32 * 1024;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+			public Long getTransacoesParaIniciarGravacaoAcelerador() {return TRANSACOES_GATILHO;}
+			public Long getBytesJornalParaIniciarGravacaoAcelerador() {return BYTES_GATILHO;}
+			public Integer getSegundosMaximosEntreGravacoesAcelerador() {return SEGUNDOS_GATILHO;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeGravacaoSemInatividade() throws ValidacaoCampoException, ExecucaoTransacaoException, InterruptedException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(0));
+		long fim = System.currentTimeMillis() + 4000;
+		int executadas = 0;
+		while (System.currentTimeMillis() < fim) {//Tráfego contínuo, sem inatividade
+			prevalencia.executar(new AdicionarEstoque(1));
+			executadas++;
+			Thread.sleep(2);
+		}
+		long acelerada = prevalencia.getIdentificadorUltimaTransacaoAcelerada();
+		assertTrue(acelerada > 0, "O gatilho por quantidade de transações deveria gravar o arquivo acelerador mesmo sem inatividade");
+		assertTrue(prevalencia.getIdentificadorUltimaTransacaoExecutada() - acelerada < TRANSACOES_GATILHO + 1000, "A quantidade de transações não aceleradas deveria permanecer limitada");
+		prevalencia.finalizarPrevalencia();
+
+		prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(executadas, prevalencia.executar(new ObterEstoque()));
+	}
+
+	@Test
+	@Order(2)
+	void testeGravacaoPorBytesDoJornal() throws ValidacaoCampoException, ExecucaoTransacaoException, InterruptedException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		reiniciarGatilhos(prevalencia);
+		String texto = "B".repeat(TAMANHO_TEXTO);
+		for (long bytes = 0; bytes <= BYTES_GATILHO; bytes += TAMANHO_TEXTO) {//Poucas transações e antes da idade máxima, somente o gatilho de bytes é atingido
+			prevalencia.executar(new AdicionarTextoFragmentado(texto));
+		}
+		assertTrue(aguardarGravacao(prevalencia, 3000), "O gatilho por bytes do jornal deveria gravar o arquivo acelerador");
+		assertTrue(new File(DIRETORIO_ACELERADOR, prevalencia.getIdentificadorUltimaTransacaoAcelerada() + ".bin").exists(), "Uma nova geração deveria ser gravada");
+
+		prevalencia.executar(new AdicionarTextoFragmentado("B"));
+		Thread.sleep(2000);
+		assertTrue(prevalencia.getIdentificadorUltimaTransacaoAcelerada() < prevalencia.getIdentificadorUltimaTransacaoExecutada(), 
+				"Os bytes do jornal não acelerados deveriam ser zerados pela gravação");
+	}
+
+	@Test
+	@Order(3)
+	void testeGravacaoPorIdade() throws ValidacaoCampoException, ExecucaoTransacaoException, InterruptedException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		reiniciarGatilhos(prevalencia);
+		long inicio = System.currentTimeMillis();
+		prevalencia.executar(new AdicionarEstoque(1));
+		Thread.sleep(2000);
+		assertTrue(prevalencia.getIdentificadorUltimaTransacaoAcelerada() < prevalencia.getIdentificadorUltimaTransacaoExecutada(), "A idade máxima ainda não foi atingida");
+		assertTrue(aguardarGravacao(prevalencia, (SEGUNDOS_GATILHO * 1000) + 3000), "O gatilho por idade deveria gravar o arquivo acelerador");
+		assertTrue(System.currentTimeMillis() - inicio >= SEGUNDOS_GATILHO * 1000);
+		assertTrue(new File(DIRETORIO_ACELERADOR, prevalencia.getIdentificadorUltimaTransacaoAcelerada() + ".bin").exists(), "Uma nova geração deveria ser gravada");
+
+		prevalencia.executar(new AdicionarEstoque(1));
+		Thread.sleep(2000);
+		assertTrue(prevalencia.getIdentificadorUltimaTransacaoAcelerada() < prevalencia.getIdentificadorUltimaTransacaoExecutada(), 
+				"O momento da última gravação deveria ser atualizado pela gravação");
+		prevalencia.finalizarPrevalencia();
+	}
+
+	/**
+	 * Grava o arquivo acelerador, zerando os contadores de todos os gatilhos antes de testar um deles.
+	 */
+	private static void reiniciarGatilhos(MiniPrevalencia<ExemploModelo> prevalencia) throws ValidacaoCampoException, ExecucaoTransacaoException {
+		prevalencia.executar(new AdicionarEstoque(1));
+		prevalencia.atualizarArquivoAceleradorInicializacao();
+	}
+
+	private static boolean aguardarGravacao(MiniPrevalencia<ExemploModelo> prevalencia, long milisegundos) throws InterruptedException {
+		long fim = System.currentTimeMillis() + milisegundos;
+		while (System.currentTimeMillis() < fim) {
+			if (prevalencia.getIdentificadorUltimaTransacaoAcelerada().equals(prevalencia.getIdentificadorUltimaTransacaoExecutada())) {
+				return true;
+			}
+			Thread.sleep(50);
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,133 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AtribuirEstoque;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteGeracoesAcelerador {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final String DIRETORIO_REGISTRO = DIRETORIO + "/" + ExemploModelo.class.getCanonicalName();
+	private static final int QTD_TRANSACOES = 300;
+	private static final int QTD_TRANSACOES_GERACAO = 10;
+	private static final long GERACAO_MAIS_RECENTE = QTD_TRANSACOES + (2 * QTD_TRANSACOES_GERACAO);
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO_REGISTRO).exists()) {
+			Files.walk(Paths.get(DIRETORIO_REGISTRO)).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+			public Long getTamanhoMaximoSegmentoJornal() {return 4096L;}
+			public Integer getGeracoesAceleradorMantidas() {return 2;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeManterGeracoes() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(0));
+		for (int indice = 1; indice < QTD_TRANSACOES; indice++) {
+			prevalencia.executar(new AdicionarEstoque(1));
+			if ((indice % 100) == 0) {
+				prevalencia.atualizarArquivoAceleradorInicializacao();
+			}
+		}
+		prevalencia.atualizarArquivoAceleradorInicializacao();
+		String[] geracoes = new File(DIRETORIO_REGISTRO + "/ACELERADOR").list();
+		Arrays.sort(geracoes);
+		assertEquals(2, geracoes.length, "Somente as duas gerações mais recentes deveriam ser mantidas");
+		assertEquals("201.bin", geracoes[0]);
+		assertEquals(QTD_TRANSACOES + ".bin", geracoes[1]);
+		long primeiroSegmento = Arrays.stream(new File(DIRETORIO_REGISTRO + "/TRANSACOES").list()).filter(nome -> nome.endsWith(".seg")).mapToLong(nome -> Long.parseLong(nome.replace(".seg", ""))).min().getAsLong();
+		assertTrue(primeiroSegmento <= 202, "As transações seguintes a geração mais antiga deveriam ser mantidas no jornal");
+		assertTrue(primeiroSegmento > 1, "As transações anteriores a geração mais antiga deveriam ser apagadas");
+		prevalencia.finalizarPrevalencia();
+	}
+
+	@Test
+	@Order(2)
+	void testeGeracaoCorrompida() throws IOException {
+		File maisRecente = new File(DIRETORIO_REGISTRO + "/ACELERADOR", QTD_TRANSACOES + ".bin");
+		try (RandomAccessFile arquivo = new RandomAccessFile(maisRecente, "rw")) {
+			long posicao = arquivo.length() - 30;//Conteúdo ainda decodificável, somente o CRC32C denuncia a alteração
+			arquivo.seek(posicao);
+			int valor = arquivo.read();
+			arquivo.seek(posicao);
+			arquivo.write(valor ^ 0x01);
+		}
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(201L, prevalencia.getIdentificadorUltimaTransacaoAcelerada(), "A geração anterior deveria ser utilizada");
+		assertEquals((long) QTD_TRANSACOES, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+		assertEquals(QTD_TRANSACOES - 1, prevalencia.executar(new ObterEstoque()));
+	}
+
+	@Test
+	@Order(3)
+	void testeGeracaoSemRodape() throws IOException, ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		for (int gravacao = 1; gravacao <= 2; gravacao++) {
+			for (int indice = 0; indice < QTD_TRANSACOES_GERACAO; indice++) {
+				prevalencia.executar(new AdicionarEstoque(1));
+			}
+			prevalencia.atualizarArquivoAceleradorInicializacao();
+		}
+		prevalencia.finalizarPrevalencia();
+		assertTrue(new File(DIRETORIO_REGISTRO, "ACELERADOR_RODAPE").exists(), "A primeira geração gravada com rodapé deveria ser registrada");
+		removerRodape(GERACAO_MAIS_RECENTE);//Conteúdo decodificável, mas gravado após o rodapé existir
+
+		prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(GERACAO_MAIS_RECENTE - QTD_TRANSACOES_GERACAO, prevalencia.getIdentificadorUltimaTransacaoAcelerada(), "A geração sem rodapé deveria ser considerada corrompida");
+		assertEquals(GERACAO_MAIS_RECENTE, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+		assertEquals((int) GERACAO_MAIS_RECENTE - 1, prevalencia.executar(new ObterEstoque()));
+		prevalencia.finalizarPrevalencia();
+	}
+
+	@Test
+	@Order(4)
+	void testeGeracaoAnteriorAoRodape() throws IOException {
+		assertTrue(new File(DIRETORIO_REGISTRO, "ACELERADOR_RODAPE").delete());//Diretório gravado antes do rodapé de verificação
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(GERACAO_MAIS_RECENTE, prevalencia.getIdentificadorUltimaTransacaoAcelerada(), "A geração anterior ao rodapé deveria ser lida sem verificação");
+		assertEquals((int) GERACAO_MAIS_RECENTE - 1, prevalencia.executar(new ObterEstoque()));
+		prevalencia.finalizarPrevalencia();
+	}
+
+	private static void removerRodape(long geracao) throws IOException {
+		try (RandomAccessFile arquivo = new RandomAccessFile(new File(DIRETORIO_REGISTRO + "/ACELERADOR", geracao + ".bin"), "rw")) {
+			arquivo.setLength(arquivo.length() - 16);
+		}
+	}
+
+}
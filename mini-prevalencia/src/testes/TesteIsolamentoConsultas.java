@@ -0,0 +1,168 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.Consulta;
+import br.tec.mboi.api.MiniPrevalencia.IsolamentoConsulta;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.transacoes.exemplo.AdicionarTextoContandoEstoque;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteIsolamentoConsultas {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_TRANSACOES = 1000;
+	private static final int QTD_LEITORES = 4;
+
+	/**
+	 * Diferença entre fragmentos de texto e estoque, diferente de zero somente se a consulta vir uma transação pela metade.
+	 */
+	private static class ObterDiferencaTextoEstoque implements Consulta<Integer, ExemploModelo> {
+		private final IsolamentoConsulta isolamento;
+		
+		private ObterDiferencaTextoEstoque(IsolamentoConsulta isolamento) {
+			this.isolamento = isolamento;
+		}
+		@Override
+		public Integer executar(ExemploModelo pojoUnico) {
+			int fragmentos = 0;
+			for (String fragmento : pojoUnico.getTextoFragmentado()) {
+				if (fragmento != null) {
+					fragmentos++;
+				}
+			}
+			return fragmentos - pojoUnico.getEstoque();
+		}
+		@Override
+		public IsolamentoConsulta getIsolamento() {
+			return isolamento;
+		}
+	}
+
+	/**
+	 * Diferença entre o estoque e a última transação gravada no jornal, constante quando somente AdicionarTextoContandoEstoque é executada. Muda somente se a consulta 
+	 * vir uma transação antes da sua gravação no jornal, que ainda pode ser revertida.
+	 */
+	private static class ObterEstoqueNaoGravado implements Consulta<Integer, ExemploModelo> {
+		private final MiniPrevalencia<ExemploModelo> prevalencia;
+		private final IsolamentoConsulta isolamento;
+		
+		private ObterEstoqueNaoGravado(MiniPrevalencia<ExemploModelo> prevalencia, IsolamentoConsulta isolamento) {
+			this.prevalencia = prevalencia;
+			this.isolamento = isolamento;
+		}
+		@Override
+		public Integer executar(ExemploModelo pojoUnico) {
+			return pojoUnico.getEstoque() - prevalencia.getIdentificadorUltimaTransacaoExecutada().intValue();
+		}
+		@Override
+		public IsolamentoConsulta getIsolamento() {
+			return isolamento;
+		}
+	}
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public IsolamentoConsulta getIsolamentoConsultas() {return IsolamentoConsulta.OTIMISTA;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	/**
+	 * Executa as transações enquanto os leitores consultam continuamente.
+	 * @param esperado Resultado de toda consulta consistente.
+	 * @return Quantidade de consultas com resultado diferente do esperado ou que falharam.
+	 */
+	private long consultarDuranteTransacoes(MiniPrevalencia<ExemploModelo> prevalencia, Consulta<Integer, ExemploModelo> consulta, int esperado) throws Exception {
+		AtomicInteger leitoresAtivos = new AtomicInteger(1);
+		AtomicLong inconsistencias = new AtomicLong();
+		AtomicLong consultas = new AtomicLong();
+		List<Thread> leitores = new ArrayList<Thread>();
+		for (int indice = 0; indice < QTD_LEITORES; indice++) {
+			Thread leitor = new Thread() {
+				public void run() {
+					while (leitoresAtivos.get() > 0) {
+						try {
+							if (prevalencia.executar(consulta) != esperado) {
+								inconsistencias.incrementAndGet();
+							}
+						} catch (RuntimeException e) {
+							inconsistencias.incrementAndGet();
+						}
+						consultas.incrementAndGet();
+					}
+				}
+			};
+			leitores.add(leitor);
+			leitor.start();
+		}
+		for (int indice = 0; indice < QTD_TRANSACOES; indice++) {
+			prevalencia.executar(new AdicionarTextoContandoEstoque("fragmento" + indice));
+		}
+		leitoresAtivos.set(0);
+		for (Thread leitor : leitores) {
+			leitor.join();
+		}
+		System.out.println(consulta.getIsolamento() + ": " + consultas.get() + " consultas durante " + QTD_TRANSACOES + " transações");
+		return inconsistencias.get();
+	}
+
+	@Test
+	@Order(1)
+	void testeLeituraOtimista() throws Exception {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(0, consultarDuranteTransacoes(prevalencia, new ObterDiferencaTextoEstoque(null), 0), "Nenhuma consulta otimista deveria ver uma transação pela metade");
+		assertEquals(0, (int) prevalencia.executar(new ObterDiferencaTextoEstoque(null)));
+		assertEquals(QTD_TRANSACOES, (int) prevalencia.executar(pojoUnico -> pojoUnico.getEstoque()));
+	}
+
+	@Test
+	@Order(2)
+	void testeBloqueioLeitura() throws Exception {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(0, consultarDuranteTransacoes(prevalencia, new ObterDiferencaTextoEstoque(IsolamentoConsulta.BLOQUEIO_LEITURA), 0), "Nenhuma consulta com bloqueio de leitura deveria ver uma transação pela metade");
+		assertEquals(QTD_TRANSACOES * 2, (int) prevalencia.executar(pojoUnico -> pojoUnico.getTextoFragmentado().size()));
+		prevalencia.finalizarPrevalencia();
+	}
+
+	@Test
+	@Order(3)
+	void testeAlteracaoVisivelSomenteAposGravacao() throws Exception {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		int diferenca = prevalencia.executar(new ObterEstoqueNaoGravado(prevalencia, null));
+		assertEquals(0, consultarDuranteTransacoes(prevalencia, new ObterEstoqueNaoGravado(prevalencia, null), diferenca), 
+				"Nenhuma consulta otimista deveria ver uma transação antes da sua gravação no jornal");
+		assertEquals(0, consultarDuranteTransacoes(prevalencia, new ObterEstoqueNaoGravado(prevalencia, IsolamentoConsulta.BLOQUEIO_LEITURA), diferenca), 
+				"Nenhuma consulta com bloqueio de leitura deveria ver uma transação antes da sua gravação no jornal");
+		prevalencia.finalizarPrevalencia();
+	}
+
+}
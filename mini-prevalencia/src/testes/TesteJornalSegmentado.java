@@ -0,0 +1,107 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import testes.consultas.exemplo.ListarPalavrasTextoFragmentado;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarTextoFragmentado;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteJornalSegmentado {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final String DIRETORIO_TRANSACOES = DIRETORIO + "/" + ExemploModelo.class.getCanonicalName() + "/TRANSACOES";
+	private static final int QTD_PALAVRAS = 200;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+			public Long getTamanhoMaximoSegmentoJornal() {return 2048L;}//Segmentos pequenos para forçar a troca de segmento
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeTrocaDeSegmentos() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		for (int indice = 0; indice < QTD_PALAVRAS; indice++) {
+			prevalencia.executar(new AdicionarTextoFragmentado("palavra" + indice));
+		}
+		assertEquals(QTD_PALAVRAS, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+		assertTrue(new File(DIRETORIO_TRANSACOES).list().length > 1, "O jornal deveria ter mais de um segmento");
+		prevalencia.finalizarPrevalencia();
+
+		prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		List<String> palavras = prevalencia.executar(new ListarPalavrasTextoFragmentado());
+		assertEquals(QTD_PALAVRAS, palavras.size());
+		for (int indice = 0; indice < QTD_PALAVRAS; indice++) {
+			assertEquals("palavra" + indice, palavras.get(indice));
+		}
+	}
+
+	@Test
+	@Order(2)
+	void testeRegistroIncompletoDescartado() throws ValidacaoCampoException, ExecucaoTransacaoException, IOException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.finalizarPrevalencia();
+
+		File ultimoSegmento = Stream.of(new File(DIRETORIO_TRANSACOES).listFiles()).max(Comparator.comparing(arquivo -> Long.parseLong(arquivo.getName().replace(".seg", "")))).get();
+		Files.write(ultimoSegmento.toPath(), new byte[] {0, 0, 1, 0, 0, 0}, StandardOpenOption.APPEND);//Simula a interrupção durante a gravação
+
+		prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(QTD_PALAVRAS, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+		prevalencia.executar(new AdicionarTextoFragmentado("depois da interrupcao"));
+		prevalencia.finalizarPrevalencia();
+
+		prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		List<String> palavras = prevalencia.executar(new ListarPalavrasTextoFragmentado());
+		assertEquals(QTD_PALAVRAS + 1, palavras.size());
+		assertEquals("depois da interrupcao", palavras.get(QTD_PALAVRAS));
+	}
+
+	@Test
+	@Order(3)
+	void testeApagarSegmentosAcelerados() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.atualizarArquivoAceleradorInicializacao();
+		assertEquals(1, new File(DIRETORIO_TRANSACOES).list().length, "Somente o segmento corrente deveria ser mantido");
+		prevalencia.executar(new AdicionarTextoFragmentado("ultima"));
+		prevalencia.finalizarPrevalencia();
+
+		prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		List<String> palavras = prevalencia.executar(new ListarPalavrasTextoFragmentado());
+		assertEquals(QTD_PALAVRAS + 2, palavras.size());
+		assertEquals("ultima", palavras.get(QTD_PALAVRAS + 1));
+	}
+
+}
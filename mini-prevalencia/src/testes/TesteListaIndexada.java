@@ -0,0 +1,239 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.Consulta;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.ListaIndexada;
+import br.tec.mboi.api.MiniPrevalencia.TransacaoReversivel;
+import br.tec.mboi.api.MiniPrevalencia.TransacaoSemRetorno;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteListaIndexada {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final String POR_CATEGORIA = "categoria";
+	private static final String POR_VALOR = "valor";
+	private static final int QTD_LEITORAS = 3;
+	private static final int QTD_REPETICOES_PARALELAS = 300;
+	private static final int VALOR_INICIAL_PARALELO = 1000;
+	private static final int VALOR_FINAL_PARALELO = 1040;
+
+	public static class Item implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private String categoria;
+		private int valor;
+		private Item(String categoria, int valor) {
+			this.categoria = categoria;
+			this.valor = valor;
+		}
+		public String getCategoria() {
+			return categoria;
+		}
+		public Integer getValor() {
+			return valor;
+		}
+	}
+
+	public static class ModeloIndexado implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private ListaIndexada<Item> itens = new ListaIndexada<Item>();
+		public ModeloIndexado() {
+			itens.indexar(POR_CATEGORIA, Item::getCategoria);
+			itens.indexarOrdenado(POR_VALOR, Item::getValor);
+		}
+	}
+
+	private static class AdicionarItens implements TransacaoSemRetorno<ModeloIndexado, RuntimeException>, TransacaoReversivel {
+		private static final long serialVersionUID = 1L;
+		private String categoria;
+		private int[] valores;
+		private String categoriaRemovida;
+		private boolean falhar;
+		private AdicionarItens(String categoria, String categoriaRemovida, boolean falhar, int... valores) {
+			this.categoria = categoria;
+			this.categoriaRemovida = categoriaRemovida;
+			this.falhar = falhar;
+			this.valores = valores;
+		}
+		@Override
+		public void validar(ModeloIndexado pojoRegistro) {
+		}
+		@Override
+		public void executar(ModeloIndexado pojoUnico) {
+			for (int valor : valores) {
+				pojoUnico.itens.add(new Item(categoria, valor));
+			}
+			if (categoriaRemovida != null) {
+				pojoUnico.itens.removeAll(pojoUnico.itens.buscar(POR_CATEGORIA, categoriaRemovida));
+			}
+			if (falhar) {
+				throw new IllegalStateException("Falha simulada");
+			}
+		}
+	}
+
+	private static class BuscarValores implements Consulta<List<Integer>, ModeloIndexado> {
+		private String categoria;
+		private Integer inicial;
+		private Integer fim;
+		private BuscarValores(String categoria) {
+			this.categoria = categoria;
+		}
+		private BuscarValores(Integer inicial, Integer fim) {
+			this.inicial = inicial;
+			this.fim = fim;
+		}
+		@Override
+		public List<Integer> executar(ModeloIndexado pojoUnico) {
+			List<Item> itens = (categoria != null) ? pojoUnico.itens.buscar(POR_CATEGORIA, categoria) : pojoUnico.itens.buscarIntervalo(POR_VALOR, inicial, fim);
+			return itens.stream().map(Item::getValor).sorted().collect(Collectors.toList());//Elementos de mesma chave não possuem ordem definida
+		}
+	}
+
+	private static class ObterModelo implements Consulta<ModeloIndexado, ModeloIndexado> {
+		@Override
+		public ModeloIndexado executar(ModeloIndexado pojoUnico) {
+			return pojoUnico;
+		}
+	}
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ModeloIndexado.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ModeloIndexado.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeBuscasPorIndice() throws ExecucaoTransacaoException {
+		MiniPrevalencia<ModeloIndexado> prevalencia = MiniPrevalencia.prevalecer(ModeloIndexado.class);
+		prevalencia.executar(new AdicionarItens("A", null, false, 3, 1, 2));
+		prevalencia.executar(new AdicionarItens("B", null, false, 10));
+		assertEquals(List.of(1, 2, 3), prevalencia.executar(new BuscarValores("A")));
+		prevalencia.executar(new AdicionarItens("C", null, false, 5));
+		assertEquals(List.of(2, 3, 5), prevalencia.executar(new BuscarValores(2, 10)), "Intervalo ordenado pela chave, com o fim exclusivo");
+		assertEquals(List.of(1, 2, 3, 5, 10), prevalencia.executar(new BuscarValores(null, null)));
+
+		prevalencia.executar(new AdicionarItens("C", "A", false, 7));
+		assertTrue(prevalencia.executar(new BuscarValores("A")).isEmpty(), "Elementos removidos devem sair do índice");
+		assertEquals(List.of(5, 7), prevalencia.executar(new BuscarValores("C")));
+		assertEquals(List.of(5, 7, 10), prevalencia.executar(new BuscarValores(null, null)));
+		assertEquals(4L, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+	}
+
+	@Test
+	@Order(2)
+	void testeReversaoDoIndice() {
+		MiniPrevalencia<ModeloIndexado> prevalencia = MiniPrevalencia.prevalecer(ModeloIndexado.class);
+		ModeloIndexado modelo = prevalencia.executar(new ObterModelo());
+
+		assertThrows(ExecucaoTransacaoException.class, () -> prevalencia.executar(new AdicionarItens("D", "C", true, 1)));
+
+		assertSame(modelo, prevalencia.executar(new ObterModelo()), "O modelo não deveria ser recarregado do sistema de arquivos");
+		assertTrue(prevalencia.executar(new BuscarValores("D")).isEmpty());
+		assertEquals(List.of(5, 7), prevalencia.executar(new BuscarValores("C")));
+		assertEquals(List.of(5, 7, 10), prevalencia.executar(new BuscarValores(null, null)));
+	}
+
+	@Test
+	@Order(3)
+	void testeIndicesReconstruidosAposCarga() throws ExecucaoTransacaoException {
+		MiniPrevalencia<ModeloIndexado> anterior = MiniPrevalencia.prevalecer(ModeloIndexado.class);
+		anterior.atualizarArquivoAceleradorInicializacao();//A declaração dos índices é carregada do arquivo acelerador, o conteúdo é reconstruído na primeira busca
+		anterior.executar(new AdicionarItens("E", null, false, 8));
+		anterior.finalizarPrevalencia();
+		MiniPrevalencia<ModeloIndexado> prevalencia = MiniPrevalencia.prevalecer(ModeloIndexado.class);
+		assertEquals(List.of(8), prevalencia.executar(new BuscarValores("E")));
+		assertEquals(List.of(5, 7), prevalencia.executar(new BuscarValores("C")));
+		assertEquals(List.of(7, 8, 10), prevalencia.executar(new BuscarValores(6, null)));
+		ModeloIndexado modelo = prevalencia.executar(new ObterModelo());
+		assertThrows(IllegalArgumentException.class, () -> modelo.itens.buscar("inexistente", "C"));
+		assertThrows(IllegalArgumentException.class, () -> modelo.itens.buscarIntervalo(POR_CATEGORIA, "A", "D"));
+		assertThrows(IllegalArgumentException.class, () -> modelo.itens.indexar(POR_CATEGORIA, Item::getCategoria));
+		prevalencia.finalizarPrevalencia();
+	}
+
+	@Test
+	@Order(4)
+	void testeBuscasParalelasAsAlteracoes() throws InterruptedException, ExecucaoTransacaoException {
+		MiniPrevalencia<ModeloIndexado> prevalencia = MiniPrevalencia.prevalecer(ModeloIndexado.class);
+		int[] valores = IntStream.range(VALOR_INICIAL_PARALELO, VALOR_FINAL_PARALELO).toArray();
+		AtomicBoolean alterando = new AtomicBoolean(true);
+		AtomicInteger buscas = new AtomicInteger();
+		AtomicInteger erros = new AtomicInteger();
+		List<Thread> leitoras = new ArrayList<Thread>();
+		for (int indice = 0; indice < QTD_LEITORAS; indice++) {
+			leitoras.add(new Thread() {
+				public void run() {
+					try {
+						while (alterando.get()) {
+							List<Integer> porCategoria = prevalencia.executar(new BuscarValores("F"));
+							List<Integer> porIntervalo = prevalencia.executar(new BuscarValores(VALOR_INICIAL_PARALELO, VALOR_FINAL_PARALELO));
+							if (!porCategoria.stream().allMatch(valor -> (valor >= VALOR_INICIAL_PARALELO) && (valor < VALOR_FINAL_PARALELO)) 
+									|| (porIntervalo.size() > valores.length)) {
+								erros.incrementAndGet();
+							}
+							buscas.incrementAndGet();
+						}
+					} catch (Throwable e) {//ConcurrentModificationException ou índice corrompido por leitura sem sincronização
+						erros.incrementAndGet();
+						e.printStackTrace();
+					}
+				}
+			});
+		}
+		leitoras.forEach(Thread::start);
+		try {
+			for (int repeticao = 0; repeticao < QTD_REPETICOES_PARALELAS; repeticao++) {
+				prevalencia.executar(new AdicionarItens("F", null, false, valores));
+				prevalencia.executar(new AdicionarItens("G", "F", false, repeticao));//Remove todos os itens F enquanto as consultas copiam o índice
+			}
+		} finally {
+			alterando.set(false);
+		}
+		for (Thread leitora : leitoras) {
+			leitora.join();
+		}
+		assertEquals(0, erros.get());
+		assertTrue(buscas.get() > 0);
+		assertTrue(prevalencia.executar(new BuscarValores("F")).isEmpty());
+		assertEquals(QTD_REPETICOES_PARALELAS, prevalencia.executar(new BuscarValores("G")).size());
+		prevalencia.finalizarPrevalencia();
+	}
+
+}
@@ -0,0 +1,141 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.CancelamentoConsulta;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.Consulta;
+import br.tec.mboi.api.MiniPrevalencia.ConsultaCanceladaException;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarTextoFragmentado;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteMotorConsultas {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_FRAGMENTOS = 2000;
+
+	/**
+	 * Consulta que só termina quando cancelada, verificando o cancelamento dentro do parallelStream.
+	 */
+	private static class ConsultaSemFim implements Consulta<Integer, ExemploModelo> {
+		private final Long milissegundosLimite;
+		private final AtomicBoolean encerrada = new AtomicBoolean();
+
+		private ConsultaSemFim(Long milissegundosLimite) {
+			this.milissegundosLimite = milissegundosLimite;
+		}
+		@Override
+		public Integer executar(ExemploModelo pojoUnico) {
+			CancelamentoConsulta cancelamento = MiniPrevalencia.obterCancelamentoConsulta();
+			try {
+				while (true) {
+					pojoUnico.getTextoFragmentado().parallelStream().forEach(fragmento -> cancelamento.verificar());
+				}
+			} finally {
+				encerrada.set(true);
+			}
+		}
+		@Override
+		public Long getMilissegundosLimite() {
+			return milissegundosLimite;
+		}
+	}
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public Integer getParalelismoConsultas() {return 3;}
+			public boolean isConsultasEmThreadsVirtuais() {return true;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeParalelismoNoPoolExclusivo() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		for (int indice = 0; indice < QTD_FRAGMENTOS; indice++) {
+			prevalencia.executar(new AdicionarTextoFragmentado("fragmento" + indice));
+		}
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		long total = prevalencia.executar(pojoUnico -> pojoUnico.getTextoFragmentado().parallelStream().peek(fragmento -> threads.add(Thread.currentThread().getName())).count());
+		assertEquals(QTD_FRAGMENTOS, total);
+		for (String thread : threads) {
+			assertTrue(thread.startsWith("MiniPrevalencia-consulta-"), "O parallelStream deveria utilizar somente o pool das consultas: " + thread);
+		}
+	}
+
+	@Test
+	@Order(2)
+	void testeTempoLimite() {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		ConsultaSemFim consultaSemFim = new ConsultaSemFim(200L);
+		long inicio = System.currentTimeMillis();
+		assertThrows(ConsultaCanceladaException.class, () -> {
+			prevalencia.executar(consultaSemFim);
+		});
+		assertTrue(System.currentTimeMillis() - inicio < 2000, "A chamada deveria retornar ao exceder o tempo limite");
+		long limite = System.currentTimeMillis() + 2000;
+		while (!consultaSemFim.encerrada.get() && (System.currentTimeMillis() < limite)) {
+			Thread.yield();
+		}
+		assertTrue(consultaSemFim.encerrada.get(), "A consulta deveria encerrar ao verificar o cancelamento");
+		assertEquals(QTD_FRAGMENTOS, (int) prevalencia.executar(pojoUnico -> pojoUnico.getTextoFragmentado().size()));
+	}
+
+	@Test
+	@Order(3)
+	void testeConsultaAssincronaCancelada() throws InterruptedException, ExecutionException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		ConsultaSemFim consultaSemFim = new ConsultaSemFim(null);
+		CompletableFuture<Integer> futuroSemFim = prevalencia.executarAssincrono(consultaSemFim);
+		CompletableFuture<Integer> futuro = prevalencia.executarAssincrono(pojoUnico -> pojoUnico.getTextoFragmentado().size());
+		assertEquals(QTD_FRAGMENTOS, (int) futuro.get(), "Uma consulta sem fim não deveria impedir as demais");
+		futuroSemFim.cancel(true);
+		long limite = System.currentTimeMillis() + 2000;
+		while (!consultaSemFim.encerrada.get() && (System.currentTimeMillis() < limite)) {
+			Thread.yield();
+		}
+		assertTrue(consultaSemFim.encerrada.get(), "A consulta deveria encerrar após o cancelamento do futuro");
+		ConsultaSemFim consultaLimitada = new ConsultaSemFim(100L);
+		ExecutionException erro = assertThrows(ExecutionException.class, () -> {
+			prevalencia.executarAssincrono(consultaLimitada).get(2, TimeUnit.SECONDS);
+		});
+		assertTrue(erro.getCause() instanceof ConsultaCanceladaException);
+		prevalencia.finalizarPrevalencia();
+	}
+
+}
@@ -0,0 +1,97 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.FaseCarregamento;
+import br.tec.mboi.api.MiniPrevalencia.ProgressoCarregamento;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AtribuirEstoque;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteOuvinteCarregamento {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_TRANSACOES = 1000;
+	private static final List<ProgressoCarregamento> PROGRESSOS = new CopyOnWriteArrayList<ProgressoCarregamento>();
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+		MiniPrevalencia.setOuvinteCarregamento(PROGRESSOS::add);
+	}
+
+	@AfterAll
+	static void removerOuvinte() {
+		MiniPrevalencia.setOuvinteCarregamento(null);
+	}
+
+	@Test
+	@Order(1)
+	void testeGravarTransacoes() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(0));
+		for (int indice = 0; indice < QTD_TRANSACOES; indice++) {
+			prevalencia.executar(new AdicionarEstoque(1));
+			if (indice == (QTD_TRANSACOES / 2)) {
+				prevalencia.atualizarArquivoAceleradorInicializacao();
+			}
+		}
+		prevalencia.finalizarPrevalencia();
+	}
+
+	@Test
+	@Order(2)
+	void testeProgressoCarregamento() {
+		PROGRESSOS.clear();
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(QTD_TRANSACOES, prevalencia.executar(new ObterEstoque()));
+
+		long transacoesAceleradas = prevalencia.getIdentificadorUltimaTransacaoAcelerada();
+		ProgressoCarregamento acelerador = PROGRESSOS.stream().filter(p -> p.getFase() == FaseCarregamento.ACELERADOR).reduce((a, b) -> b).get();
+		assertTrue(acelerador.getBytesTotais() > 0);
+		assertEquals(acelerador.getBytesTotais(), acelerador.getBytesLidos(), "O arquivo acelerador deveria ser lido por completo");
+
+		ProgressoCarregamento transacoes = PROGRESSOS.stream().filter(p -> p.getFase() == FaseCarregamento.TRANSACOES).reduce((a, b) -> b).get();
+		assertTrue(transacoes.getBytesLidos() > 0);
+		assertTrue(transacoes.getBytesLidos() <= transacoes.getBytesTotais(), "A estimativa deveria incluir todos os segmentos com transações pendentes");
+
+		ProgressoCarregamento concluido = PROGRESSOS.get(PROGRESSOS.size() - 1);
+		assertEquals(FaseCarregamento.CONCLUIDO, concluido.getFase());
+		assertEquals(QTD_TRANSACOES + 1 - transacoesAceleradas, concluido.getTransacoesExecutadas());
+		assertEquals(1, PROGRESSOS.stream().filter(p -> p.getFase() == FaseCarregamento.CONCLUIDO).count());
+	}
+
+}
@@ -0,0 +1,150 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.PrevalenciaParticionada;
+import br.tec.mboi.api.MiniPrevalencia.ResultadoTransacaoLote;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AdicionarEstoqueParticionado;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteParticionamento {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_PARTICOES = 4;
+	private static final int QTD_DEPOSITOS = 16;
+	private static final int QTD_TRANSACOES_DEPOSITO = 100;
+
+	private static int[] estoquesEsperados = new int[QTD_PARTICOES];
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeTransacoesConcorrentesEmParticoes() throws InterruptedException {
+		PrevalenciaParticionada<ExemploModelo> particionada = PrevalenciaParticionada.prevalecer(ExemploModelo.class, QTD_PARTICOES);
+		AtomicInteger erros = new AtomicInteger();
+		Thread[] threads = new Thread[QTD_DEPOSITOS];
+		for (int deposito = 0; deposito < QTD_DEPOSITOS; deposito++) {
+			String chave = "deposito" + deposito;
+			estoquesEsperados[particionada.obterIndiceParticao(chave)] += QTD_TRANSACOES_DEPOSITO;
+			threads[deposito] = new Thread() {
+				public void run() {
+					try {
+						for (int indice = 0; indice < QTD_TRANSACOES_DEPOSITO; indice++) {
+							particionada.executar(new AdicionarEstoqueParticionado(chave, 1));
+						}
+					} catch (Exception e) {
+						erros.incrementAndGet();
+						e.printStackTrace();
+					}
+				}
+			};
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, erros.get());
+		List<Integer> estoques = particionada.executarEmTodas(new ObterEstoque());
+		for (int indice = 0; indice < QTD_PARTICOES; indice++) {
+			assertEquals(estoquesEsperados[indice], (int) estoques.get(indice));
+			assertEquals(estoquesEsperados[indice], (long) particionada.obterParticao(indice).getIdentificadorUltimaTransacaoExecutada(), "Cada partição numera seu próprio jornal");
+			assertTrue(new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName() + "/PARTICOES/" + indice + "/TRANSACOES").isDirectory());
+		}
+		assertEquals(QTD_DEPOSITOS * QTD_TRANSACOES_DEPOSITO, estoques.stream().mapToInt(Integer::intValue).sum());
+	}
+
+	@Test
+	@Order(2)
+	void testeOperacaoSemChaveParticao() {
+		PrevalenciaParticionada<ExemploModelo> particionada = PrevalenciaParticionada.prevalecer(ExemploModelo.class, QTD_PARTICOES);
+		assertThrows(IllegalArgumentException.class, () -> {
+			particionada.executar(new AdicionarEstoque(1));
+		});
+		assertThrows(IllegalArgumentException.class, () -> {
+			particionada.executar(new ObterEstoque());
+		});
+	}
+
+	@Test
+	@Order(3)
+	void testeLotePorParticao() throws ExecucaoTransacaoException {
+		PrevalenciaParticionada<ExemploModelo> particionada = PrevalenciaParticionada.prevalecer(ExemploModelo.class, QTD_PARTICOES);
+		long[] transacoesAnteriores = new long[QTD_PARTICOES];
+		for (int indice = 0; indice < QTD_PARTICOES; indice++) {
+			transacoesAnteriores[indice] = particionada.obterParticao(indice).getIdentificadorUltimaTransacaoExecutada();
+		}
+		List<AdicionarEstoqueParticionado> lote = new ArrayList<AdicionarEstoqueParticionado>();
+		for (int deposito = 0; deposito < QTD_DEPOSITOS; deposito++) {
+			String chave = "deposito" + deposito;
+			estoquesEsperados[particionada.obterIndiceParticao(chave)] += 1;
+			lote.add(new AdicionarEstoqueParticionado(chave, 1));
+		}
+		lote.add(new AdicionarEstoqueParticionado("deposito0", 0));//Recusada pela validação
+		List<ResultadoTransacaoLote> resultados = particionada.executarLote(lote);
+		assertEquals(QTD_DEPOSITOS + 1, resultados.size());
+		assertTrue(resultados.subList(0, QTD_DEPOSITOS).stream().allMatch(ResultadoTransacaoLote::isExecutada));
+		assertFalse(resultados.get(QTD_DEPOSITOS).isExecutada());
+		List<Integer> estoques = particionada.executarEmTodas(new ObterEstoque());
+		for (int indice = 0; indice < QTD_PARTICOES; indice++) {
+			assertEquals(estoquesEsperados[indice], (int) estoques.get(indice));
+			assertEquals(transacoesAnteriores[indice] + 1, particionada.obterParticao(indice).getIdentificadorUltimaTransacaoExecutada(), "Um único registro por partição");
+		}
+	}
+
+	@Test
+	@Order(4)
+	void testeRecarregarParticoes() {
+		PrevalenciaParticionada.prevalecer(ExemploModelo.class, QTD_PARTICOES).finalizarPrevalencia();
+		assertThrows(IllegalArgumentException.class, () -> {
+			PrevalenciaParticionada.prevalecer(ExemploModelo.class, QTD_PARTICOES * 2);//A quantidade de partições não pode mudar após a criação da base
+		});
+		PrevalenciaParticionada<ExemploModelo> particionada = PrevalenciaParticionada.prevalecer(ExemploModelo.class, QTD_PARTICOES);
+		List<Integer> estoques = particionada.executarEmTodas(new ObterEstoque());
+		for (int indice = 0; indice < QTD_PARTICOES; indice++) {
+			assertEquals(estoquesEsperados[indice], (int) estoques.get(indice));
+		}
+		particionada.finalizarPrevalencia();
+	}
+
+}
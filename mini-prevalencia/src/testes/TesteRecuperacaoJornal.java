@@ -0,0 +1,166 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.LeituraEmDiscoException;
+import br.tec.mboi.api.MiniPrevalencia.MotivoDescarteJornal;
+import br.tec.mboi.api.MiniPrevalencia.RecuperacaoJornal;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AtribuirEstoque;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteRecuperacaoJornal {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final String DIRETORIO_TRANSACOES = DIRETORIO + "/" + ExemploModelo.class.getCanonicalName() + "/TRANSACOES";
+	private static final int QTD_TRANSACOES = 200;
+	private static final int TAMANHO_CABECALHO_SEGMENTO = 8;
+	private static final int TAMANHO_CABECALHO_REGISTRO = 16;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+			public Long getTamanhoMaximoSegmentoJornal() {return 4096L;}//Segmentos pequenos para corromper um segmento que não é o último
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	private static List<File> listarSegmentos() {
+		return Stream.of(new File(DIRETORIO_TRANSACOES).listFiles((dir, nome) -> nome.endsWith(".seg")))
+				.sorted(Comparator.comparing(arquivo -> Long.parseLong(arquivo.getName().replace(".seg", "")))).collect(Collectors.toList());
+	}
+	/**
+	 * Posição de início de cada registro do segmento.
+	 */
+	private static List<Long> localizarRegistros(File segmento) throws IOException {
+		List<Long> posicoes = new ArrayList<Long>();
+		try (RandomAccessFile arquivo = new RandomAccessFile(segmento, "r")) {
+			long posicao = TAMANHO_CABECALHO_SEGMENTO;
+			while (posicao + TAMANHO_CABECALHO_REGISTRO <= arquivo.length()) {
+				arquivo.seek(posicao);
+				posicoes.add(posicao);
+				posicao += TAMANHO_CABECALHO_REGISTRO + arquivo.readInt();
+			}
+		}
+		return posicoes;
+	}
+	private static void inverterUltimoByteRegistro(File segmento, int indiceRegistro) throws IOException {
+		List<Long> posicoes = localizarRegistros(segmento);
+		try (RandomAccessFile arquivo = new RandomAccessFile(segmento, "rw")) {
+			long fim = (indiceRegistro + 1 < posicoes.size()) ? posicoes.get(indiceRegistro + 1) : arquivo.length();
+			arquivo.seek(fim - 1);
+			int valor = arquivo.read();
+			arquivo.seek(fim - 1);
+			arquivo.write(valor ^ 0x01);
+		}
+	}
+
+	@Test
+	@Order(1)
+	void testeRegistroIncompleto() throws ValidacaoCampoException, ExecucaoTransacaoException, IOException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(0));
+		for (int indice = 1; indice < QTD_TRANSACOES; indice++) {
+			prevalencia.executar(new AdicionarEstoque(1));
+		}
+		assertTrue(listarSegmentos().size() > 2, "O jornal deveria ter vários segmentos");
+		prevalencia.finalizarPrevalencia();
+		List<File> segmentos = listarSegmentos();
+		byte[] registroInterrompido = new byte[TAMANHO_CABECALHO_REGISTRO + 50];
+		registroInterrompido[2] = 1;//Tamanho de 256 bytes, somente 50 gravados
+		Files.write(segmentos.get(segmentos.size() - 1).toPath(), registroInterrompido, StandardOpenOption.APPEND);
+		Files.write(Paths.get(DIRETORIO_TRANSACOES, (QTD_TRANSACOES + 1) + ".tmp"), new byte[] {1, 2, 3});//Transação individual interrompida de versões anteriores
+		prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		RecuperacaoJornal recuperacao = prevalencia.getRecuperacaoJornal();
+		assertEquals(MotivoDescarteJornal.REGISTRO_INCOMPLETO, recuperacao.getMotivo());
+		assertEquals(TAMANHO_CABECALHO_REGISTRO + 50, recuperacao.getBytesDescartados());
+		assertEquals(QTD_TRANSACOES, recuperacao.getUltimaTransacaoValida());
+		assertEquals(1, recuperacao.getArquivosTemporariosDescartados());
+		assertEquals((long) QTD_TRANSACOES, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+		prevalencia.executar(new AdicionarEstoque(1));
+		assertEquals(QTD_TRANSACOES, prevalencia.executar(new ObterEstoque()));
+		prevalencia.finalizarPrevalencia();
+	}
+
+	@Test
+	@Order(2)
+	void testeChecksumInvalidoNoFinal() throws ValidacaoCampoException, ExecucaoTransacaoException, IOException {
+		List<File> segmentos = listarSegmentos();
+		File ultimoSegmento = segmentos.get(segmentos.size() - 1);
+		int ultimoRegistro = localizarRegistros(ultimoSegmento).size() - 1;
+		inverterUltimoByteRegistro(ultimoSegmento, ultimoRegistro);
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		RecuperacaoJornal recuperacao = prevalencia.getRecuperacaoJornal();
+		assertEquals(MotivoDescarteJornal.CHECKSUM_INVALIDO, recuperacao.getMotivo());
+		assertEquals(QTD_TRANSACOES, recuperacao.getUltimaTransacaoValida(), "A última transação deveria ser descartada");
+		assertEquals((long) QTD_TRANSACOES, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+		assertEquals(QTD_TRANSACOES - 1, prevalencia.executar(new ObterEstoque()));
+		prevalencia.finalizarPrevalencia();
+	}
+
+	@Test
+	@Order(3)
+	void testeRegistrosIntegrosAposCorrupcao() throws IOException {
+		List<File> segmentos = listarSegmentos();
+		File ultimoSegmento = segmentos.get(segmentos.size() - 1);
+		List<Long> posicoes = localizarRegistros(ultimoSegmento);
+		assertTrue(posicoes.size() > 3, "O último segmento deveria ter mais de três registros");
+		inverterUltimoByteRegistro(ultimoSegmento, posicoes.size() - 3);
+		long tamanhoSegmento = ultimoSegmento.length();
+		LeituraEmDiscoException erro = assertThrows(LeituraEmDiscoException.class, () -> {
+			MiniPrevalencia.prevalecer(ExemploModelo.class);
+		});
+		Throwable causa = erro;
+		while (causa.getCause() != null) {
+			causa = causa.getCause();
+		}
+		assertTrue(causa.getMessage().contains(ultimoSegmento.getName()), "O erro deveria informar o segmento corrompido");
+		assertTrue(causa.getMessage().contains("posição " + posicoes.get(posicoes.size() - 3)), "O erro deveria informar a posição do registro corrompido");
+		assertEquals(tamanhoSegmento, ultimoSegmento.length(), "Registros íntegros após o registro corrompido não deveriam ser truncados");
+	}
+
+	@Test
+	@Order(4)
+	void testeCorrupcaoForaDoUltimoSegmento() throws IOException {
+		inverterUltimoByteRegistro(listarSegmentos().get(1), 0);
+		assertThrows(LeituraEmDiscoException.class,() -> {
+			MiniPrevalencia.prevalecer(ExemploModelo.class);
+		});
+	}
+
+}
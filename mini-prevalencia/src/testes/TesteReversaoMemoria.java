@@ -0,0 +1,125 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ConjuntoReversivel;
+import br.tec.mboi.api.MiniPrevalencia.Consulta;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.ListaReversivel;
+import br.tec.mboi.api.MiniPrevalencia.MapaReversivel;
+import br.tec.mboi.api.MiniPrevalencia.TransacaoReversivel;
+import br.tec.mboi.api.MiniPrevalencia.TransacaoSemRetorno;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteReversaoMemoria {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+
+	public static class ModeloReversivel implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private ListaReversivel<String> nomes = new ListaReversivel<String>();
+		private MapaReversivel<String, Integer> idades = new MapaReversivel<String, Integer>();
+		private ConjuntoReversivel<String> apelidos = new ConjuntoReversivel<String>();
+		private int contador;
+	}
+
+	private static class AdicionarNome implements TransacaoSemRetorno<ModeloReversivel, RuntimeException>, TransacaoReversivel {
+		private static final long serialVersionUID = 1L;
+		private String nome;
+		private boolean falhar;
+		private AdicionarNome(String nome, boolean falhar) {
+			this.nome = nome;
+			this.falhar = falhar;
+		}
+		@Override
+		public void validar(ModeloReversivel pojoRegistro) {
+		}
+		@Override
+		public void executar(ModeloReversivel pojoUnico) {
+			pojoUnico.nomes.add(nome);
+			pojoUnico.nomes.set(0, nome);
+			pojoUnico.idades.put(nome, nome.length());
+			pojoUnico.idades.remove("primeiro");
+			pojoUnico.apelidos.add(nome.toLowerCase());
+			int contadorAnterior = pojoUnico.contador;
+			MiniPrevalencia.registrarReversao(() -> pojoUnico.contador = contadorAnterior);
+			pojoUnico.contador++;
+			if (falhar) {
+				throw new IllegalStateException("Falha simulada");
+			}
+		}
+	}
+
+	private static class ObterModelo implements Consulta<ModeloReversivel, ModeloReversivel> {
+		@Override
+		public ModeloReversivel executar(ModeloReversivel pojoUnico) {
+			return pojoUnico;
+		}
+	}
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ModeloReversivel.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ModeloReversivel.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return true;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeReversaoEmMemoria() throws ExecucaoTransacaoException {
+		MiniPrevalencia<ModeloReversivel> prevalencia = MiniPrevalencia.prevalecer(ModeloReversivel.class);
+		prevalencia.executar(new AdicionarNome("primeiro", false));
+		prevalencia.executar(new AdicionarNome("segundo", false));
+		ModeloReversivel modelo = prevalencia.executar(new ObterModelo());
+
+		assertThrows(ExecucaoTransacaoException.class, () -> prevalencia.executar(new AdicionarNome("terceiro", true)));
+
+		assertSame(modelo, prevalencia.executar(new ObterModelo()), "O modelo não deveria ser recarregado do sistema de arquivos");
+		assertEquals(2, modelo.nomes.size());
+		assertEquals("segundo", modelo.nomes.get(0));
+		assertEquals("segundo", modelo.nomes.get(1));
+		assertEquals(1, modelo.idades.size());
+		assertEquals(7, modelo.idades.get("segundo"));
+		assertEquals(2, modelo.apelidos.size());
+		assertEquals(2, modelo.contador);
+		assertEquals(2L, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+	}
+
+	@Test
+	@Order(2)
+	void testeRecarregarAposReversao() {
+		MiniPrevalencia.prevalecer(ModeloReversivel.class).finalizarPrevalencia();
+		MiniPrevalencia<ModeloReversivel> prevalencia = MiniPrevalencia.prevalecer(ModeloReversivel.class);
+		ModeloReversivel modelo = prevalencia.executar(new ObterModelo());
+		assertEquals(2, modelo.nomes.size());
+		assertEquals(7, modelo.idades.get("segundo"));
+		assertEquals(2, modelo.contador);
+	}
+
+}
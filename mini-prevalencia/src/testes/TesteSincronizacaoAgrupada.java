@@ -0,0 +1,89 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.PoliticaSincronizacaoDisco;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AtribuirEstoque;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteSincronizacaoAgrupada {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	
+	private static final int QTD_THREADS = 500;
+	
+	private static class ThreadAddEstoque extends Thread {
+		public void run() {
+			try {
+				MiniPrevalencia.prevalecer(ExemploModelo.class).executar(new AdicionarEstoque(1));
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+	
+	@BeforeAll	
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public PoliticaSincronizacaoDisco getPoliticaSincronizacaoDisco() {return PoliticaSincronizacaoDisco.AGRUPADA;}
+			public Integer getMilissegundosSincronizacaoDisco() {return 5;}
+		};		
+		MiniPrevalencia.setConfigurador(conf);		
+	}
+	
+	@Test
+	@Order(1)
+	void testeTransacoesConcorrentesSincronizadasEmGrupo() throws ValidacaoCampoException, ExecucaoTransacaoException, InterruptedException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(0));
+		Thread[] threadsAdd = new Thread[QTD_THREADS];
+		for (int i = 0; i < QTD_THREADS; i++) {
+			threadsAdd[i] = new ThreadAddEstoque();
+		}
+		for (int i = 0; i < QTD_THREADS; i++) {
+			threadsAdd[i].start();
+		}
+		for (int i = 0; i < QTD_THREADS; i++) {
+			threadsAdd[i].join();
+		}
+		assertEquals(QTD_THREADS, prevalencia.executar(new ObterEstoque()));
+		assertEquals(QTD_THREADS + 1L, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+	}
+
+	@Test
+	@Order(2)
+	void testeRecarregarTransacoesSincronizadas() {
+		MiniPrevalencia.prevalecer(ExemploModelo.class).finalizarPrevalencia();
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(QTD_THREADS, prevalencia.executar(new ObterEstoque()));
+	}
+	
+}
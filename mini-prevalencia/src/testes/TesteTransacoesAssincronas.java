@@ -0,0 +1,89 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.PoliticaSincronizacaoDisco;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AtribuirEstoque;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteTransacoesAssincronas {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+
+	private static final int QTD_TRANSACOES = 2000;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public PoliticaSincronizacaoDisco getPoliticaSincronizacaoDisco() {return PoliticaSincronizacaoDisco.AGRUPADA;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeTransacoesAssincronas() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(0));
+		CompletableFuture<?>[] futuros = new CompletableFuture<?>[QTD_TRANSACOES];
+		for (int i = 0; i < QTD_TRANSACOES; i++) {
+			futuros[i] = prevalencia.executarAssincrono(new AdicionarEstoque(1));
+		}
+		CompletableFuture.allOf(futuros).join();
+		assertEquals(QTD_TRANSACOES, prevalencia.executar(new ObterEstoque()));
+		assertEquals(QTD_TRANSACOES + 1L, prevalencia.getIdentificadorUltimaTransacaoExecutada());
+	}
+
+	@Test
+	@Order(2)
+	void testeErroTransacaoAssincrona() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		CompletableFuture<Void> futuroInvalido = prevalencia.executarAssincrono(new AdicionarEstoque(AdicionarEstoque.QTD_MAXIMA));
+		CompletableFuture<Void> futuroValido = prevalencia.executarAssincrono(new AdicionarEstoque(1));
+		ExecutionException erro = assertThrows(ExecutionException.class, () -> futuroInvalido.get());
+		assertTrue(erro.getCause() instanceof ValidacaoCampoException, "A exception da validação deveria ser repassada ao futuro");
+		futuroValido.join();
+		assertEquals(QTD_TRANSACOES + 1, prevalencia.executar(new ObterEstoque()));
+	}
+
+	@Test
+	@Order(3)
+	void testeRecarregarTransacoesAssincronas() {
+		MiniPrevalencia.prevalecer(ExemploModelo.class).finalizarPrevalencia();
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(QTD_TRANSACOES + 1, prevalencia.executar(new ObterEstoque()));
+	}
+
+}
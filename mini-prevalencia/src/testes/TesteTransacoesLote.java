@@ -0,0 +1,125 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import br.tec.mboi.api.MiniPrevalencia.Observador;
+import br.tec.mboi.api.MiniPrevalencia.ResultadoTransacaoLote;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.consultas.exemplo.ObterPessoaPorId;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AdicionarEstoque;
+import testes.transacoes.exemplo.AdicionarPessoa;
+import testes.transacoes.exemplo.AlterarNomePessoaAdicionandoApelidoErro;
+import testes.transacoes.exemplo.AtribuirEstoque;
+import testes.transacoes.exemplo.BaixarEstoque;
+import testes.transacoes.exemplo.PessoaVO;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteTransacoesLote {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return true;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeLoteComTransacoesRecusadas() throws InterruptedException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		AtomicInteger notificadas = new AtomicInteger();
+		Observador<ExemploModelo> observador = transacao -> notificadas.incrementAndGet();
+		prevalencia.registrarObservador(observador);
+		long transacaoAnterior = prevalencia.getIdentificadorUltimaTransacaoExecutada();
+		List<ResultadoTransacaoLote> resultados = prevalencia.executarLote(Arrays.asList(
+				new AtribuirEstoque(10), 
+				new AdicionarEstoque(5), 
+				new BaixarEstoque(20),//Validada após as anteriores do lote, estoque insuficiente
+				new BaixarEstoque(3), 
+				new AdicionarEstoque(AdicionarEstoque.QTD_MAXIMA)));
+		assertEquals(5, resultados.size());
+		assertTrue(resultados.get(0).isExecutada());
+		assertTrue(resultados.get(1).isExecutada());
+		assertNull(resultados.get(1).getRetorno());
+		assertFalse(resultados.get(2).isExecutada());
+		assertTrue(resultados.get(2).getErro() instanceof ValidacaoCampoException);
+		assertEquals(12, (int) resultados.get(3).getRetorno());
+		assertFalse(resultados.get(4).isExecutada());
+		assertEquals(12, (int) prevalencia.executar(new ObterEstoque()));
+		assertEquals(transacaoAnterior + 1, (long) prevalencia.getIdentificadorUltimaTransacaoExecutada(), "O lote deve ser gravado com um único número de transação");
+		Thread.sleep(200);
+		assertEquals(3, notificadas.get(), "Observadores devem receber cada transação executada do lote");
+		prevalencia.removerObservador(observador);
+	}
+
+	@Test
+	@Order(2)
+	void testeLoteRevertidoPorErroDeExecucao() throws ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		PessoaVO pessoaVO = new PessoaVO();
+		pessoaVO.setId(1L);
+		pessoaVO.setNome("Fulano");
+		pessoaVO.setEmail("fulano@lote.com");
+		pessoaVO.setDataNascimento(new Date());
+		assertThrows(ExecucaoTransacaoException.class, () -> {
+			prevalencia.executarLote(Arrays.asList(new AdicionarEstoque(1), new AdicionarPessoa(pessoaVO), new AlterarNomePessoaAdicionandoApelidoErro(1L, "Ciclano", "Cic")));
+		});
+		assertEquals(12, (int) prevalencia.executar(new ObterEstoque()));
+		assertNull(prevalencia.executar(new ObterPessoaPorId(1L)));
+		long transacaoAnterior = prevalencia.getIdentificadorUltimaTransacaoExecutada();
+		List<ResultadoTransacaoLote> resultados = prevalencia.executarLote(Arrays.asList(new BaixarEstoque(100)));
+		assertFalse(resultados.get(0).isExecutada());
+		assertEquals(transacaoAnterior, (long) prevalencia.getIdentificadorUltimaTransacaoExecutada(), "Lote sem transações aceitas não é gravado");
+		resultados = prevalencia.executarLote(Arrays.asList(new AdicionarPessoa(pessoaVO), new AdicionarPessoa(pessoaVO), new AdicionarEstoque(1)));
+		assertTrue(resultados.get(0).isExecutada());
+		assertTrue(resultados.get(1).getErro() instanceof ValidacaoCampoException);
+		assertTrue(resultados.get(2).isExecutada());
+	}
+
+	@Test
+	@Order(3)
+	void testeRecarregarLotes() {
+		MiniPrevalencia.prevalecer(ExemploModelo.class).finalizarPrevalencia();
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(13, (int) prevalencia.executar(new ObterEstoque()));
+		assertEquals("Fulano", prevalencia.executar(new ObterPessoaPorId(1L)).getNome());
+		prevalencia.finalizarPrevalencia();
+	}
+
+}
@@ -0,0 +1,110 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import br.tec.mboi.api.MiniPrevalencia;
+import br.tec.mboi.api.MiniPrevalencia.Configurador;
+import br.tec.mboi.api.MiniPrevalencia.ExecucaoTransacaoException;
+import testes.consultas.exemplo.ObterEstoque;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+import testes.transacoes.exemplo.AtribuirEstoque;
+import testes.transacoes.exemplo.ReservarEstoqueOtimista;
+
+@TestMethodOrder(OrderAnnotation.class)
+class TesteTransacoesOtimistas {
+
+	private static final String DIRETORIO = System.getProperty("user.home") + "/ExemploModelo_Transacao";
+	private static final int QTD_ESTOQUE = 30;
+	private static final int QTD_THREADS = 60;
+
+	@BeforeAll
+	static void inicializarDiretorioEconfigurador() throws IOException {
+		if (new File(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName()).exists()) {
+			Files.walk(Paths.get(DIRETORIO + "/" + ExemploModelo.class.getCanonicalName())).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		Configurador conf = new Configurador() {
+			public boolean isPrimario() {return true;}
+			public String getDiretorioGravacao() {return DIRETORIO;}
+			public boolean isRetornoProjegidoPorCopia() {return false;}
+			public Integer getSegundosInatividadeParaIniciarGravacaoAcelerador() {return null;}
+			public boolean isApagarTransacoesInternalizadasPeloAcelerador() {return false;}
+			public Integer getTentativasTransacaoOtimista() {return 5;}
+		};
+		MiniPrevalencia.setConfigurador(conf);
+	}
+
+	@Test
+	@Order(1)
+	void testeReservasConcorrentes() throws ValidacaoCampoException, ExecucaoTransacaoException, InterruptedException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		prevalencia.executar(new AtribuirEstoque(QTD_ESTOQUE));
+		AtomicInteger reservas = new AtomicInteger();
+		AtomicInteger recusas = new AtomicInteger();
+		AtomicInteger erros = new AtomicInteger();
+		Thread[] threads = new Thread[QTD_THREADS];
+		for (int i = 0; i < QTD_THREADS; i++) {
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						prevalencia.executar(new ReservarEstoqueOtimista(1));
+						reservas.incrementAndGet();
+					} catch (ValidacaoCampoException e) {
+						recusas.incrementAndGet();
+					} catch (Exception e) {
+						erros.incrementAndGet();
+						e.printStackTrace();
+					}
+				}
+			};
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, erros.get());
+		assertEquals(QTD_ESTOQUE, reservas.get(), "Validações concorrentes não deveriam reservar além do estoque");
+		assertEquals(QTD_THREADS - QTD_ESTOQUE, recusas.get());
+		assertEquals(0, (int) prevalencia.executar(new ObterEstoque()));
+		assertTrue(prevalencia.getConflitosTransacoesOtimistas() > 0, "Validações lentas e concorrentes deveriam conflitar");
+	}
+
+	@Test
+	@Order(2)
+	void testeValidacaoForaDoBloco() throws ValidacaoCampoException, ExecucaoTransacaoException {
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertThrows(ValidacaoCampoException.class, () -> {
+			prevalencia.executar(new ReservarEstoqueOtimista(1));
+		});
+		prevalencia.executar(new AtribuirEstoque(5));
+		assertEquals(3, (int) prevalencia.executar(new ReservarEstoqueOtimista(2)));
+	}
+
+	@Test
+	@Order(3)
+	void testeRecarregarTransacoesOtimistas() {
+		MiniPrevalencia.prevalecer(ExemploModelo.class).finalizarPrevalencia();
+		MiniPrevalencia<ExemploModelo> prevalencia = MiniPrevalencia.prevalecer(ExemploModelo.class);
+		assertEquals(3, (int) prevalencia.executar(new ObterEstoque()));
+		prevalencia.finalizarPrevalencia();
+	}
+
+}
@@ -23,8 +23,7 @@ public class ListarBeneficiosPorCidade implements Consulta<List<Beneficio>, Auxi
 	@Override
 	public List<Beneficio> executar(AuxilioBrasil pojoUnico) {		
 		Cidade municipio = pojoUnico.getCidades().get(AdicionarCidadeSeNaoExistir.padronizarChaveCidade(nomeCidade, siglaUF));
-		return pojoUnico.getBeneficios().parallelStream()
-				.filter(beneficio -> beneficio.getCidade().equals(municipio))
+		return pojoUnico.getBeneficios().buscar(AuxilioBrasil.BENEFICIOS_POR_CIDADE, municipio).stream()
 				.sorted(Comparator.comparing(Beneficio::getNomeBeneficiado))
 				.collect(Collectors.toList());
 	}
@@ -0,0 +1,46 @@
+package testes.consultas.exemplo;
+
+import java.util.Objects;
+
+import br.tec.mboi.api.MiniPrevalencia.ConsultaCacheavel;
+import testes.entidades.exemplo.ExemploModelo;
+
+public class ContarFragmentosComPrefixo implements ConsultaCacheavel<Long, ExemploModelo> {
+
+	private final String prefixo;
+
+	public ContarFragmentosComPrefixo(String prefixo) {
+		this.prefixo = prefixo;
+	}
+
+	@Override
+	public Long executar(ExemploModelo pojoUnico) {
+		return pojoUnico.getTextoFragmentado().stream().filter(fragmento -> fragmento.startsWith(prefixo)).count();
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(prefixo);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if ((obj == null) || (getClass() != obj.getClass())) {
+			return false;
+		}
+		return Objects.equals(prefixo, ((ContarFragmentosComPrefixo) obj).prefixo);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ContarFragmentosComPrefixo [prefixo=");
+		builder.append(prefixo);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,47 @@
+package testes.consultas.exemplo;
+
+import java.util.Objects;
+
+import br.tec.mboi.api.MiniPrevalencia.ConsultaCacheavel;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.entidades.exemplo.Pessoa;
+
+public class ObterPessoaPorIdCacheavel implements ConsultaCacheavel<Pessoa, ExemploModelo> {
+
+	private final Long id;
+
+	public ObterPessoaPorIdCacheavel(Long id) {
+		this.id = id;
+	}
+
+	@Override
+	public Pessoa executar(ExemploModelo pojoUnico) {
+		return pojoUnico.getMapaPessoasId().get(id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if ((obj == null) || (getClass() != obj.getClass())) {
+			return false;
+		}
+		return Objects.equals(id, ((ObterPessoaPorIdCacheavel) obj).id);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ObterPessoaPorIdCacheavel [id=");
+		builder.append(id);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -6,13 +6,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class AuxilioBrasil implements Serializable {
+import br.tec.mboi.api.MiniPrevalencia.ListaIndexada;
+import br.tec.mboi.api.MiniPrevalencia.ModeloParticionado;
+
+public class AuxilioBrasil implements Serializable, ModeloParticionado {
 
 	private static final long serialVersionUID = 1L;
+	
+	private static final int BENEFICIOS_POR_PARTE = 1000000;
+	
+	public static final String BENEFICIOS_POR_CIDADE = "cidade";
 
 	private Map<String, Estado> estados = new HashMap<String, Estado>();
 	private Map<String, Cidade> cidades = new HashMap<String, Cidade>(); 
-	private List<Beneficio> beneficios = new ArrayList<Beneficio>();
+	private ListaIndexada<Beneficio> beneficios = novaListaBeneficios();
 	
 	public AuxilioBrasil() {
 	}
@@ -29,11 +36,46 @@ public class AuxilioBrasil implements Serializable {
 	public void setCidades(Map<String, Cidade> cidades) {
 		this.cidades = cidades;
 	}
-	public List<Beneficio> getBeneficios() {
+	public ListaIndexada<Beneficio> getBeneficios() {
 		return beneficios;
 	}
 	public void setBeneficios(List<Beneficio> beneficios) {
-		this.beneficios = beneficios;
+		this.beneficios = novaListaBeneficios();
+		this.beneficios.addAll(beneficios);
+	}
+	
+	private static ListaIndexada<Beneficio> novaListaBeneficios() {
+		ListaIndexada<Beneficio> beneficios = new ListaIndexada<Beneficio>();
+		beneficios.indexar(BENEFICIOS_POR_CIDADE, Beneficio::getCidade);
+		return beneficios;
+	}
+	
+	@Override
+	public List<Object> particionar() {
+		List<Object> partes = new ArrayList<Object>();
+		partes.add(new Object[] {estados, cidades});
+		for (int inicio = 0; inicio < beneficios.size(); inicio += BENEFICIOS_POR_PARTE) {
+			partes.add(new ArrayList<Beneficio>(beneficios.subList(inicio, Math.min(inicio + BENEFICIOS_POR_PARTE, beneficios.size()))));
+		}
+		return partes;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public void reconstituir(List<Object> partes) {
+		Object[] cadastros = (Object[]) partes.get(0);
+		estados = (Map<String, Estado>) cadastros[0];
+		cidades = (Map<String, Cidade>) cadastros[1];
+		beneficios = novaListaBeneficios();
+		for (Object parte : partes.subList(1, partes.size())) {
+			for (Beneficio beneficio : (List<Beneficio>) parte) {
+				//Cada parte traz sua própria cópia das cidades, as referências são restabelecidas pelas cidades cadastradas
+				Cidade cidade = beneficio.getCidade();
+				beneficio.setCidade(cidades.get(cidade.getNome() + "-" + cidade.getEstado().getSigla()));
+				beneficios.add(beneficio);
+			}
+		}
+		beneficios.construirIndices();//Na carga, a primeira consulta por cidade não percorre todos os benefícios
 	}
 		
 }
\ No newline at end of file
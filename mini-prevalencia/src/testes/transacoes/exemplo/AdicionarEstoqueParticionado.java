@@ -0,0 +1,48 @@
+package testes.transacoes.exemplo;
+
+import br.tec.mboi.api.MiniPrevalencia.Particionada;
+import br.tec.mboi.api.MiniPrevalencia.TransacaoSemRetorno;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+
+public class AdicionarEstoqueParticionado implements TransacaoSemRetorno<ExemploModelo, ValidacaoCampoException>, Particionada {
+
+	private static final long serialVersionUID = 1L;
+
+	private String deposito;
+	private Integer quantidade;
+
+	public AdicionarEstoqueParticionado(String deposito, Integer quantidade) {
+		this.deposito = deposito;
+		this.quantidade = quantidade;
+	}
+
+	@Override
+	public Object getChaveParticao() {
+		return deposito;
+	}
+
+	@Override
+	public void validar(ExemploModelo pojoUnico) throws ValidacaoCampoException {
+		if (quantidade <= 0) {
+			throw new ValidacaoCampoException("quantidade", "Quantidade inválida!");
+		}
+	}
+
+	@Override
+	public void executar(ExemploModelo pojoUnico) {
+		pojoUnico.setEstoque(pojoUnico.getEstoque() + quantidade);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("AdicionarEstoqueParticionado [deposito=");
+		builder.append(deposito);
+		builder.append(", quantidade=");
+		builder.append(quantidade);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,34 @@
+package testes.transacoes.exemplo;
+
+import java.util.concurrent.locks.LockSupport;
+
+import br.tec.mboi.api.MiniPrevalencia.TransacaoSemRetorno;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+
+/**
+ * Mantém o estoque igual a quantidade de fragmentos de texto, alterando os dois em passos separados para que consultas sem isolamento possam ver a transação pela metade.
+ */
+public class AdicionarTextoContandoEstoque implements TransacaoSemRetorno<ExemploModelo, ValidacaoCampoException> {
+
+	private static final long serialVersionUID = 1L;
+	
+	private String parteDoTexto;
+	
+	public AdicionarTextoContandoEstoque(String parteDoTexto) {	
+		this.parteDoTexto = parteDoTexto;
+	}
+
+	@Override
+	public void validar(ExemploModelo pojoUnico) throws ValidacaoCampoException {
+		
+	}
+
+	@Override
+	public void executar(ExemploModelo pojoUnico) {
+		pojoUnico.getTextoFragmentado().add(parteDoTexto);
+		LockSupport.parkNanos(20000);
+		pojoUnico.setEstoque(pojoUnico.getEstoque() + 1);
+	}
+
+}
@@ -0,0 +1,57 @@
+package testes.transacoes.exemplo;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import br.tec.mboi.api.MiniPrevalencia.TransacaoComRetorno;
+import br.tec.mboi.api.MiniPrevalencia.TransacaoOtimista;
+import testes.entidades.exemplo.ExemploModelo;
+import testes.exceptions.ValidacaoCampoException;
+
+/**
+ * Baixa o estoque validando a quantidade fora do bloco sincronizado, a validação demora propositalmente para que transações concorrentes conflitem.
+ */
+public class ReservarEstoqueOtimista implements TransacaoComRetorno<Integer, ExemploModelo, ValidacaoCampoException>, TransacaoOtimista {
+
+	private static final long serialVersionUID = 1L;
+
+	public static final String CHAVE_ESTOQUE = "estoque";
+
+	private Integer quantidade;
+
+	public ReservarEstoqueOtimista(Integer quantidade) {
+		this.quantidade = quantidade;
+	}
+
+	@Override
+	public Collection<?> getChavesVersao() {
+		return Collections.singleton(CHAVE_ESTOQUE);
+	}
+
+	@Override
+	public void validar(ExemploModelo pojoUnico) throws ValidacaoCampoException {
+		int estoque = pojoUnico.getEstoque();
+		LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+		if (estoque < quantidade) {
+			throw new ValidacaoCampoException("estoque", "Estoque insuficiente!");
+		}
+	}
+
+	@Override
+	public Integer executar(ExemploModelo pojoUnico) {
+		pojoUnico.setEstoque(pojoUnico.getEstoque() - quantidade);//Sem validar novamente, o conflito de versão impede estoque negativo
+		return pojoUnico.getEstoque();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ReservarEstoqueOtimista [quantidade=");
+		builder.append(quantidade);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}